@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.crypto.Credentials;
+import org.web3j.crypto.SignedTransaction;
 import org.web3j.protocol.besu.Besu;
 import org.web3j.protocol.besu.response.privacy.PrivateEnclaveKey;
 import org.web3j.protocol.besu.response.privacy.PrivateTransactionReceipt;
@@ -35,7 +36,6 @@ import org.web3j.tx.gas.BesuPrivacyGasProvider;
 import org.web3j.tx.response.PollingPrivateTransactionReceiptProcessor;
 import org.web3j.tx.response.PrivateTransactionReceiptProcessor;
 import org.web3j.utils.Base64String;
-import org.web3j.utils.Numeric;
 
 import static org.web3j.utils.Restriction.RESTRICTED;
 import static org.web3j.utils.RevertReasonExtractor.extractRevertReason;
@@ -259,6 +259,16 @@ public abstract class PrivateTransactionManager extends TransactionManager {
     }
 
     public String sign(RawPrivateTransaction rawTransaction) {
+        return signTransaction(rawTransaction).getHexValue();
+    }
+
+    /**
+     * Sign a private transaction without distributing it.
+     *
+     * @param rawTransaction the private transaction to sign
+     * @return the signed transaction, with its encoding and hash
+     */
+    public SignedTransaction signTransaction(RawPrivateTransaction rawTransaction) {
 
         byte[] signedMessage;
 
@@ -269,17 +279,19 @@ public abstract class PrivateTransactionManager extends TransactionManager {
             signedMessage = PrivateTransactionEncoder.signMessage(rawTransaction, credentials);
         }
 
-        return Numeric.toHexString(signedMessage);
+        return new SignedTransaction(signedMessage);
     }
 
     public EthSendTransaction signAndSend(RawPrivateTransaction rawTransaction) throws IOException {
-        String hexValue = sign(rawTransaction);
-        return this.besu.eeaSendRawTransaction(hexValue).send();
+        return this.besu
+                .eeaSendRawTransaction(signTransaction(rawTransaction).getHexValue())
+                .send();
     }
 
     public PrivateEnclaveKey signAndDistribute(RawPrivateTransaction rawTransaction)
             throws IOException {
-        String hexValue = sign(rawTransaction);
-        return this.besu.privDistributeRawTransaction(hexValue).send();
+        return this.besu
+                .privDistributeRawTransaction(signTransaction(rawTransaction).getHexValue())
+                .send();
     }
 }
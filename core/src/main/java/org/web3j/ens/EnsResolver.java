@@ -18,6 +18,7 @@ import org.web3j.ens.contracts.generated.ENS;
 import org.web3j.ens.contracts.generated.PublicResolver;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.HeadTracker;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthSyncing;
 import org.web3j.protocol.core.methods.response.NetVersion;
@@ -36,6 +37,8 @@ public class EnsResolver {
     private final int addressLength;
     private final TransactionManager transactionManager;
     private long syncThreshold; // non-final in case this value needs to be tweaked
+    private HeadTracker headTracker;
+    private boolean defaultHeadTracker = true;
 
     public EnsResolver(Web3j web3j, long syncThreshold, int addressLength) {
         this.web3j = web3j;
@@ -60,6 +63,27 @@ public class EnsResolver {
         return syncThreshold;
     }
 
+    /**
+     * Determine whether the node is synced from the latest block of a head tracker, rather than
+     * requesting the sync status and latest block on every resolution. By default the head
+     * tracker of the {@link Web3j} instance is used, see {@link Web3j#headTracker()}.
+     *
+     * @param headTracker head tracker to use, or null to request the sync status
+     */
+    public void setHeadTracker(HeadTracker headTracker) {
+        this.headTracker = headTracker;
+        this.defaultHeadTracker = false;
+    }
+
+    private HeadTracker headTracker() {
+        // resolved on first use, so that creating a contract does not start following the head
+        if (defaultHeadTracker) {
+            headTracker = web3j.headTracker();
+            defaultHeadTracker = false;
+        }
+        return headTracker;
+    }
+
     /**
      * Provides an access to a valid public resolver in order to access other API methods.
      *
@@ -150,6 +174,12 @@ public class EnsResolver {
     }
 
     boolean isSynced() throws Exception {
+        HeadTracker headTracker = headTracker();
+        if (headTracker != null && headTracker.getHeadTimestamp() != null) {
+            long timestamp = headTracker.getHeadTimestamp().longValueExact() * 1000;
+            return System.currentTimeMillis() - syncThreshold < timestamp;
+        }
+
         EthSyncing ethSyncing = web3j.ethSyncing().send();
         if (ethSyncing.isSyncing()) {
             return false;
@@ -20,10 +20,25 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.deserializer.BlockDeserializer;
+import org.web3j.protocol.deserializer.LogDeserializer;
 import org.web3j.protocol.deserializer.RawResponseDeserializer;
+import org.web3j.protocol.deserializer.TransactionDeserializer;
+import org.web3j.protocol.deserializer.TransactionReceiptDeserializer;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.NewHead;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.protocol.websocket.events.PendingTransactionNotification;
 
 /** Factory for managing our ObjectMapper instances. */
 public class ObjectMapperFactory {
@@ -72,9 +87,56 @@ public class ObjectMapperFactory {
             objectMapper.registerModule(module);
         }
 
+        objectMapper.registerModule(streamingDeserializers());
         objectMapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
         return objectMapper;
     }
+
+    /** Deserializers for the most frequently received types, which avoid reflective binding. */
+    private static SimpleModule streamingDeserializers() {
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(
+                EthBlock.Block.class,
+                new BlockDeserializer<>(EthBlock.Block.class, EthBlock.Block::new));
+        module.addDeserializer(
+                Transaction.class,
+                new TransactionDeserializer<>(Transaction.class, Transaction::new));
+        module.addDeserializer(
+                EthBlock.TransactionObject.class,
+                new TransactionDeserializer<>(
+                        EthBlock.TransactionObject.class, EthBlock.TransactionObject::new));
+        module.addDeserializer(
+                TransactionReceipt.class,
+                new TransactionReceiptDeserializer<>(
+                        TransactionReceipt.class, TransactionReceipt::new));
+        module.addDeserializer(Log.class, new LogDeserializer<>(Log.class, Log::new));
+        module.addDeserializer(
+                EthLog.LogObject.class,
+                new LogDeserializer<>(EthLog.LogObject.class, EthLog.LogObject::new));
+
+        org.web3j.protocol.websocket.events.Log.Deserializer logDeserializer =
+                new org.web3j.protocol.websocket.events.Log.Deserializer();
+        NewHead.Deserializer newHeadDeserializer = new NewHead.Deserializer();
+        module.addDeserializer(org.web3j.protocol.websocket.events.Log.class, logDeserializer);
+        module.addDeserializer(NewHead.class, newHeadDeserializer);
+        module.addDeserializer(
+                LogNotification.class,
+                new Notification.Deserializer<>(
+                        LogNotification.class, LogNotification::new, logDeserializer));
+        module.addDeserializer(
+                NewHeadsNotification.class,
+                new Notification.Deserializer<>(
+                        NewHeadsNotification.class,
+                        NewHeadsNotification::new,
+                        newHeadDeserializer));
+        module.addDeserializer(
+                PendingTransactionNotification.class,
+                new Notification.Deserializer<>(
+                        PendingTransactionNotification.class,
+                        PendingTransactionNotification::new,
+                        StringDeserializer.instance));
+        return module;
+    }
 }
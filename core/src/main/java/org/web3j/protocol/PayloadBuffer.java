@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer which requests are serialized into and handed to the transport, so that
+ * payloads are encoded as UTF-8 once rather than built as strings and encoded again. Buffers are
+ * pooled per thread; a buffer is only valid until it is released.
+ */
+public final class PayloadBuffer extends OutputStream {
+
+    static final int INITIAL_CAPACITY = 1024;
+    // larger buffers, such as of big batches, are left to the garbage collector
+    static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<PayloadBuffer> POOL = new ThreadLocal<>();
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    private PayloadBuffer() {}
+
+    /** @return an empty buffer, from the pool of the current thread if available */
+    public static PayloadBuffer acquire() {
+        PayloadBuffer payloadBuffer = POOL.get();
+        if (payloadBuffer == null) {
+            return new PayloadBuffer();
+        }
+        POOL.set(null);
+        payloadBuffer.size = 0;
+        return payloadBuffer;
+    }
+
+    /** Return this buffer to the pool of the current thread, after which it must not be used. */
+    public void release() {
+        if (buffer.length <= MAX_POOLED_CAPACITY) {
+            POOL.set(this);
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(size + len);
+        System.arraycopy(b, off, buffer, size, len);
+        size += len;
+    }
+
+    /** Does nothing, as serializers close their target. */
+    @Override
+    public void close() {}
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+
+    /** @return the underlying array, of which the first {@link #size()} bytes are the payload */
+    public byte[] array() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** @return the payload decoded as UTF-8 */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+}
@@ -18,6 +18,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -27,6 +29,11 @@ import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.interceptor.InterceptorChain;
+import org.web3j.protocol.interceptor.RequestInterceptor;
+import org.web3j.protocol.metrics.RequestSample;
+import org.web3j.protocol.metrics.RequestTimer;
+import org.web3j.protocol.metrics.ServiceMetrics;
 import org.web3j.protocol.websocket.events.Notification;
 import org.web3j.utils.Async;
 
@@ -35,22 +42,108 @@ public abstract class Service implements Web3jService {
 
     protected final ObjectMapper objectMapper;
 
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<RequestInterceptor> interceptors = new CopyOnWriteArrayList<>();
+    private volatile ServiceMetrics metrics = ServiceMetrics.NONE;
+
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
 
+    /**
+     * Perform the I/O of a request serialized into a buffer, which transports able to send bytes
+     * override to avoid decoding the payload. The buffer is released once this returns.
+     *
+     * @param payload serialized request
+     * @param timer timer of the request
+     * @return the response body, or null
+     * @throws IOException if the I/O failed
+     */
+    protected InputStream performIO(PayloadBuffer payload, RequestTimer timer)
+            throws IOException {
+        return performIO(payload.toString(), timer);
+    }
+
+    /**
+     * Perform the I/O of a request, marking the {@link RequestTimer#dispatched()} and {@link
+     * RequestTimer#firstByte()} phases if the transport can observe them. Transports overriding
+     * this implement {@link #performIO(String)} by calling it with {@link RequestTimer#NONE}.
+     *
+     * @param payload serialized request
+     * @param timer timer of the request
+     * @return the response body, or null
+     * @throws IOException if the I/O failed
+     */
+    protected InputStream performIO(String payload, RequestTimer timer) throws IOException {
+        return performIO(payload);
+    }
+
+    /**
+     * Set the metrics to record the serialization, I/O and deserialization of requests with.
+     *
+     * @param metrics metrics, or {@link ServiceMetrics#NONE} to stop recording
+     */
+    public void setMetrics(ServiceMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public ServiceMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** Add an interceptor, which is called after the interceptors added before it. */
+    public void addInterceptor(RequestInterceptor interceptor) {
+        interceptors.add(interceptor);
+    }
+
+    public void removeInterceptor(RequestInterceptor interceptor) {
+        interceptors.remove(interceptor);
+    }
+
     @Override
     public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
-        String payload = objectMapper.writeValueAsString(request);
+        boolean intercepted = !interceptors.isEmpty();
+        RequestTimer timer =
+                RequestTimer.start(metrics, request.getMethod(), 1, inFlight, intercepted);
+        try {
+            T response =
+                    intercepted
+                            ? InterceptorChain.send(
+                                    interceptors,
+                                    request,
+                                    responseType,
+                                    timer,
+                                    r -> send(r, responseType, timer))
+                            : send(request, responseType, timer);
+            timer.completed(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            timer.failed(e);
+            throw e;
+        }
+    }
 
-        try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                return objectMapper.readValue(result, responseType);
-            } else {
-                return null;
+    private <T extends Response> T send(
+            Request<?, ?> request, Class<T> responseType, RequestTimer timer) throws IOException {
+        timer.attempt();
+        PayloadBuffer payload = PayloadBuffer.acquire();
+        try {
+            objectMapper.writeValue(payload, request);
+            timer.serialized(payload.size());
+
+            try (InputStream result = timer.received(performIO(payload, timer))) {
+                if (result != null) {
+                    T response = objectMapper.readValue(result, responseType);
+                    timer.deserialized();
+                    return response;
+                } else {
+                    return null;
+                }
             }
+        } finally {
+            payload.release();
         }
     }
 
@@ -66,25 +159,63 @@ public abstract class Service implements Web3jService {
             return new BatchResponse(Collections.emptyList(), Collections.emptyList());
         }
 
-        String payload = objectMapper.writeValueAsString(batchRequest.getRequests());
-
-        try (InputStream result = performIO(payload)) {
-            if (result != null) {
-                ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
-                List<Response<?>> responses = new ArrayList<>(nodes.size());
+        boolean intercepted = !interceptors.isEmpty();
+        RequestTimer timer =
+                RequestTimer.start(
+                        metrics,
+                        RequestSample.BATCH,
+                        batchRequest.getRequests().size(),
+                        inFlight,
+                        intercepted);
+        try {
+            BatchResponse batchResponse =
+                    intercepted
+                            ? InterceptorChain.sendBatch(
+                                    interceptors, batchRequest, timer, r -> sendBatch(r, timer))
+                            : sendBatch(batchRequest, timer);
+            timer.completed(batchResponse);
+            return batchResponse;
+        } catch (IOException | RuntimeException e) {
+            timer.failed(e);
+            throw e;
+        }
+    }
 
-                for (int i = 0; i < nodes.size(); i++) {
-                    Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
-                    Response<?> response =
-                            objectMapper.treeToValue(nodes.get(i), request.getResponseType());
-                    responses.add(response);
+    private BatchResponse sendBatch(BatchRequest batchRequest, RequestTimer timer)
+            throws IOException {
+        timer.attempt();
+        PayloadBuffer payload = PayloadBuffer.acquire();
+        try {
+            objectMapper.writeValue(payload, batchRequest.getRequests());
+            timer.serialized(payload.size());
+
+            try (InputStream result = timer.received(performIO(payload, timer))) {
+                if (result != null) {
+                    return readBatch(batchRequest, result, timer);
+                } else {
+                    return null;
                 }
-
-                return new BatchResponse(batchRequest.getRequests(), responses);
-            } else {
-                return null;
             }
+        } finally {
+            payload.release();
+        }
+    }
+
+    private BatchResponse readBatch(
+            BatchRequest batchRequest, InputStream result, RequestTimer timer)
+            throws IOException {
+        ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
+        List<Response<?>> responses = new ArrayList<>(nodes.size());
+
+        for (int i = 0; i < nodes.size(); i++) {
+            Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
+            Response<?> response =
+                    objectMapper.treeToValue(nodes.get(i), request.getResponseType());
+            responses.add(response);
         }
+
+        timer.deserialized();
+        return new BatchResponse(batchRequest.getRequests(), responses);
     }
 
     @Override
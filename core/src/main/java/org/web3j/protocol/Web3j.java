@@ -16,6 +16,7 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import org.web3j.protocol.core.Batcher;
 import org.web3j.protocol.core.Ethereum;
+import org.web3j.protocol.core.HeadTracker;
 import org.web3j.protocol.core.JsonRpc2_0Web3j;
 import org.web3j.protocol.rx.Web3jRx;
 
@@ -48,6 +49,13 @@ public interface Web3j extends Ethereum, Web3jRx, Batcher {
         return new JsonRpc2_0Web3j(web3jService, pollingInterval, scheduledExecutorService);
     }
 
+    /**
+     * The head tracker shared by the components of this instance, started on first use.
+     *
+     * @return the head tracker
+     */
+    HeadTracker headTracker();
+
     /** Shutdowns a Web3j instance and closes opened resources. */
     void shutdown();
 }
@@ -85,6 +85,16 @@ public interface Web3jService {
     <T extends Notification<?>> Flowable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType);
 
+    /**
+     * Whether this service supports streams of notifications via {@link #subscribe(Request,
+     * String, Class)}.
+     *
+     * @return true if subscriptions are supported, false otherwise
+     */
+    default boolean supportsSubscriptions() {
+        return false;
+    }
+
     /**
      * Closes resources used by the service.
      *
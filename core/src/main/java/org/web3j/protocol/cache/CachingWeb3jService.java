@@ -0,0 +1,493 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.core.methods.response.compact.CompactTransaction;
+import org.web3j.protocol.core.methods.response.compact.CompactTransactionReceipt;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * {@link Web3jService} which serves requests for data that can no longer change from a size bounded
+ * LRU cache, with an optional second tier {@link ResponseStore}.
+ *
+ * <p>The following requests are cached:
+ *
+ * <ul>
+ *   <li>requests by block hash, such as {@code eth_getBlockByHash}
+ *   <li>requests at an explicit block number, such as {@code eth_getBlockByNumber} or {@code
+ *       eth_getBalance}, once that block is finalized
+ *   <li>{@code eth_getTransactionByHash} and {@code eth_getTransactionReceipt}, once the block
+ *       containing the transaction is finalized
+ * </ul>
+ *
+ * <p>Requests at the {@code latest}, {@code pending} or {@code earliest} block, all other methods,
+ * error responses and null results bypass the cache. Cached responses are shared between callers
+ * and must not be modified.
+ */
+public class CachingWeb3jService implements Web3jService {
+
+    public static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+    /** Weighs every response as a single entry. */
+    public static final Weigher ENTRIES = (key, response) -> 1;
+
+    /**
+     * Weighs responses by the approximate size in bytes of the JSON encoding of their fields, or
+     * of the raw response when it is included.
+     */
+    public static final Weigher SERIALIZED_BYTES = CachingWeb3jService::serializedSize;
+
+    private static final Logger log = LoggerFactory.getLogger(CachingWeb3jService.class);
+
+    // model getters decode their fields and may fail, so weigh the fields themselves
+    private static final ObjectMapper FIELD_MAPPER =
+            ObjectMapperFactory.getObjectMapper()
+                    .copy()
+                    .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                    .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                    .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+    private static final Set<String> IMMUTABLE =
+            new HashSet<>(
+                    Arrays.asList(
+                            "eth_getBlockByHash",
+                            "eth_getBlockTransactionCountByHash",
+                            "eth_getTransactionByBlockHashAndIndex",
+                            "eth_getUncleCountByBlockHash",
+                            "eth_getUncleByBlockHashAndIndex"));
+
+    private static final Set<String> FINALIZED_RESULT =
+            new HashSet<>(Arrays.asList("eth_getTransactionByHash", "eth_getTransactionReceipt"));
+
+    private static final Map<String, Integer> BLOCK_PARAMETER = new HashMap<>();
+
+    static {
+        BLOCK_PARAMETER.put("eth_getBlockByNumber", 0);
+        BLOCK_PARAMETER.put("eth_getBlockTransactionCountByNumber", 0);
+        BLOCK_PARAMETER.put("eth_getTransactionByBlockNumberAndIndex", 0);
+        BLOCK_PARAMETER.put("eth_getUncleCountByBlockNumber", 0);
+        BLOCK_PARAMETER.put("eth_getUncleByBlockNumberAndIndex", 0);
+        BLOCK_PARAMETER.put("eth_getBalance", 1);
+        BLOCK_PARAMETER.put("eth_getCode", 1);
+        BLOCK_PARAMETER.put("eth_getTransactionCount", 1);
+        BLOCK_PARAMETER.put("eth_getStorageAt", 2);
+    }
+
+    private final Web3jService web3jService;
+    private final LongSupplier finalizedBlockNumber;
+    private final long maxWeight;
+    private final Weigher weigher;
+    private final ResponseStore responseStore;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong storeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Cache requests by block hash only, as no block is known to be finalized.
+     *
+     * @param web3jService service to send uncached requests with
+     */
+    public CachingWeb3jService(Web3jService web3jService) {
+        this(web3jService, () -> -1);
+    }
+
+    public CachingWeb3jService(Web3jService web3jService, LongSupplier finalizedBlockNumber) {
+        this(web3jService, finalizedBlockNumber, DEFAULT_MAX_ENTRIES, ENTRIES, null);
+    }
+
+    /**
+     * Create a new caching service.
+     *
+     * @param web3jService service to send uncached requests with
+     * @param finalizedBlockNumber supplies the number of the latest finalized block, or -1 if none
+     *     is known
+     * @param maxWeight maximum total weight of the responses held in memory
+     * @param weigher weighs each response held in memory, such as {@link #ENTRIES} or {@link
+     *     #SERIALIZED_BYTES}
+     * @param responseStore second tier to consult on a miss and to write responses through to, or
+     *     null
+     */
+    public CachingWeb3jService(
+            Web3jService web3jService,
+            LongSupplier finalizedBlockNumber,
+            long maxWeight,
+            Weigher weigher,
+            ResponseStore responseStore) {
+        this.web3jService = web3jService;
+        this.finalizedBlockNumber = finalizedBlockNumber;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.responseStore = responseStore;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String key = cacheKey(request, responseType);
+        if (key == null) {
+            return web3jService.send(request, responseType);
+        }
+
+        T cached = lookup(key, responseType);
+        if (cached != null) {
+            return cached;
+        }
+
+        T response = web3jService.send(request, responseType);
+        store(key, request.getMethod(), response);
+        return response;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        String key = cacheKey(request, responseType);
+        if (key == null) {
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        T cached = lookup(key, responseType);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return web3jService
+                .sendAsync(request, responseType)
+                .thenApply(
+                        response -> {
+                            store(key, request.getMethod(), response);
+                            return response;
+                        });
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        PartialBatch partialBatch = new PartialBatch(batchRequest);
+        if (partialBatch.isComplete()) {
+            return partialBatch.complete(null);
+        }
+        return partialBatch.complete(web3jService.sendBatch(partialBatch.uncached));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        PartialBatch partialBatch = new PartialBatch(batchRequest);
+        if (partialBatch.isComplete()) {
+            return CompletableFuture.completedFuture(partialBatch.complete(null));
+        }
+        return web3jService.sendBatchAsync(partialBatch.uncached).thenApply(partialBatch::complete);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return web3jService.supportsSubscriptions();
+    }
+
+    /** Drop all responses held in memory and close the underlying service and store. */
+    @Override
+    public void close() throws IOException {
+        invalidate();
+        try {
+            web3jService.close();
+        } finally {
+            if (responseStore != null) {
+                responseStore.close();
+            }
+        }
+    }
+
+    private String cacheKey(Request<?, ?> request, Class<?> responseType) {
+        String method = request.getMethod();
+        List<?> params = request.getParams();
+        Integer blockParameter = BLOCK_PARAMETER.get(method);
+        if (blockParameter != null) {
+            if (params.size() <= blockParameter
+                    || decodeBlockNumber(params.get(blockParameter))
+                            > finalizedBlockNumber.getAsLong()) {
+                return null;
+            }
+        } else if (!IMMUTABLE.contains(method) && !FINALIZED_RESULT.contains(method)) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder(method);
+        for (Object param : params) {
+            if (!(param instanceof String || param instanceof Boolean)) {
+                return null;
+            }
+            key.append(',').append(param.toString().toLowerCase());
+        }
+        return key.append(',').append(responseType.getName()).toString();
+    }
+
+    /** @return the block number, or {@link Long#MAX_VALUE} for tags such as {@code latest} */
+    private static long decodeBlockNumber(Object blockParameter) {
+        if (blockParameter instanceof String) {
+            String value = (String) blockParameter;
+            if (value.startsWith("0x") && value.length() > 2 && value.length() <= 17) {
+                try {
+                    return Long.parseLong(value.substring(2), 16);
+                } catch (NumberFormatException e) {
+                    return Long.MAX_VALUE;
+                }
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private <T extends Response> T lookup(String key, Class<T> responseType) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return responseType.cast(entry.response);
+            }
+        }
+
+        if (responseStore != null) {
+            try {
+                T stored = responseStore.get(key, responseType);
+                if (stored != null) {
+                    storeHits.incrementAndGet();
+                    putEntry(key, stored);
+                    return stored;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to read response {} from store", key, e);
+            }
+        }
+
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private void store(String key, String method, Response<?> response) {
+        if (response == null || response.hasError() || response.getResult() == null) {
+            return;
+        }
+        if (FINALIZED_RESULT.contains(method)
+                && blockNumberOf(response.getResult()) > finalizedBlockNumber.getAsLong()) {
+            return;
+        }
+
+        putEntry(key, response);
+        if (responseStore != null) {
+            try {
+                responseStore.put(key, response);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Unable to write response {} to store", key, e);
+            }
+        }
+    }
+
+    private void putEntry(String key, Response<?> response) {
+        long entryWeight = weigher.weigh(key, response);
+        if (entryWeight > maxWeight) {
+            return;
+        }
+
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(response, entryWeight));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += entryWeight;
+
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (weight > maxWeight) {
+                weight -= eldest.next().weight;
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /** @return the block number of a transaction or receipt, or {@link Long#MAX_VALUE} if none */
+    private static long blockNumberOf(Object result) {
+        String blockNumber;
+        if (result instanceof Transaction) {
+            blockNumber = ((Transaction) result).getBlockNumberRaw();
+        } else if (result instanceof TransactionReceipt) {
+            blockNumber = ((TransactionReceipt) result).getBlockNumberRaw();
+        } else if (result instanceof CompactTransaction) {
+            long number = ((CompactTransaction) result).getBlockNumber();
+            return number < 0 ? Long.MAX_VALUE : number;
+        } else if (result instanceof CompactTransactionReceipt) {
+            long number = ((CompactTransactionReceipt) result).getBlockNumber();
+            return number < 0 ? Long.MAX_VALUE : number;
+        } else {
+            return Long.MAX_VALUE;
+        }
+        return decodeBlockNumber(blockNumber);
+    }
+
+    private static long serializedSize(String key, Response<?> response) {
+        if (response.getRawResponse() != null && !response.getRawResponse().isEmpty()) {
+            return key.length() + response.getRawResponse().length();
+        }
+        try {
+            return key.length() + FIELD_MAPPER.writeValueAsBytes(response.getResult()).length;
+        } catch (JsonProcessingException e) {
+            return key.length();
+        }
+    }
+
+    /** Drop all responses held in memory. */
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /** @return total weight of the responses held in memory */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getStoreHits() {
+        return storeHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /** @return fraction of cacheable requests served from memory or the store */
+    public double getHitRatio() {
+        long served = hits.get() + storeHits.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : served / (double) total;
+    }
+
+    /** Weighs a response held in memory against the maximum weight of the cache. */
+    public interface Weigher {
+        long weigh(String key, Response<?> response);
+    }
+
+    private static class Entry {
+        private final Response<?> response;
+        private final long weight;
+
+        Entry(Response<?> response, long weight) {
+            this.response = response;
+            this.weight = weight;
+        }
+    }
+
+    /** A batch split into the responses found in the cache and the requests to send. */
+    private class PartialBatch {
+        private final List<Request<?, ? extends Response<?>>> requests;
+        private final Response<?>[] responses;
+        private final String[] keys;
+        private final List<Integer> positions = new ArrayList<>();
+        private final BatchRequest uncached = new BatchRequest(web3jService);
+
+        PartialBatch(BatchRequest batchRequest) {
+            requests = batchRequest.getRequests();
+            responses = new Response<?>[requests.size()];
+            keys = new String[requests.size()];
+            for (int i = 0; i < requests.size(); i++) {
+                Request<?, ? extends Response<?>> request = requests.get(i);
+                keys[i] = cacheKey(request, request.getResponseType());
+                if (keys[i] != null) {
+                    responses[i] = lookup(keys[i], request.getResponseType());
+                }
+                if (responses[i] == null) {
+                    positions.add(i);
+                    uncached.add(request);
+                }
+            }
+        }
+
+        boolean isComplete() {
+            return positions.isEmpty() && !requests.isEmpty();
+        }
+
+        BatchResponse complete(BatchResponse batchResponse) {
+            if (positions.isEmpty()) {
+                return new BatchResponse(requests, Arrays.asList(responses));
+            }
+            if (batchResponse == null) {
+                return null;
+            }
+
+            List<? extends Response<?>> fetched = batchResponse.getResponses();
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                responses[position] = fetched.get(i);
+                if (keys[position] != null) {
+                    store(keys[position], requests.get(position).getMethod(), fetched.get(i));
+                }
+            }
+            return new BatchResponse(requests, Arrays.asList(responses));
+        }
+    }
+}
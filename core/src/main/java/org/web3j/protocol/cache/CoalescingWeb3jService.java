@@ -0,0 +1,271 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * {@link Web3jService} which coalesces identical read-only requests that are in flight at the
+ * same time into a single call, so that concurrent callers polling {@code eth_blockNumber} or the
+ * {@code latest} block share one round trip.
+ *
+ * <p>Requests are identical when their method, params and response type are equal. Each caller
+ * attached to a call receives its own response envelope carrying the id of its request, while the
+ * result object is shared and must not be modified. Batches and subscriptions are passed through.
+ */
+public class CoalescingWeb3jService implements Web3jService {
+
+    /** Methods which do not change the state of the node. */
+    public static final Set<String> READ_ONLY_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "web3_clientVersion",
+                                    "net_version",
+                                    "net_listening",
+                                    "net_peerCount",
+                                    "eth_protocolVersion",
+                                    "eth_chainId",
+                                    "eth_syncing",
+                                    "eth_coinbase",
+                                    "eth_mining",
+                                    "eth_hashrate",
+                                    "eth_gasPrice",
+                                    "eth_maxPriorityFeePerGas",
+                                    "eth_feeHistory",
+                                    "eth_accounts",
+                                    "eth_blockNumber",
+                                    "eth_getBalance",
+                                    "eth_getStorageAt",
+                                    "eth_getTransactionCount",
+                                    "eth_getBlockTransactionCountByHash",
+                                    "eth_getBlockTransactionCountByNumber",
+                                    "eth_getUncleCountByBlockHash",
+                                    "eth_getUncleCountByBlockNumber",
+                                    "eth_getCode",
+                                    "eth_call",
+                                    "eth_estimateGas",
+                                    "eth_getBlockByHash",
+                                    "eth_getBlockByNumber",
+                                    "eth_getTransactionByHash",
+                                    "eth_getTransactionByBlockHashAndIndex",
+                                    "eth_getTransactionByBlockNumberAndIndex",
+                                    "eth_getTransactionReceipt",
+                                    "eth_getUncleByBlockHashAndIndex",
+                                    "eth_getUncleByBlockNumberAndIndex",
+                                    "eth_getLogs")));
+
+    private final Web3jService web3jService;
+    private final Set<String> methods;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    private final ConcurrentHashMap<String, CompletableFuture<Response<?>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public CoalescingWeb3jService(Web3jService web3jService) {
+        this(web3jService, READ_ONLY_METHODS);
+    }
+
+    /**
+     * Create a new coalescing service.
+     *
+     * @param web3jService service to send requests with
+     * @param methods methods whose requests may be coalesced
+     */
+    public CoalescingWeb3jService(Web3jService web3jService, Set<String> methods) {
+        this.web3jService = web3jService;
+        this.methods = methods;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String key = key(request, responseType);
+        if (key == null) {
+            return web3jService.send(request, responseType);
+        }
+
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return copy(await(existing), request, responseType);
+        }
+
+        calls.incrementAndGet();
+        T response;
+        try {
+            response = web3jService.send(request, responseType);
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, call);
+        call.complete(response);
+        return response;
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        String key = key(request, responseType);
+        if (key == null) {
+            return web3jService.sendAsync(request, responseType);
+        }
+
+        CompletableFuture<Response<?>> call = new CompletableFuture<>();
+        CompletableFuture<Response<?>> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing.thenApply(response -> copy(response, request, responseType));
+        }
+
+        calls.incrementAndGet();
+        CompletableFuture<T> response;
+        try {
+            response = web3jService.sendAsync(request, responseType);
+        } catch (RuntimeException e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+        return response.whenComplete(
+                (result, throwable) -> {
+                    inFlight.remove(key, call);
+                    if (throwable != null) {
+                        call.completeExceptionally(throwable);
+                    } else {
+                        call.complete(result);
+                    }
+                });
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public boolean supportsSubscriptions() {
+        return web3jService.supportsSubscriptions();
+    }
+
+    @Override
+    public void close() throws IOException {
+        web3jService.close();
+    }
+
+    private String key(Request<?, ?> request, Class<?> responseType) {
+        if (!methods.contains(request.getMethod())) {
+            return null;
+        }
+        try {
+            return request.getMethod()
+                    + objectMapper.writeValueAsString(request.getParams())
+                    + responseType.getName();
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static Response<?> await(CompletableFuture<Response<?>> call) throws IOException {
+        try {
+            return call.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while awaiting coalesced request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /** @return a response envelope for the request, sharing the result of the response */
+    @SuppressWarnings("unchecked")
+    private static <T extends Response> T copy(
+            Response<?> response, Request<?, ?> request, Class<T> responseType) {
+        if (response == null) {
+            return null;
+        }
+
+        T copy;
+        try {
+            copy = responseType.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            return responseType.cast(response);
+        }
+        copy.setId(request.getId());
+        copy.setJsonrpc(response.getJsonrpc());
+        copy.setResult(response.getResult());
+        copy.setError(response.getError());
+        copy.setRawResponse(response.getRawResponse());
+        return copy;
+    }
+
+    /** @return number of requests sent to the underlying service */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /** @return number of requests attached to a call already in flight */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Binary encoding of a JSON document keyed by a string, used for the records of a {@link
+ * DiskResponseStore}.
+ *
+ * <p>Lowercase hex strings such as hashes, addresses and quantities are packed into bytes, and
+ * repeated field names are written as references to their first occurrence. Decoding gives back
+ * an equivalent JSON document.
+ */
+final class CompactJsonCodec {
+
+    private static final int START_OBJECT = 1;
+    private static final int END_OBJECT = 2;
+    private static final int START_ARRAY = 3;
+    private static final int END_ARRAY = 4;
+    private static final int NAME = 5;
+    private static final int NAME_REFERENCE = 6;
+    private static final int STRING = 7;
+    private static final int HEX = 8;
+    private static final int NUMBER = 9;
+    private static final int TRUE = 10;
+    private static final int FALSE = 11;
+    private static final int NULL = 12;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private CompactJsonCodec() {}
+
+    static byte[] encode(String key, String json) throws IOException {
+        Output output = new Output();
+        output.writeString(key);
+
+        Map<String, Integer> names = new HashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT:
+                        output.write(START_OBJECT);
+                        break;
+                    case END_OBJECT:
+                        output.write(END_OBJECT);
+                        break;
+                    case START_ARRAY:
+                        output.write(START_ARRAY);
+                        break;
+                    case END_ARRAY:
+                        output.write(END_ARRAY);
+                        break;
+                    case FIELD_NAME:
+                        String name = parser.getCurrentName();
+                        Integer reference = names.get(name);
+                        if (reference != null) {
+                            output.write(NAME_REFERENCE);
+                            output.writeVarInt(reference);
+                        } else {
+                            names.put(name, names.size());
+                            output.write(NAME);
+                            output.writeString(name);
+                        }
+                        break;
+                    case VALUE_STRING:
+                        String value = parser.getText();
+                        if (isHex(value)) {
+                            output.write(HEX);
+                            output.writeHex(value);
+                        } else {
+                            output.write(STRING);
+                            output.writeString(value);
+                        }
+                        break;
+                    case VALUE_NUMBER_INT:
+                    case VALUE_NUMBER_FLOAT:
+                        output.write(NUMBER);
+                        output.writeString(parser.getText());
+                        break;
+                    case VALUE_TRUE:
+                        output.write(TRUE);
+                        break;
+                    case VALUE_FALSE:
+                        output.write(FALSE);
+                        break;
+                    case VALUE_NULL:
+                        output.write(NULL);
+                        break;
+                    default:
+                        throw new JsonParseException(parser, "Unexpected token " + token);
+                }
+            }
+        }
+        return output.toByteArray();
+    }
+
+    static String decodeKey(byte[] record) {
+        return new Input(record).readString();
+    }
+
+    static byte[] decode(byte[] record) throws IOException {
+        Input input = new Input(record);
+        input.readString();
+
+        List<String> names = new ArrayList<>();
+        ByteArrayOutputStream json = new ByteArrayOutputStream(record.length * 2);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(json)) {
+            while (input.hasRemaining()) {
+                int tag = input.read();
+                switch (tag) {
+                    case START_OBJECT:
+                        generator.writeStartObject();
+                        break;
+                    case END_OBJECT:
+                        generator.writeEndObject();
+                        break;
+                    case START_ARRAY:
+                        generator.writeStartArray();
+                        break;
+                    case END_ARRAY:
+                        generator.writeEndArray();
+                        break;
+                    case NAME:
+                        String name = input.readString();
+                        names.add(name);
+                        generator.writeFieldName(name);
+                        break;
+                    case NAME_REFERENCE:
+                        generator.writeFieldName(names.get(input.readVarInt()));
+                        break;
+                    case STRING:
+                        generator.writeString(input.readString());
+                        break;
+                    case HEX:
+                        generator.writeString(input.readHex());
+                        break;
+                    case NUMBER:
+                        generator.writeNumber(input.readString());
+                        break;
+                    case TRUE:
+                        generator.writeBoolean(true);
+                        break;
+                    case FALSE:
+                        generator.writeBoolean(false);
+                        break;
+                    case NULL:
+                        generator.writeNull();
+                        break;
+                    default:
+                        throw new IOException("Invalid record tag " + tag);
+                }
+            }
+        }
+        return json.toByteArray();
+    }
+
+    private static boolean isHex(String value) {
+        if (value.length() < 2 || value.charAt(0) != '0' || value.charAt(1) != 'x') {
+            return false;
+        }
+        for (int i = 2; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Output extends ByteArrayOutputStream {
+
+        Output() {
+            super(1024);
+        }
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        /** Writes the number of nibbles, then the nibbles packed two per byte, left padded. */
+        void writeHex(String value) {
+            int nibbles = value.length() - 2;
+            writeVarInt(nibbles);
+            int i = 2;
+            if (nibbles % 2 != 0) {
+                write(Character.digit(value.charAt(i++), 16));
+            }
+            for (; i < value.length(); i += 2) {
+                write(
+                        Character.digit(value.charAt(i), 16) << 4
+                                | Character.digit(value.charAt(i + 1), 16));
+            }
+        }
+    }
+
+    private static class Input {
+        private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+        private final byte[] bytes;
+        private int position;
+
+        Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasRemaining() {
+            return position < bytes.length;
+        }
+
+        int read() {
+            return bytes[position++] & 0xFF;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = read();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        String readString() {
+            int length = readVarInt();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        String readHex() {
+            int nibbles = readVarInt();
+            char[] value = new char[nibbles + 2];
+            value[0] = '0';
+            value[1] = 'x';
+            int i = 2;
+            if (nibbles % 2 != 0) {
+                value[i++] = HEX_DIGITS[read() & 0x0F];
+            }
+            while (i < value.length) {
+                int b = read();
+                value[i++] = HEX_DIGITS[b >>> 4];
+                value[i++] = HEX_DIGITS[b & 0x0F];
+            }
+            return new String(value);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Append-only {@link ResponseStore} held in a directory, for use as the second tier of a {@link
+ * CachingWeb3jService} so that repeated block replays are served from disk.
+ *
+ * <p>Responses are appended in the {@link CompactJsonCodec} encoding to segment files, each record
+ * framed by its length and CRC32. A torn record at the end of the last segment, left by a crash,
+ * is truncated when the store is opened. Records are located through a memory-mapped {@link
+ * MappedIndex} keyed by the cache key, which identifies a block by hash or finalized number, or a
+ * transaction or receipt by hash. Records appended after the last index update are indexed when
+ * the store is opened.
+ *
+ * <p>Responses are stored in their original JSON encoding, so the underlying service must be
+ * created with raw responses included, such as {@code new HttpService(true)}. Responses without a
+ * raw response are not stored. {@link #compact(Predicate)} rewrites the live records to new
+ * segments, dropping unindexed and unwanted records.
+ */
+public class DiskResponseStore implements ResponseStore {
+
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 256L * 1024 * 1024;
+
+    private static final int SEGMENT_MAGIC = 0x57334a53;
+    private static final int SEGMENT_VERSION = 1;
+    private static final int SEGMENT_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int SEGMENT_BITS = 40;
+    private static final int INITIAL_INDEX_CAPACITY = 1 << 16;
+
+    private static final String INDEX_FILE = "index";
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper(true);
+
+    private final TreeMap<Integer, FileChannel> segments = new TreeMap<>();
+    private int segment;
+    private long position;
+    private MappedIndex index;
+
+    public DiskResponseStore(Path directory) throws IOException {
+        this(directory, DEFAULT_MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Open a store, creating the directory if it does not exist.
+     *
+     * @param directory directory holding the segment and index files
+     * @param maxSegmentSize size in bytes after which a new segment is started
+     * @throws IOException if the store could not be opened or recovered
+     */
+    public DiskResponseStore(Path directory, long maxSegmentSize) throws IOException {
+        if (maxSegmentSize <= SEGMENT_HEADER_SIZE || maxSegmentSize >= 1L << SEGMENT_BITS) {
+            throw new IllegalArgumentException("Invalid maximum segment size " + maxSegmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.maxSegmentSize = maxSegmentSize;
+
+        try (DirectoryStream<Path> files =
+                Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.put(
+                        Integer.parseInt(name.substring(SEGMENT_PREFIX.length())),
+                        FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            }
+        }
+        if (segments.isEmpty()) {
+            openSegment(0);
+        } else {
+            segment = segments.lastKey();
+            position = scan(segment, SEGMENT_HEADER_SIZE, location -> {});
+            segments.get(segment).truncate(position);
+        }
+
+        index = new MappedIndex(directory.resolve(INDEX_FILE), INITIAL_INDEX_CAPACITY);
+        recoverIndex();
+    }
+
+    private void recoverIndex() throws IOException {
+        int fromSegment = index.getWatermarkSegment();
+        long fromPosition = index.getWatermarkPosition();
+        if (!segments.containsKey(fromSegment)) {
+            fromSegment = segments.firstKey();
+            fromPosition = SEGMENT_HEADER_SIZE;
+        }
+
+        for (int id : segments.tailMap(fromSegment).keySet()) {
+            long end =
+                    scan(
+                            id,
+                            id == fromSegment ? fromPosition : SEGMENT_HEADER_SIZE,
+                            location -> {
+                                byte[] record = read(location);
+                                addToIndex(index, CompactJsonCodec.decodeKey(record), location);
+                            });
+            index.setWatermark(id, end);
+        }
+    }
+
+    @Override
+    public synchronized <T extends Response> T get(String key, Class<T> responseType)
+            throws IOException {
+        byte[][] found = new byte[1][];
+        long location =
+                index.get(
+                        hash(key),
+                        candidate -> {
+                            byte[] record = read(candidate);
+                            if (record != null && key.equals(CompactJsonCodec.decodeKey(record))) {
+                                found[0] = record;
+                                return true;
+                            }
+                            return false;
+                        });
+        if (location < 0) {
+            return null;
+        }
+
+        return objectMapper.readValue(
+                new ByteArrayInputStream(CompactJsonCodec.decode(found[0])), responseType);
+    }
+
+    @Override
+    public synchronized void put(String key, Response<?> response) throws IOException {
+        String rawResponse = response.getRawResponse();
+        if (rawResponse == null || rawResponse.isEmpty() || contains(key)) {
+            return;
+        }
+
+        byte[] record = CompactJsonCodec.encode(key, rawResponse);
+        addToIndex(index, key, append(record));
+        index.setWatermark(segment, position);
+    }
+
+    private boolean contains(String key) throws IOException {
+        return index.get(hash(key), candidate -> matches(candidate, key)) >= 0;
+    }
+
+    private boolean matches(long location, String key) throws IOException {
+        byte[] record = read(location);
+        return record != null && key.equals(CompactJsonCodec.decodeKey(record));
+    }
+
+    private void addToIndex(MappedIndex target, String key, long location) throws IOException {
+        target.put(hash(key), location, candidate -> matches(candidate, key));
+    }
+
+    /**
+     * Rewrite the records to new segments and delete the old ones, keeping only the indexed
+     * records whose key is accepted.
+     *
+     * @param retain accepts the cache keys of the records to keep
+     * @throws IOException if the store could not be rewritten
+     */
+    public synchronized void compact(Predicate<String> retain) throws IOException {
+        List<Integer> oldSegments = new ArrayList<>(segments.keySet());
+        long[] locations = index.locations();
+        openSegment(segment + 1);
+
+        Path indexFile = directory.resolve(INDEX_FILE);
+        Path compactedFile = directory.resolve(INDEX_FILE + ".compact");
+        Files.deleteIfExists(compactedFile);
+        try (MappedIndex compacted = new MappedIndex(compactedFile, indexCapacity(locations))) {
+            for (long location : locations) {
+                byte[] record = read(location);
+                if (record != null) {
+                    String key = CompactJsonCodec.decodeKey(record);
+                    if (retain.test(key)) {
+                        compacted.put(hash(key), append(record), candidate -> false);
+                    }
+                }
+            }
+            compacted.setWatermark(segment, position);
+            segments.get(segment).force(false);
+        }
+
+        index.close();
+        Files.move(
+                compactedFile,
+                indexFile,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        index = new MappedIndex(indexFile, INITIAL_INDEX_CAPACITY);
+
+        for (int id : oldSegments) {
+            segments.remove(id).close();
+            Files.delete(segmentFile(id));
+        }
+    }
+
+    private static int indexCapacity(long[] locations) {
+        int capacity = INITIAL_INDEX_CAPACITY;
+        while (capacity < MappedIndex.MAX_CAPACITY && locations.length >= capacity / 2) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /** @return number of stored responses */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /** Flush appended records and the index to disk. */
+    public synchronized void sync() throws IOException {
+        segments.get(segment).force(false);
+        index.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        sync();
+        index.close();
+        for (FileChannel channel : segments.values()) {
+            channel.close();
+        }
+        segments.clear();
+    }
+
+    private long append(byte[] record) throws IOException {
+        long size = RECORD_HEADER_SIZE + record.length;
+        if (position + size > maxSegmentSize && position > SEGMENT_HEADER_SIZE) {
+            openSegment(segment + 1);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(record.length).putInt((int) crc.getValue()).put(record).flip();
+        write(segments.get(segment), buffer, position);
+
+        long location = (long) segment << SEGMENT_BITS | position;
+        position += size;
+        return location;
+    }
+
+    /** @return the record at a location, or null if it is missing or corrupt */
+    private byte[] read(long location) throws IOException {
+        FileChannel channel = segments.get((int) (location >>> SEGMENT_BITS));
+        long recordPosition = location & ((1L << SEGMENT_BITS) - 1);
+        if (channel == null) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        if (!read(channel, header, recordPosition)) {
+            return null;
+        }
+        int length = header.getInt(0);
+        if (length <= 0 || recordPosition + RECORD_HEADER_SIZE + length > channel.size()) {
+            return null;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(length);
+        if (!read(channel, record, recordPosition + RECORD_HEADER_SIZE)) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, length);
+        return (int) crc.getValue() == header.getInt(4) ? record.array() : null;
+    }
+
+    /** @return the position after the last valid record */
+    private long scan(int id, long from, RecordVisitor visitor) throws IOException {
+        FileChannel channel = segments.get(id);
+        long scanned = from;
+        while (scanned < channel.size()) {
+            long location = (long) id << SEGMENT_BITS | scanned;
+            byte[] record = read(location);
+            if (record == null) {
+                break;
+            }
+            visitor.visit(location);
+            scanned += RECORD_HEADER_SIZE + record.length;
+        }
+        return scanned;
+    }
+
+    private void openSegment(int id) throws IOException {
+        FileChannel channel =
+                FileChannel.open(
+                        segmentFile(id),
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        header.putInt(SEGMENT_MAGIC).putInt(SEGMENT_VERSION).flip();
+        write(channel, header, 0);
+
+        if (!segments.isEmpty()) {
+            segments.get(segment).force(false);
+        }
+        segments.put(id, channel);
+        segment = id;
+        position = SEGMENT_HEADER_SIZE;
+    }
+
+    private Path segmentFile(int id) {
+        return directory.resolve(String.format("%s%08d", SEGMENT_PREFIX, id));
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static boolean read(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return false;
+            }
+            position += read;
+        }
+        return true;
+    }
+
+    /** FNV-1a hash of a key, never zero as zero marks an empty index slot. */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    private interface RecordVisitor {
+        void visit(long location) throws IOException;
+    }
+}
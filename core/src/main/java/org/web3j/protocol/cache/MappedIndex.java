@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Memory-mapped open addressing hash table from 64-bit key hashes to record locations, used as the
+ * index of a {@link DiskResponseStore}.
+ *
+ * <p>Hashes may collide, so candidate locations are confirmed by a {@link Matcher} which reads the
+ * record. The header also holds the watermark up to which records have been indexed.
+ */
+final class MappedIndex implements Closeable {
+
+    static final int MAX_CAPACITY = 1 << 26;
+
+    private static final int MAGIC = 0x57334958;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int SLOT_SIZE = 16;
+
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int WATERMARK_SEGMENT_OFFSET = 16;
+    private static final int WATERMARK_POSITION_OFFSET = 24;
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int size;
+
+    /**
+     * Open an index, creating an empty one if the file is missing or was not written by this
+     * version.
+     *
+     * @param path index file
+     * @param initialCapacity number of slots of a new index, a power of two
+     * @throws IOException if the index could not be mapped
+     */
+    MappedIndex(Path path, int initialCapacity) throws IOException {
+        this.path = path;
+        if (!map()) {
+            create(path, initialCapacity);
+            map();
+        }
+    }
+
+    private boolean map() throws IOException {
+        channel =
+                FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if (fileSize >= HEADER_SIZE) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            capacity = buffer.getInt(CAPACITY_OFFSET);
+            if (buffer.getInt(0) == MAGIC
+                    && buffer.getInt(4) == VERSION
+                    && Integer.bitCount(capacity) == 1
+                    && fileSize == HEADER_SIZE + (long) capacity * SLOT_SIZE) {
+                size = buffer.getInt(SIZE_OFFSET);
+                return true;
+            }
+        }
+        buffer = null;
+        channel.close();
+        return false;
+    }
+
+    private static void create(Path path, int capacity) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".new");
+        try (FileChannel channel =
+                FileChannel.open(
+                        tmp,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer =
+                    channel.map(
+                            FileChannel.MapMode.READ_WRITE,
+                            0,
+                            HEADER_SIZE + (long) capacity * SLOT_SIZE);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(CAPACITY_OFFSET, capacity);
+            buffer.putInt(WATERMARK_SEGMENT_OFFSET, -1);
+            buffer.force();
+        }
+        Files.move(
+                tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Find the location of a record.
+     *
+     * @param hash hash of the record key, not zero
+     * @param matcher confirms whether the record at a location has the key
+     * @return the location, or -1 if there is no record with the key
+     * @throws IOException if a candidate record could not be read
+     */
+    long get(long hash, Matcher matcher) throws IOException {
+        for (int slot = slot(hash); ; slot = (slot + 1) & (capacity - 1)) {
+            long slotHash = buffer.getLong(offset(slot));
+            if (slotHash == 0) {
+                return -1;
+            }
+            long location = buffer.getLong(offset(slot) + 8);
+            if (slotHash == hash && matcher.matches(location)) {
+                return location;
+            }
+        }
+    }
+
+    /**
+     * Add the location of a record, unless a record with the same key is present.
+     *
+     * @param hash hash of the record key, not zero
+     * @param location location of the record
+     * @param matcher confirms whether the record at a location has the same key
+     * @return true if the location was added
+     * @throws IOException if a candidate record could not be read or the index could not grow
+     */
+    boolean put(long hash, long location, Matcher matcher) throws IOException {
+        int slot = slot(hash);
+        for (long slotHash; (slotHash = buffer.getLong(offset(slot))) != 0; ) {
+            if (slotHash == hash && matcher.matches(buffer.getLong(offset(slot) + 8))) {
+                return false;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+
+        buffer.putLong(offset(slot) + 8, location);
+        buffer.putLong(offset(slot), hash);
+        buffer.putInt(SIZE_OFFSET, ++size);
+        if (size > capacity / 4 * 3) {
+            grow();
+        }
+        return true;
+    }
+
+    private void grow() throws IOException {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IOException("Index " + path + " is full");
+        }
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".grow");
+        Files.deleteIfExists(tmp);
+        try (MappedIndex grown = new MappedIndex(tmp, capacity * 2)) {
+            for (int slot = 0; slot < capacity; slot++) {
+                long hash = buffer.getLong(offset(slot));
+                if (hash != 0) {
+                    grown.put(hash, buffer.getLong(offset(slot) + 8), location -> false);
+                }
+            }
+            grown.setWatermark(getWatermarkSegment(), getWatermarkPosition());
+        }
+
+        close();
+        Files.move(
+                tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        map();
+    }
+
+    /** @return the locations of all records, in ascending order */
+    long[] locations() {
+        long[] locations = new long[size];
+        int i = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (buffer.getLong(offset(slot)) != 0) {
+                locations[i++] = buffer.getLong(offset(slot) + 8);
+            }
+        }
+        Arrays.sort(locations);
+        return locations;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** @return segment up to which records have been indexed, or -1 if none have */
+    int getWatermarkSegment() {
+        return buffer.getInt(WATERMARK_SEGMENT_OFFSET);
+    }
+
+    long getWatermarkPosition() {
+        return buffer.getLong(WATERMARK_POSITION_OFFSET);
+    }
+
+    void setWatermark(int segment, long position) {
+        buffer.putLong(WATERMARK_POSITION_OFFSET, position);
+        buffer.putInt(WATERMARK_SEGMENT_OFFSET, segment);
+    }
+
+    private int slot(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        channel.close();
+    }
+
+    /** Confirms whether the record at a location has the key being looked up. */
+    interface Matcher {
+        boolean matches(long location) throws IOException;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import org.web3j.protocol.core.Response;
+
+/**
+ * Second tier of a {@link CachingWeb3jService}, consulted when a response is not held in memory.
+ * Only responses which can no longer change are stored.
+ */
+public interface ResponseStore extends Closeable {
+
+    /**
+     * Load a stored response.
+     *
+     * @param key cache key of the request
+     * @param responseType type of the response
+     * @param <T> type of the response
+     * @return the response, or null if none has been stored
+     * @throws IOException if the store could not be read
+     */
+    <T extends Response> T get(String key, Class<T> responseType) throws IOException;
+
+    /**
+     * Store a response.
+     *
+     * @param key cache key of the request
+     * @param response response to store
+     * @throws IOException if the response could not be written
+     */
+    void put(String key, Response<?> response) throws IOException;
+}
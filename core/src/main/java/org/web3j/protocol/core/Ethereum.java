@@ -69,6 +69,9 @@ import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.core.methods.response.admin.AdminDataDir;
 import org.web3j.protocol.core.methods.response.admin.AdminNodeInfo;
 import org.web3j.protocol.core.methods.response.admin.AdminPeers;
+import org.web3j.protocol.core.methods.response.compact.EthCompactBlock;
+import org.web3j.protocol.core.methods.response.compact.EthCompactLog;
+import org.web3j.protocol.core.methods.response.compact.EthCompactTransactionReceipt;
 
 /** Core Ethereum JSON-RPC API. */
 public interface Ethereum {
@@ -152,6 +155,12 @@ public interface Ethereum {
     Request<?, EthBlock> ethGetBlockByNumber(
             DefaultBlockParameter defaultBlockParameter, boolean returnFullTransactionObjects);
 
+    Request<?, EthCompactBlock> ethGetCompactBlockByHash(
+            String blockHash, boolean returnFullTransactionObjects);
+
+    Request<?, EthCompactBlock> ethGetCompactBlockByNumber(
+            DefaultBlockParameter defaultBlockParameter, boolean returnFullTransactionObjects);
+
     Request<?, EthTransaction> ethGetTransactionByHash(String transactionHash);
 
     Request<?, EthTransaction> ethGetTransactionByBlockHashAndIndex(
@@ -162,6 +171,9 @@ public interface Ethereum {
 
     Request<?, EthGetTransactionReceipt> ethGetTransactionReceipt(String transactionHash);
 
+    Request<?, EthCompactTransactionReceipt> ethGetCompactTransactionReceipt(
+            String transactionHash);
+
     Request<?, EthBlock> ethGetUncleByBlockHashAndIndex(
             String blockHash, BigInteger transactionIndex);
 
@@ -190,6 +202,9 @@ public interface Ethereum {
 
     Request<?, EthLog> ethGetLogs(org.web3j.protocol.core.methods.request.EthFilter ethFilter);
 
+    Request<?, EthCompactLog> ethGetCompactLogs(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter);
+
     Request<?, EthGetWork> ethGetWork();
 
     Request<?, EthSubmitWork> ethSubmitWork(String nonce, String headerPowHash, String mixDigest);
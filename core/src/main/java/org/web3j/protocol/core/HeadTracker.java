@@ -0,0 +1,229 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.websocket.events.NewHead;
+
+/**
+ * Follows the head of the chain for all components of a {@link Web3j} instance, so that they read
+ * the latest block from memory instead of each polling the node.
+ *
+ * <p>The head is followed via a {@code newHeads} subscription when the service supports
+ * subscriptions, falling back to polling the latest block if the subscription fails. Components
+ * which accept a flowable of new block hashes, such as {@link org.web3j.tx.EthCallCache}, can be
+ * given {@link #blockHashFlowable()}.
+ *
+ * <p>New heads are always handled on the executor of the tracker, one at a time and in order, so
+ * listeners may block, e.g. to send requests to the node, without stalling the thread which
+ * received the head.
+ */
+public class HeadTracker implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(HeadTracker.class);
+
+    private final Web3j web3j;
+    private final boolean useSubscriptions;
+    private final long pollingInterval;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final Scheduler scheduler;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile EthBlock.Block head;
+    private Disposable subscription;
+    private ScheduledFuture<?> poller;
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * Create a new head tracker, which does not follow the head until started.
+     *
+     * @param web3j web3j instance to follow the head with
+     * @param useSubscriptions if true, the head is followed via a {@code newHeads} subscription
+     * @param pollingInterval interval in milliseconds between polls of the latest block
+     * @param scheduledExecutorService executor to poll and notify listeners on
+     */
+    public HeadTracker(
+            Web3j web3j,
+            boolean useSubscriptions,
+            long pollingInterval,
+            ScheduledExecutorService scheduledExecutorService) {
+        this.web3j = web3j;
+        this.useSubscriptions = useSubscriptions;
+        this.pollingInterval = pollingInterval;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.scheduler = Schedulers.from(scheduledExecutorService);
+    }
+
+    /** Start following the head, if not already started. */
+    public synchronized HeadTracker start() {
+        if (started || closed) {
+            return this;
+        }
+        started = true;
+
+        if (useSubscriptions) {
+            subscription =
+                    web3j.newHeadsNotifications()
+                            // notifications arrive on the read thread of the service, which
+                            // listeners sending requests would otherwise deadlock
+                            .observeOn(scheduler)
+                            .subscribe(
+                                    notification ->
+                                            onHead(toBlock(notification.getParams().getResult())),
+                                    throwable -> {
+                                        log.warn(
+                                                "New heads subscription failed, polling instead",
+                                                throwable);
+                                        startPolling();
+                                    });
+        } else {
+            startPolling();
+        }
+        return this;
+    }
+
+    private synchronized void startPolling() {
+        if (!closed && poller == null) {
+            poller =
+                    scheduledExecutorService.scheduleWithFixedDelay(
+                            this::poll, 0, pollingInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void poll() {
+        try {
+            EthBlock.Block block =
+                    web3j.ethGetBlockByNumber(DefaultBlockParameterName.LATEST, false)
+                            .send()
+                            .getBlock();
+            if (block != null) {
+                onHead(block);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to poll latest block", e);
+        }
+    }
+
+    private void onHead(EthBlock.Block block) {
+        EthBlock.Block current = head;
+        if (current != null && current.getHash().equals(block.getHash())) {
+            return;
+        }
+
+        head = block;
+        for (Listener listener : listeners) {
+            try {
+                listener.onHead(block);
+            } catch (RuntimeException e) {
+                log.warn("Head listener failed on block {}", block.getHash(), e);
+            }
+        }
+    }
+
+    private static EthBlock.Block toBlock(NewHead newHead) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber(newHead.getNumber());
+        block.setHash(newHead.getHash());
+        block.setParentHash(newHead.getParentHash());
+        block.setNonce(newHead.getNonce());
+        block.setSha3Uncles(newHead.getSha3Uncles());
+        block.setLogsBloom(newHead.getLogsBloom());
+        block.setTransactionsRoot(newHead.getTransactionRoot());
+        block.setStateRoot(newHead.getStateRoot());
+        block.setReceiptsRoot(newHead.getReceiptRoot());
+        block.setMiner(newHead.getMiner());
+        block.setDifficulty(newHead.getDifficulty());
+        block.setExtraData(newHead.getExtraData());
+        block.setGasLimit(newHead.getGasLimit());
+        block.setGasUsed(newHead.getGasUsed());
+        block.setTimestamp(newHead.getTimestamp());
+        return block;
+    }
+
+    /**
+     * The latest block header, without transactions when received via a subscription.
+     *
+     * @return the latest block, or null if none has been received yet
+     */
+    public EthBlock.Block getHead() {
+        return head;
+    }
+
+    /** @return number of the latest block, or -1 if none has been received yet */
+    public long getHeadNumber() {
+        EthBlock.Block current = head;
+        return current == null ? -1 : current.getNumber().longValueExact();
+    }
+
+    /** @return timestamp in seconds of the latest block, or null if none has been received yet */
+    public BigInteger getHeadTimestamp() {
+        EthBlock.Block current = head;
+        return current == null ? null : current.getTimestamp();
+    }
+
+    /** Notify a listener of every new head, on the executor of the tracker. */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /** @return hashes of new heads, from when subscribed to, emitted on the executor */
+    public Flowable<String> blockHashFlowable() {
+        return Flowable.create(
+                emitter -> {
+                    Listener listener = block -> emitter.onNext(block.getHash());
+                    addListener(listener);
+                    emitter.setCancellable(() -> removeListener(listener));
+                },
+                BackpressureStrategy.BUFFER);
+    }
+
+    /** Stop following the head. */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (poller != null) {
+            poller.cancel(false);
+        }
+    }
+
+    /** Notified of new heads. */
+    public interface Listener {
+        void onHead(EthBlock.Block head);
+    }
+}
@@ -84,7 +84,11 @@ import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.core.methods.response.admin.AdminDataDir;
 import org.web3j.protocol.core.methods.response.admin.AdminNodeInfo;
 import org.web3j.protocol.core.methods.response.admin.AdminPeers;
+import org.web3j.protocol.core.methods.response.compact.EthCompactBlock;
+import org.web3j.protocol.core.methods.response.compact.EthCompactLog;
+import org.web3j.protocol.core.methods.response.compact.EthCompactTransactionReceipt;
 import org.web3j.protocol.rx.JsonRpc2_0Rx;
+import org.web3j.protocol.rx.PendingTransactionBatcher;
 import org.web3j.protocol.websocket.events.LogNotification;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 import org.web3j.utils.Async;
@@ -99,6 +103,7 @@ public class JsonRpc2_0Web3j implements Web3j {
     private final JsonRpc2_0Rx web3jRx;
     private final long blockTime;
     private final ScheduledExecutorService scheduledExecutorService;
+    private HeadTracker headTracker;
 
     public JsonRpc2_0Web3j(Web3jService web3jService) {
         this(web3jService, DEFAULT_BLOCK_TIME, Async.defaultExecutorService());
@@ -109,7 +114,9 @@ public class JsonRpc2_0Web3j implements Web3j {
             long pollingInterval,
             ScheduledExecutorService scheduledExecutorService) {
         this.web3jService = web3jService;
-        this.web3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService);
+        this.web3jRx =
+                new JsonRpc2_0Rx(
+                        this, scheduledExecutorService, web3jService.supportsSubscriptions());
         this.blockTime = pollingInterval;
         this.scheduledExecutorService = scheduledExecutorService;
     }
@@ -383,6 +390,26 @@ public class JsonRpc2_0Web3j implements Web3j {
                 EthBlock.class);
     }
 
+    @Override
+    public Request<?, EthCompactBlock> ethGetCompactBlockByHash(
+            String blockHash, boolean returnFullTransactionObjects) {
+        return new Request<>(
+                "eth_getBlockByHash",
+                Arrays.asList(blockHash, returnFullTransactionObjects),
+                web3jService,
+                EthCompactBlock.class);
+    }
+
+    @Override
+    public Request<?, EthCompactBlock> ethGetCompactBlockByNumber(
+            DefaultBlockParameter defaultBlockParameter, boolean returnFullTransactionObjects) {
+        return new Request<>(
+                "eth_getBlockByNumber",
+                Arrays.asList(defaultBlockParameter.getValue(), returnFullTransactionObjects),
+                web3jService,
+                EthCompactBlock.class);
+    }
+
     @Override
     public Request<?, EthTransaction> ethGetTransactionByHash(String transactionHash) {
         return new Request<>(
@@ -422,6 +449,16 @@ public class JsonRpc2_0Web3j implements Web3j {
                 EthGetTransactionReceipt.class);
     }
 
+    @Override
+    public Request<?, EthCompactTransactionReceipt> ethGetCompactTransactionReceipt(
+            String transactionHash) {
+        return new Request<>(
+                "eth_getTransactionReceipt",
+                Arrays.asList(transactionHash),
+                web3jService,
+                EthCompactTransactionReceipt.class);
+    }
+
     @Override
     public Request<?, EthBlock> ethGetUncleByBlockHashAndIndex(
             String blockHash, BigInteger transactionIndex) {
@@ -533,6 +570,13 @@ public class JsonRpc2_0Web3j implements Web3j {
         return new Request<>("eth_getLogs", Arrays.asList(ethFilter), web3jService, EthLog.class);
     }
 
+    @Override
+    public Request<?, EthCompactLog> ethGetCompactLogs(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        return new Request<>(
+                "eth_getLogs", Arrays.asList(ethFilter), web3jService, EthCompactLog.class);
+    }
+
     @Override
     public Request<?, EthGetWork> ethGetWork() {
         return new Request<>(
@@ -707,6 +751,28 @@ public class JsonRpc2_0Web3j implements Web3j {
                 LogNotification.class);
     }
 
+    @Override
+    public Flowable<LogNotification> logsNotifications(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+
+        Map<String, Object> params = new HashMap<>();
+        if (ethFilter.getAddress() != null && !ethFilter.getAddress().isEmpty()) {
+            params.put("address", ethFilter.getAddress());
+        }
+        if (!ethFilter.getTopics().isEmpty()) {
+            params.put("topics", ethFilter.getTopics());
+        }
+
+        return web3jService.subscribe(
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("logs", params),
+                        web3jService,
+                        EthSubscribe.class),
+                "eth_unsubscribe",
+                LogNotification.class);
+    }
+
     private Map<String, Object> createLogsParams(List<String> addresses, List<String> topics) {
         Map<String, Object> params = new HashMap<>();
         if (!addresses.isEmpty()) {
@@ -734,6 +800,12 @@ public class JsonRpc2_0Web3j implements Web3j {
         return web3jRx.ethLogFlowable(ethFilter, blockTime);
     }
 
+    @Override
+    public Flowable<Log> bloomFilteredLogFlowable(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        return web3jRx.bloomFilteredLogFlowable(ethFilter, blockTime);
+    }
+
     @Override
     public Flowable<org.web3j.protocol.core.methods.response.Transaction> transactionFlowable() {
         return web3jRx.transactionFlowable(blockTime);
@@ -745,6 +817,12 @@ public class JsonRpc2_0Web3j implements Web3j {
         return web3jRx.pendingTransactionFlowable(blockTime);
     }
 
+    @Override
+    public Flowable<org.web3j.protocol.core.methods.response.Transaction>
+            pendingTransactionFlowable(PendingTransactionBatcher batcher) {
+        return web3jRx.pendingTransactionFlowable(batcher, blockTime);
+    }
+
     @Override
     public Flowable<EthBlock> blockFlowable(boolean fullTransactionObjects) {
         return web3jRx.blockFlowable(fullTransactionObjects, blockTime);
@@ -809,8 +887,28 @@ public class JsonRpc2_0Web3j implements Web3j {
         return web3jRx.replayPastAndFutureTransactionsFlowable(startBlock, blockTime);
     }
 
+    @Override
+    public synchronized HeadTracker headTracker() {
+        if (headTracker == null) {
+            headTracker =
+                    new HeadTracker(
+                                    this,
+                                    web3jService.supportsSubscriptions(),
+                                    blockTime,
+                                    scheduledExecutorService)
+                            .start();
+            web3jRx.setHeadTracker(headTracker);
+        }
+        return headTracker;
+    }
+
     @Override
     public void shutdown() {
+        synchronized (this) {
+            if (headTracker != null) {
+                headTracker.close();
+            }
+        }
         scheduledExecutorService.shutdown();
         try {
             web3jService.close();
@@ -14,6 +14,7 @@ package org.web3j.protocol.core;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import io.reactivex.Flowable;
 
@@ -27,9 +28,22 @@ import org.web3j.utils.Async;
 public class RemoteCall<T> {
 
     private Callable<T> callable;
+    private Supplier<CompletableFuture<T>> asyncCallable;
 
     public RemoteCall(Callable<T> callable) {
+        this(callable, null);
+    }
+
+    /**
+     * Create a remote call with a non-blocking implementation used by {@link #sendAsync()}.
+     *
+     * @param callable synchronous implementation
+     * @param asyncCallable asynchronous implementation, or null to run the synchronous one on the
+     *     {@link Async} executor
+     */
+    public RemoteCall(Callable<T> callable, Supplier<CompletableFuture<T>> asyncCallable) {
         this.callable = callable;
+        this.asyncCallable = asyncCallable;
     }
 
     /**
@@ -48,6 +62,9 @@ public class RemoteCall<T> {
      * @return a future containing our function
      */
     public CompletableFuture<T> sendAsync() {
+        if (asyncCallable != null) {
+            return asyncCallable.get();
+        }
         return Async.run(this::send);
     }
 
@@ -14,6 +14,8 @@ package org.web3j.protocol.core;
 
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.FunctionReturnDecoder;
@@ -28,10 +30,73 @@ import org.web3j.abi.datatypes.Type;
 public class RemoteFunctionCall<T> extends RemoteCall<T> {
 
     private final Function function;
+    private final String contractAddress;
+    private final ResultDecoder<T> resultDecoder;
 
     public RemoteFunctionCall(Function function, Callable<T> callable) {
         super(callable);
         this.function = function;
+        this.contractAddress = null;
+        this.resultDecoder = null;
+    }
+
+    public RemoteFunctionCall(
+            Function function,
+            Callable<T> callable,
+            Supplier<CompletableFuture<T>> asyncCallable) {
+        super(callable, asyncCallable);
+        this.function = function;
+        this.contractAddress = null;
+        this.resultDecoder = null;
+    }
+
+    /**
+     * Create a read-only function call which can also be executed as part of an aggregate call.
+     *
+     * @param function the function to call
+     * @param contractAddress address of the contract to call
+     * @param resultDecoder converts the decoded output parameters to the result
+     * @param callable executes the call on its own
+     */
+    public RemoteFunctionCall(
+            Function function,
+            String contractAddress,
+            ResultDecoder<T> resultDecoder,
+            Callable<T> callable) {
+        super(callable);
+        this.function = function;
+        this.contractAddress = contractAddress;
+        this.resultDecoder = resultDecoder;
+    }
+
+    public Function getFunction() {
+        return function;
+    }
+
+    public String getContractAddress() {
+        return contractAddress;
+    }
+
+    /**
+     * @return true if this is a read-only call whose result can be decoded from the raw response
+     *     via {@link #decodeResult(String)}
+     */
+    public boolean isDecodable() {
+        return contractAddress != null && resultDecoder != null;
+    }
+
+    /**
+     * Decode the result of this call from its raw response.
+     *
+     * @param response the encoded response
+     * @return the result
+     * @throws IllegalStateException if this call is not {@link #isDecodable() decodable}
+     */
+    public T decodeResult(String response) {
+        if (!isDecodable()) {
+            throw new IllegalStateException("Result of this call can not be decoded");
+        }
+        return resultDecoder.decode(decodeFunctionResponse(response));
     }
 
     /**
@@ -52,4 +117,13 @@ public class RemoteFunctionCall<T> extends RemoteCall<T> {
     public List<Type> decodeFunctionResponse(String response) {
         return FunctionReturnDecoder.decode(response, function.getOutputParameters());
     }
+
+    /**
+     * Converts the output parameters of a function to the result of a call.
+     *
+     * @param <T> the result type
+     */
+    public interface ResultDecoder<T> {
+        T decode(List<Type> values);
+    }
 }
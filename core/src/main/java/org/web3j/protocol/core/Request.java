@@ -94,4 +94,12 @@ public class Request<S, T extends Response> {
     public Flowable<T> flowable() {
         return new RemoteCall<>(this::send).flowable();
     }
+
+    /**
+     * Create a template of this request, to repeatedly send it with new ids without serializing
+     * its parameters again.
+     */
+    public RequestTemplate<S, T> template() {
+        return new RequestTemplate<>(method, params, web3jService, responseType);
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+
+/**
+ * Template of a request which is sent repeatedly with the same method and parameters, such as
+ * {@code eth_blockNumber}, {@code eth_chainId} or a polled {@code eth_call}.
+ *
+ * <p>The payload of the template is serialized once, and requests created from it are serialized
+ * by splicing their id into it. The parameters must therefore not be modified once the template is
+ * created.
+ *
+ * @param <S> type of the parameters
+ * @param <T> type of the response
+ */
+public class RequestTemplate<S, T extends Response> {
+
+    private final String method;
+    private final List<S> params;
+    private final Web3jService web3jService;
+    private final Class<T> responseType;
+
+    // payload up to the id, as UTF-8 encoded by the serialized string
+    private volatile SerializableString prefix;
+
+    public RequestTemplate(
+            String method, List<S> params, Web3jService web3jService, Class<T> responseType) {
+        this.method = method;
+        this.params = params;
+        this.web3jService = web3jService;
+        this.responseType = responseType;
+    }
+
+    /** @return a new request with a new id, which is serialized from this template */
+    public Request<S, T> newRequest() {
+        return new TemplatedRequest<>(this);
+    }
+
+    public T send() throws IOException {
+        return newRequest().send();
+    }
+
+    public CompletableFuture<T> sendAsync() {
+        return newRequest().sendAsync();
+    }
+
+    public Flowable<T> flowable() {
+        return new RemoteCall<>(this::send).flowable();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public List<S> getParams() {
+        return params;
+    }
+
+    private SerializableString prefix(ObjectCodec codec) throws IOException {
+        if (prefix == null) {
+            ObjectMapper objectMapper =
+                    codec instanceof ObjectMapper
+                            ? (ObjectMapper) codec
+                            : ObjectMapperFactory.getObjectMapper();
+            // the properties in the order a request is serialized in
+            prefix =
+                    new SerializedString(
+                            "{\"jsonrpc\":\"2.0\",\"method\":"
+                                    + objectMapper.writeValueAsString(method)
+                                    + ",\"params\":"
+                                    + objectMapper.writeValueAsString(params)
+                                    + ",\"id\":");
+        }
+        return prefix;
+    }
+
+    @JsonSerialize(using = TemplatedRequestSerializer.class)
+    private static class TemplatedRequest<S, T extends Response> extends Request<S, T> {
+        private final RequestTemplate<S, T> template;
+
+        TemplatedRequest(RequestTemplate<S, T> template) {
+            super(
+                    template.method,
+                    template.params,
+                    template.web3jService,
+                    template.responseType);
+            this.template = template;
+        }
+
+        @Override
+        public void setJsonrpc(String jsonrpc) {
+            throw new UnsupportedOperationException("Requests of a template are immutable");
+        }
+
+        @Override
+        public void setMethod(String method) {
+            throw new UnsupportedOperationException("Requests of a template are immutable");
+        }
+
+        @Override
+        public void setParams(List<S> params) {
+            throw new UnsupportedOperationException("Requests of a template are immutable");
+        }
+    }
+
+    private static class TemplatedRequestSerializer
+            extends JsonSerializer<TemplatedRequest<?, ?>> {
+
+        @Override
+        public void serialize(
+                TemplatedRequest<?, ?> request, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeRawValue(request.template.prefix(gen.getCodec()));
+            gen.writeRaw(Long.toString(request.getId()));
+            gen.writeRaw('}');
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.request.Filter.FilterTopic;
+import org.web3j.protocol.core.methods.request.Filter.ListTopic;
+import org.web3j.protocol.core.methods.request.Filter.SingleTopic;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Bloom;
+
+/**
+ * Block driven log fetcher. The logsBloom of each block is evaluated locally against the
+ * addresses and topics of the provided filter, and <em>eth_getLogs</em> is only sent for blocks
+ * that may contain matching logs.
+ *
+ * <p>The fromBlock and toBlock of the filter are ignored, logs are requested by block hash.
+ */
+public class BloomLogFetcher {
+
+    private final Web3j web3j;
+    private final EthFilter ethFilter;
+
+    // an empty array matches any address
+    private final Bloom[] addressMasks;
+    // a null entry matches any topic in that position
+    private final Bloom[][] topicMasks;
+
+    private final AtomicLong blocksChecked = new AtomicLong();
+    private final AtomicLong blocksFetched = new AtomicLong();
+
+    public BloomLogFetcher(Web3j web3j, EthFilter ethFilter) {
+        this.web3j = web3j;
+        this.ethFilter = ethFilter;
+        this.addressMasks = createAddressMasks(ethFilter.getAddress());
+        this.topicMasks = createTopicMasks(ethFilter.getTopics());
+    }
+
+    public boolean mightMatch(EthBlock.Block block) {
+        String logsBloom = block.getLogsBloom();
+        if (logsBloom == null) {
+            return true;
+        }
+        return mightMatch(Bloom.fromHex(logsBloom));
+    }
+
+    public boolean mightMatch(Bloom bloom) {
+        if (bloom.isEmpty()) {
+            return false;
+        }
+        if (addressMasks.length > 0 && !mightContainAny(bloom, addressMasks)) {
+            return false;
+        }
+        for (Bloom[] masks : topicMasks) {
+            if (masks != null && !mightContainAny(bloom, masks)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieve the logs of the given block matching the filter.
+     *
+     * @param block block to retrieve logs for
+     * @return matching logs, or an empty list without a request if the bloom rules them out
+     * @throws IOException if the request fails
+     */
+    public List<Log> fetchLogs(EthBlock.Block block) throws IOException {
+        blocksChecked.incrementAndGet();
+        if (!mightMatch(block)) {
+            return Collections.emptyList();
+        }
+        blocksFetched.incrementAndGet();
+
+        EthFilter blockFilter = new EthFilter(block.getHash(), ethFilter.getAddress());
+        blockFilter.getTopics().addAll(ethFilter.getTopics());
+
+        EthLog ethLog = web3j.ethGetLogs(blockFilter).send();
+        if (ethLog.hasError()) {
+            throw new FilterException("Invalid request: " + ethLog.getError().getMessage());
+        }
+
+        List<Log> logs = new ArrayList<>(ethLog.getLogs().size());
+        for (EthLog.LogResult logResult : ethLog.getLogs()) {
+            if (logResult instanceof EthLog.LogObject) {
+                logs.add(((EthLog.LogObject) logResult).get());
+            } else {
+                throw new FilterException(
+                        "Unexpected result type: " + logResult.get() + " required LogObject");
+            }
+        }
+        return logs;
+    }
+
+    /**
+     * Create a {@link Flowable} emitting the matching logs of each of the provided blocks, in
+     * block order.
+     *
+     * @param blocks blocks to retrieve logs for, transaction objects are not required
+     * @return a {@link Flowable} instance that emits all matching logs
+     */
+    public Flowable<Log> flowable(Flowable<EthBlock> blocks) {
+        return blocks.concatMapIterable(ethBlock -> fetchLogs(ethBlock.getBlock()));
+    }
+
+    public long getBlocksChecked() {
+        return blocksChecked.get();
+    }
+
+    public long getBlocksFetched() {
+        return blocksFetched.get();
+    }
+
+    public long getBlocksSkipped() {
+        return blocksChecked.get() - blocksFetched.get();
+    }
+
+    private static boolean mightContainAny(Bloom bloom, Bloom[] masks) {
+        for (Bloom mask : masks) {
+            if (bloom.mightContain(mask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Bloom[] createAddressMasks(List<String> addresses) {
+        if (addresses == null) {
+            return new Bloom[0];
+        }
+        Bloom[] masks = new Bloom[addresses.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = Bloom.forValue(addresses.get(i));
+        }
+        return masks;
+    }
+
+    private static Bloom[][] createTopicMasks(List<FilterTopic> topics) {
+        Bloom[][] masks = new Bloom[topics.size()][];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = createTopicMasks(topics.get(i));
+        }
+        return masks;
+    }
+
+    private static Bloom[] createTopicMasks(FilterTopic topic) {
+        List<SingleTopic> singleTopics;
+        if (topic instanceof ListTopic) {
+            singleTopics = ((ListTopic) topic).getValue();
+        } else {
+            singleTopics = Collections.singletonList((SingleTopic) topic);
+        }
+        if (singleTopics.isEmpty()) {
+            return null;
+        }
+
+        Bloom[] masks = new Bloom[singleTopics.size()];
+        for (int i = 0; i < masks.length; i++) {
+            String value = singleTopics.get(i).getValue();
+            if (value == null) {
+                return null;
+            }
+            masks[i] = Bloom.forValue(value);
+        }
+        return masks;
+    }
+}
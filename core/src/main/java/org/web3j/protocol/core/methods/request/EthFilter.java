@@ -50,7 +50,11 @@ public class EthFilter extends Filter<EthFilter> {
     }
 
     public EthFilter(String blockHash, String address) {
-        this(null, null, Collections.singletonList(address));
+        this(blockHash, Collections.singletonList(address));
+    }
+
+    public EthFilter(String blockHash, List<String> address) {
+        this(null, null, address);
         this.blockHash = blockHash;
     }
 
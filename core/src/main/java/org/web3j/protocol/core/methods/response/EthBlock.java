@@ -15,18 +15,17 @@ package org.web3j.protocol.core.methods.response;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.deserializer.BlockDeserializer;
+import org.web3j.protocol.deserializer.TransactionDeserializer;
 import org.web3j.utils.Numeric;
 
 /**
@@ -587,7 +586,8 @@ public class EthBlock extends Response<EthBlock.Block> {
     public static class ResultTransactionDeserialiser
             extends JsonDeserializer<List<TransactionResult>> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final TransactionDeserializer<TransactionObject> transactionDeserializer =
+                new TransactionDeserializer<>(TransactionObject.class, TransactionObject::new);
 
         @Override
         public List<TransactionResult> deserialize(
@@ -595,21 +595,13 @@ public class EthBlock extends Response<EthBlock.Block> {
                 throws IOException {
 
             List<TransactionResult> transactionResults = new ArrayList<>();
-            JsonToken nextToken = jsonParser.nextToken();
-
-            if (nextToken == JsonToken.START_OBJECT) {
-                Iterator<TransactionObject> transactionObjectIterator =
-                        objectReader.readValues(jsonParser, TransactionObject.class);
-                while (transactionObjectIterator.hasNext()) {
-                    transactionResults.add(transactionObjectIterator.next());
-                }
-            } else if (nextToken == JsonToken.VALUE_STRING) {
-                jsonParser.getValueAsString();
-
-                Iterator<TransactionHash> transactionHashIterator =
-                        objectReader.readValues(jsonParser, TransactionHash.class);
-                while (transactionHashIterator.hasNext()) {
-                    transactionResults.add(transactionHashIterator.next());
+            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                if (jsonParser.getCurrentToken() == JsonToken.START_OBJECT) {
+                    transactionResults.add(
+                            transactionDeserializer.deserialize(
+                                    jsonParser, deserializationContext));
+                } else {
+                    transactionResults.add(new TransactionHash(jsonParser.getValueAsString()));
                 }
             }
 
@@ -619,14 +611,15 @@ public class EthBlock extends Response<EthBlock.Block> {
 
     public static class ResponseDeserialiser extends JsonDeserializer<Block> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final BlockDeserializer<Block> blockDeserializer =
+                new BlockDeserializer<>(Block.class, Block::new);
 
         @Override
         public Block deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, Block.class);
+                return blockDeserializer.deserialize(jsonParser, deserializationContext);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -19,10 +19,9 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.deserializer.TransactionReceiptDeserializer;
 
 /** eth_getTransactionReceipt. */
 public class EthGetTransactionReceipt extends Response<TransactionReceipt> {
@@ -33,14 +32,16 @@ public class EthGetTransactionReceipt extends Response<TransactionReceipt> {
 
     public static class ResponseDeserialiser extends JsonDeserializer<TransactionReceipt> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final TransactionReceiptDeserializer<TransactionReceipt> deserializer =
+                new TransactionReceiptDeserializer<>(
+                        TransactionReceipt.class, TransactionReceipt::new);
 
         @Override
         public TransactionReceipt deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, TransactionReceipt.class);
+                return deserializer.deserialize(jsonParser, deserializationContext);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -19,10 +19,9 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.deserializer.TransactionDeserializer;
 
 /**
  * Transaction object returned by:
@@ -46,14 +45,15 @@ public class EthTransaction extends Response<Transaction> {
 
     public static class ResponseDeserialiser extends JsonDeserializer<Transaction> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
+        private final TransactionDeserializer<Transaction> deserializer =
+                new TransactionDeserializer<>(Transaction.class, Transaction::new);
 
         @Override
         public Transaction deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, Transaction.class);
+                return deserializer.deserialize(jsonParser, deserializationContext);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
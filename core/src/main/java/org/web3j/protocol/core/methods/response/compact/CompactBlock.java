@@ -0,0 +1,317 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.ADDRESS_LENGTH;
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.BLOOM_LENGTH;
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.HASH_LENGTH;
+
+/**
+ * Compact alternative to {@link org.web3j.protocol.core.methods.response.EthBlock.Block}, holding
+ * hashes, addresses and the logs bloom as raw bytes and numbers as {@code long}s. Difficulty and
+ * total difficulty are kept as their raw magnitude and only converted to a {@link BigInteger} when
+ * requested.
+ *
+ * <p>Returned arrays are not copied. Transaction hashes are always available, full transactions
+ * only if they were requested.
+ */
+@JsonDeserialize(using = CompactBlock.Deserializer.class)
+public class CompactBlock {
+
+    private long number = -1;
+    private byte[] hash;
+    private byte[] parentHash;
+    private byte[] nonce;
+    private byte[] sha3Uncles;
+    private byte[] logsBloom;
+    private byte[] transactionsRoot;
+    private byte[] stateRoot;
+    private byte[] receiptsRoot;
+    private byte[] miner;
+    private byte[] mixHash;
+    private byte[] difficulty;
+    private byte[] totalDifficulty;
+    private byte[] extraData;
+    private long size;
+    private long gasLimit;
+    private long gasUsed;
+    private long timestamp;
+    private byte[][] transactionHashes = new byte[0][];
+    private List<CompactTransaction> transactions = Collections.emptyList();
+    private byte[][] uncles = new byte[0][];
+
+    /** @return the block number, or {@code -1} for a pending block */
+    public long getNumber() {
+        return number;
+    }
+
+    public byte[] getHash() {
+        return hash;
+    }
+
+    public byte[] getParentHash() {
+        return parentHash;
+    }
+
+    public byte[] getNonce() {
+        return nonce;
+    }
+
+    public byte[] getSha3Uncles() {
+        return sha3Uncles;
+    }
+
+    public byte[] getLogsBloom() {
+        return logsBloom;
+    }
+
+    public byte[] getTransactionsRoot() {
+        return transactionsRoot;
+    }
+
+    public byte[] getStateRoot() {
+        return stateRoot;
+    }
+
+    public byte[] getReceiptsRoot() {
+        return receiptsRoot;
+    }
+
+    public byte[] getMiner() {
+        return miner;
+    }
+
+    public byte[] getMixHash() {
+        return mixHash;
+    }
+
+    public BigInteger getDifficulty() {
+        return difficulty != null ? new BigInteger(1, difficulty) : null;
+    }
+
+    public BigInteger getTotalDifficulty() {
+        return totalDifficulty != null ? new BigInteger(1, totalDifficulty) : null;
+    }
+
+    public byte[] getExtraData() {
+        return extraData;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getGasLimit() {
+        return gasLimit;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public byte[][] getTransactionHashes() {
+        return transactionHashes;
+    }
+
+    /** @return the full transactions, or an empty list if only hashes were requested */
+    public List<CompactTransaction> getTransactions() {
+        return transactions;
+    }
+
+    public byte[][] getUncles() {
+        return uncles;
+    }
+
+    static CompactBlock read(JsonParser parser) throws IOException {
+        CompactBlock block = new CompactBlock();
+        for (String field = CompactHex.firstFieldName(parser);
+                field != null;
+                field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "number":
+                    block.number = CompactHex.readLong(parser, -1);
+                    break;
+                case "hash":
+                    block.hash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "parentHash":
+                    block.parentHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "nonce":
+                    block.nonce = CompactHex.readData(parser);
+                    break;
+                case "sha3Uncles":
+                    block.sha3Uncles = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "logsBloom":
+                    block.logsBloom = CompactHex.readFixed(parser, BLOOM_LENGTH);
+                    break;
+                case "transactionsRoot":
+                    block.transactionsRoot = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "stateRoot":
+                    block.stateRoot = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "receiptsRoot":
+                    block.receiptsRoot = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "miner":
+                    block.miner = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "mixHash":
+                    block.mixHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "difficulty":
+                    block.difficulty = CompactHex.readQuantity(parser);
+                    break;
+                case "totalDifficulty":
+                    block.totalDifficulty = CompactHex.readQuantity(parser);
+                    break;
+                case "extraData":
+                    block.extraData = CompactHex.readData(parser);
+                    break;
+                case "size":
+                    block.size = CompactHex.readLong(parser, 0);
+                    break;
+                case "gasLimit":
+                    block.gasLimit = CompactHex.readLong(parser, 0);
+                    break;
+                case "gasUsed":
+                    block.gasUsed = CompactHex.readLong(parser, 0);
+                    break;
+                case "timestamp":
+                    block.timestamp = CompactHex.readLong(parser, 0);
+                    break;
+                case "transactions":
+                    readTransactions(parser, block);
+                    break;
+                case "uncles":
+                    block.uncles = CompactHex.readFixedArray(parser, HASH_LENGTH);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return block;
+    }
+
+    private static void readTransactions(JsonParser parser, CompactBlock block)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        CompactHex.expect(parser, JsonToken.START_ARRAY);
+        List<byte[]> hashes = new ArrayList<>();
+        List<CompactTransaction> transactions = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == JsonToken.START_OBJECT) {
+                CompactTransaction transaction = CompactTransaction.read(parser);
+                transactions.add(transaction);
+                hashes.add(transaction.getHash());
+            } else {
+                hashes.add(CompactHex.readFixed(parser, HASH_LENGTH));
+            }
+        }
+        block.transactionHashes = hashes.toArray(new byte[hashes.size()][]);
+        if (!transactions.isEmpty()) {
+            block.transactions = transactions;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactBlock)) {
+            return false;
+        }
+
+        CompactBlock that = (CompactBlock) o;
+
+        return number == that.number
+                && size == that.size
+                && gasLimit == that.gasLimit
+                && gasUsed == that.gasUsed
+                && timestamp == that.timestamp
+                && Arrays.equals(hash, that.hash)
+                && Arrays.equals(parentHash, that.parentHash)
+                && Arrays.equals(nonce, that.nonce)
+                && Arrays.equals(sha3Uncles, that.sha3Uncles)
+                && Arrays.equals(logsBloom, that.logsBloom)
+                && Arrays.equals(transactionsRoot, that.transactionsRoot)
+                && Arrays.equals(stateRoot, that.stateRoot)
+                && Arrays.equals(receiptsRoot, that.receiptsRoot)
+                && Arrays.equals(miner, that.miner)
+                && Arrays.equals(mixHash, that.mixHash)
+                && Arrays.equals(difficulty, that.difficulty)
+                && Arrays.equals(totalDifficulty, that.totalDifficulty)
+                && Arrays.equals(extraData, that.extraData)
+                && Arrays.deepEquals(transactionHashes, that.transactionHashes)
+                && transactions.equals(that.transactions)
+                && Arrays.deepEquals(uncles, that.uncles);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(number);
+        result = 31 * result + Arrays.hashCode(hash);
+        result = 31 * result + Arrays.hashCode(parentHash);
+        result = 31 * result + Arrays.hashCode(nonce);
+        result = 31 * result + Arrays.hashCode(sha3Uncles);
+        result = 31 * result + Arrays.hashCode(logsBloom);
+        result = 31 * result + Arrays.hashCode(transactionsRoot);
+        result = 31 * result + Arrays.hashCode(stateRoot);
+        result = 31 * result + Arrays.hashCode(receiptsRoot);
+        result = 31 * result + Arrays.hashCode(miner);
+        result = 31 * result + Arrays.hashCode(mixHash);
+        result = 31 * result + Arrays.hashCode(difficulty);
+        result = 31 * result + Arrays.hashCode(totalDifficulty);
+        result = 31 * result + Arrays.hashCode(extraData);
+        result = 31 * result + Long.hashCode(size);
+        result = 31 * result + Long.hashCode(gasLimit);
+        result = 31 * result + Long.hashCode(gasUsed);
+        result = 31 * result + Long.hashCode(timestamp);
+        result = 31 * result + Arrays.deepHashCode(transactionHashes);
+        result = 31 * result + transactions.hashCode();
+        result = 31 * result + Arrays.deepHashCode(uncles);
+        return result;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactBlock> {
+        @Override
+        public CompactBlock deserialize(
+                JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException {
+            return read(jsonParser);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Decodes hex encoded JSON-RPC values straight from the parser's character buffer, without
+ * creating intermediate strings.
+ */
+final class CompactHex {
+
+    static final int HASH_LENGTH = 32;
+    static final int ADDRESS_LENGTH = 20;
+    static final int BLOOM_LENGTH = 256;
+
+    private CompactHex() {}
+
+    /** @return the first field name of the object the parser is positioned at */
+    static String firstFieldName(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.FIELD_NAME) {
+            return parser.getCurrentName();
+        }
+        return parser.nextFieldName();
+    }
+
+    /** Read a value of at most {@code length} bytes, left padded to exactly {@code length}. */
+    static byte[] readFixed(JsonParser parser, int length) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        char[] chars = text(parser);
+        int end = parser.getTextOffset() + parser.getTextLength();
+        int start = skipPrefix(chars, parser.getTextOffset(), end);
+        if (end - start > length * 2) {
+            throw new JsonParseException(parser, "Value exceeds " + length + " bytes");
+        }
+        return decode(parser, chars, start, end, length);
+    }
+
+    /** Read unformatted data of any length. */
+    static byte[] readData(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        char[] chars = text(parser);
+        int end = parser.getTextOffset() + parser.getTextLength();
+        int start = skipPrefix(chars, parser.getTextOffset(), end);
+        return decode(parser, chars, start, end, (end - start + 1) / 2);
+    }
+
+    /** Read a quantity as its unsigned big-endian magnitude, without leading zero bytes. */
+    static byte[] readQuantity(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        char[] chars = text(parser);
+        int end = parser.getTextOffset() + parser.getTextLength();
+        int start = skipLeadingZeros(chars, skipPrefix(chars, parser.getTextOffset(), end), end);
+        return decode(parser, chars, start, end, (end - start + 1) / 2);
+    }
+
+    /**
+     * Read a quantity that fits in a {@code long}.
+     *
+     * @return the value, or {@code nullValue} if the value is null
+     */
+    static long readLong(JsonParser parser, long nullValue) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return nullValue;
+        } else if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        char[] chars = text(parser);
+        int end = parser.getTextOffset() + parser.getTextLength();
+        int start = skipLeadingZeros(chars, skipPrefix(chars, parser.getTextOffset(), end), end);
+        if (end - start > 16) {
+            throw new JsonParseException(parser, "Quantity does not fit in a long");
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value << 4 | digit(parser, chars[i]);
+        }
+        return value;
+    }
+
+    /** Read an array of values of at most {@code length} bytes each. */
+    static byte[][] readFixedArray(JsonParser parser, int length) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        List<byte[]> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(readFixed(parser, length));
+        }
+        return values.toArray(new byte[values.size()][]);
+    }
+
+    static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.getCurrentToken() != token) {
+            throw new JsonParseException(
+                    parser, "Expected " + token + " but was " + parser.getCurrentToken());
+        }
+    }
+
+    private static char[] text(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.VALUE_STRING);
+        return parser.getTextCharacters();
+    }
+
+    private static int skipPrefix(char[] chars, int start, int end) {
+        if (end - start >= 2 && chars[start] == '0' && (chars[start + 1] | 0x20) == 'x') {
+            return start + 2;
+        }
+        return start;
+    }
+
+    private static int skipLeadingZeros(char[] chars, int start, int end) {
+        while (start < end && chars[start] == '0') {
+            start++;
+        }
+        return start;
+    }
+
+    private static byte[] decode(JsonParser parser, char[] chars, int start, int end, int length)
+            throws IOException {
+        byte[] bytes = new byte[length];
+        // position of the first digit in nibbles, so that the value is right aligned
+        int position = length * 2 - (end - start);
+        for (int i = start; i < end; i++, position++) {
+            int digit = digit(parser, chars[i]);
+            bytes[position >> 1] |= (position & 1) == 0 ? digit << 4 : digit;
+        }
+        return bytes;
+    }
+
+    private static int digit(JsonParser parser, char c) throws IOException {
+        int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new JsonParseException(parser, "Invalid hex character '" + c + "'");
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.ADDRESS_LENGTH;
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.HASH_LENGTH;
+
+/**
+ * Compact alternative to {@link org.web3j.protocol.core.methods.response.Log}, holding hashes and
+ * addresses as raw bytes and numbers as {@code long}s.
+ *
+ * <p>Returned arrays are not copied. Block number, log index and transaction index are {@code -1}
+ * for pending logs.
+ */
+@JsonDeserialize(using = CompactLog.Deserializer.class)
+public class CompactLog {
+
+    private boolean removed;
+    private long logIndex = -1;
+    private long transactionIndex = -1;
+    private byte[] transactionHash;
+    private byte[] blockHash;
+    private long blockNumber = -1;
+    private byte[] address;
+    private byte[] data;
+    private byte[][] topics;
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    public long getLogIndex() {
+        return logIndex;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getTransactionHash() {
+        return transactionHash;
+    }
+
+    public byte[] getBlockHash() {
+        return blockHash;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public byte[] getAddress() {
+        return address;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public byte[][] getTopics() {
+        return topics;
+    }
+
+    static CompactLog read(JsonParser parser) throws IOException {
+        CompactLog log = new CompactLog();
+        for (String field = CompactHex.firstFieldName(parser);
+                field != null;
+                field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "removed":
+                    log.removed = parser.getValueAsBoolean();
+                    break;
+                case "logIndex":
+                    log.logIndex = CompactHex.readLong(parser, -1);
+                    break;
+                case "transactionIndex":
+                    log.transactionIndex = CompactHex.readLong(parser, -1);
+                    break;
+                case "transactionHash":
+                    log.transactionHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "blockHash":
+                    log.blockHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "blockNumber":
+                    log.blockNumber = CompactHex.readLong(parser, -1);
+                    break;
+                case "address":
+                    log.address = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "data":
+                    log.data = CompactHex.readData(parser);
+                    break;
+                case "topics":
+                    log.topics = CompactHex.readFixedArray(parser, HASH_LENGTH);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return log;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactLog)) {
+            return false;
+        }
+
+        CompactLog that = (CompactLog) o;
+
+        return removed == that.removed
+                && logIndex == that.logIndex
+                && transactionIndex == that.transactionIndex
+                && blockNumber == that.blockNumber
+                && Arrays.equals(transactionHash, that.transactionHash)
+                && Arrays.equals(blockHash, that.blockHash)
+                && Arrays.equals(address, that.address)
+                && Arrays.equals(data, that.data)
+                && Arrays.deepEquals(topics, that.topics);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(removed);
+        result = 31 * result + Long.hashCode(logIndex);
+        result = 31 * result + Long.hashCode(transactionIndex);
+        result = 31 * result + Arrays.hashCode(transactionHash);
+        result = 31 * result + Arrays.hashCode(blockHash);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Arrays.hashCode(address);
+        result = 31 * result + Arrays.hashCode(data);
+        result = 31 * result + Arrays.deepHashCode(topics);
+        return result;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactLog> {
+        @Override
+        public CompactLog deserialize(
+                JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException {
+            return read(jsonParser);
+        }
+    }
+}
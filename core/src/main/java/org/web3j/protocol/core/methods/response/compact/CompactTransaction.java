@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.ADDRESS_LENGTH;
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.HASH_LENGTH;
+
+/**
+ * Compact alternative to {@link org.web3j.protocol.core.methods.response.Transaction}, holding
+ * hashes and addresses as raw bytes and numbers as {@code long}s. Value and gas price are kept as
+ * their raw magnitude and only converted to a {@link BigInteger} when requested.
+ *
+ * <p>Returned arrays are not copied. Block number and transaction index are {@code -1} for pending
+ * transactions.
+ */
+@JsonDeserialize(using = CompactTransaction.Deserializer.class)
+public class CompactTransaction {
+
+    private byte[] hash;
+    private long nonce;
+    private byte[] blockHash;
+    private long blockNumber = -1;
+    private long transactionIndex = -1;
+    private byte[] from;
+    private byte[] to;
+    private byte[] value;
+    private byte[] gasPrice;
+    private long gas;
+    private byte[] input;
+    private byte[] creates;
+    private byte[] r;
+    private byte[] s;
+    private long v;
+
+    public byte[] getHash() {
+        return hash;
+    }
+
+    public long getNonce() {
+        return nonce;
+    }
+
+    public byte[] getBlockHash() {
+        return blockHash;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getFrom() {
+        return from;
+    }
+
+    /** @return the recipient, or null for contract creation */
+    public byte[] getTo() {
+        return to;
+    }
+
+    public BigInteger getValue() {
+        return value != null ? new BigInteger(1, value) : null;
+    }
+
+    public BigInteger getGasPrice() {
+        return gasPrice != null ? new BigInteger(1, gasPrice) : null;
+    }
+
+    public long getGas() {
+        return gas;
+    }
+
+    public byte[] getInput() {
+        return input;
+    }
+
+    public byte[] getCreates() {
+        return creates;
+    }
+
+    public byte[] getR() {
+        return r;
+    }
+
+    public byte[] getS() {
+        return s;
+    }
+
+    public long getV() {
+        return v;
+    }
+
+    static CompactTransaction read(JsonParser parser) throws IOException {
+        CompactTransaction transaction = new CompactTransaction();
+        for (String field = CompactHex.firstFieldName(parser);
+                field != null;
+                field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "hash":
+                    transaction.hash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "nonce":
+                    transaction.nonce = CompactHex.readLong(parser, 0);
+                    break;
+                case "blockHash":
+                    transaction.blockHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "blockNumber":
+                    transaction.blockNumber = CompactHex.readLong(parser, -1);
+                    break;
+                case "transactionIndex":
+                    transaction.transactionIndex = CompactHex.readLong(parser, -1);
+                    break;
+                case "from":
+                    transaction.from = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "to":
+                    transaction.to = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "value":
+                    transaction.value = CompactHex.readQuantity(parser);
+                    break;
+                case "gasPrice":
+                    transaction.gasPrice = CompactHex.readQuantity(parser);
+                    break;
+                case "gas":
+                    transaction.gas = CompactHex.readLong(parser, 0);
+                    break;
+                case "input":
+                    transaction.input = CompactHex.readData(parser);
+                    break;
+                case "creates":
+                    transaction.creates = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "r":
+                    transaction.r = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "s":
+                    transaction.s = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "v":
+                    transaction.v = CompactHex.readLong(parser, 0);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return transaction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactTransaction)) {
+            return false;
+        }
+
+        CompactTransaction that = (CompactTransaction) o;
+
+        return nonce == that.nonce
+                && blockNumber == that.blockNumber
+                && transactionIndex == that.transactionIndex
+                && gas == that.gas
+                && v == that.v
+                && Arrays.equals(hash, that.hash)
+                && Arrays.equals(blockHash, that.blockHash)
+                && Arrays.equals(from, that.from)
+                && Arrays.equals(to, that.to)
+                && Arrays.equals(value, that.value)
+                && Arrays.equals(gasPrice, that.gasPrice)
+                && Arrays.equals(input, that.input)
+                && Arrays.equals(creates, that.creates)
+                && Arrays.equals(r, that.r)
+                && Arrays.equals(s, that.s);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(hash);
+        result = 31 * result + Long.hashCode(nonce);
+        result = 31 * result + Arrays.hashCode(blockHash);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Long.hashCode(transactionIndex);
+        result = 31 * result + Arrays.hashCode(from);
+        result = 31 * result + Arrays.hashCode(to);
+        result = 31 * result + Arrays.hashCode(value);
+        result = 31 * result + Arrays.hashCode(gasPrice);
+        result = 31 * result + Long.hashCode(gas);
+        result = 31 * result + Arrays.hashCode(input);
+        result = 31 * result + Arrays.hashCode(creates);
+        result = 31 * result + Arrays.hashCode(r);
+        result = 31 * result + Arrays.hashCode(s);
+        result = 31 * result + Long.hashCode(v);
+        return result;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactTransaction> {
+        @Override
+        public CompactTransaction deserialize(
+                JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException {
+            return read(jsonParser);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.ADDRESS_LENGTH;
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.BLOOM_LENGTH;
+import static org.web3j.protocol.core.methods.response.compact.CompactHex.HASH_LENGTH;
+
+/**
+ * Compact alternative to {@link org.web3j.protocol.core.methods.response.TransactionReceipt},
+ * holding hashes, addresses and the logs bloom as raw bytes and numbers as {@code long}s.
+ *
+ * <p>Returned arrays are not copied. The status is {@code -1} for receipts of transactions before
+ * Byzantium, which carry a state root instead.
+ */
+@JsonDeserialize(using = CompactTransactionReceipt.Deserializer.class)
+public class CompactTransactionReceipt {
+
+    private byte[] transactionHash;
+    private long transactionIndex;
+    private byte[] blockHash;
+    private long blockNumber;
+    private long cumulativeGasUsed;
+    private long gasUsed;
+    private byte[] contractAddress;
+    private byte[] root;
+    private int status = -1;
+    private byte[] from;
+    private byte[] to;
+    private List<CompactLog> logs = Collections.emptyList();
+    private byte[] logsBloom;
+    private String revertReason;
+
+    public byte[] getTransactionHash() {
+        return transactionHash;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getBlockHash() {
+        return blockHash;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public long getCumulativeGasUsed() {
+        return cumulativeGasUsed;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public byte[] getContractAddress() {
+        return contractAddress;
+    }
+
+    public byte[] getRoot() {
+        return root;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isStatusOK() {
+        return status == -1 || status == 1;
+    }
+
+    public byte[] getFrom() {
+        return from;
+    }
+
+    public byte[] getTo() {
+        return to;
+    }
+
+    public List<CompactLog> getLogs() {
+        return logs;
+    }
+
+    public byte[] getLogsBloom() {
+        return logsBloom;
+    }
+
+    public String getRevertReason() {
+        return revertReason;
+    }
+
+    static CompactTransactionReceipt read(JsonParser parser) throws IOException {
+        CompactTransactionReceipt receipt = new CompactTransactionReceipt();
+        for (String field = CompactHex.firstFieldName(parser);
+                field != null;
+                field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "transactionHash":
+                    receipt.transactionHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "transactionIndex":
+                    receipt.transactionIndex = CompactHex.readLong(parser, -1);
+                    break;
+                case "blockHash":
+                    receipt.blockHash = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "blockNumber":
+                    receipt.blockNumber = CompactHex.readLong(parser, -1);
+                    break;
+                case "cumulativeGasUsed":
+                    receipt.cumulativeGasUsed = CompactHex.readLong(parser, 0);
+                    break;
+                case "gasUsed":
+                    receipt.gasUsed = CompactHex.readLong(parser, 0);
+                    break;
+                case "contractAddress":
+                    receipt.contractAddress = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "root":
+                    receipt.root = CompactHex.readFixed(parser, HASH_LENGTH);
+                    break;
+                case "status":
+                    receipt.status = (int) CompactHex.readLong(parser, -1);
+                    break;
+                case "from":
+                    receipt.from = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "to":
+                    receipt.to = CompactHex.readFixed(parser, ADDRESS_LENGTH);
+                    break;
+                case "logs":
+                    receipt.logs = readLogs(parser);
+                    break;
+                case "logsBloom":
+                    receipt.logsBloom = CompactHex.readFixed(parser, BLOOM_LENGTH);
+                    break;
+                case "revertReason":
+                    receipt.revertReason = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return receipt;
+    }
+
+    private static List<CompactLog> readLogs(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return Collections.emptyList();
+        }
+        CompactHex.expect(parser, JsonToken.START_ARRAY);
+        List<CompactLog> logs = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            logs.add(CompactLog.read(parser));
+        }
+        return logs;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactTransactionReceipt)) {
+            return false;
+        }
+
+        CompactTransactionReceipt that = (CompactTransactionReceipt) o;
+
+        return transactionIndex == that.transactionIndex
+                && blockNumber == that.blockNumber
+                && cumulativeGasUsed == that.cumulativeGasUsed
+                && gasUsed == that.gasUsed
+                && status == that.status
+                && Arrays.equals(transactionHash, that.transactionHash)
+                && Arrays.equals(blockHash, that.blockHash)
+                && Arrays.equals(contractAddress, that.contractAddress)
+                && Arrays.equals(root, that.root)
+                && Arrays.equals(from, that.from)
+                && Arrays.equals(to, that.to)
+                && logs.equals(that.logs)
+                && Arrays.equals(logsBloom, that.logsBloom)
+                && Objects.equals(revertReason, that.revertReason);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(transactionHash);
+        result = 31 * result + Long.hashCode(transactionIndex);
+        result = 31 * result + Arrays.hashCode(blockHash);
+        result = 31 * result + Long.hashCode(blockNumber);
+        result = 31 * result + Long.hashCode(cumulativeGasUsed);
+        result = 31 * result + Long.hashCode(gasUsed);
+        result = 31 * result + Arrays.hashCode(contractAddress);
+        result = 31 * result + Arrays.hashCode(root);
+        result = 31 * result + status;
+        result = 31 * result + Arrays.hashCode(from);
+        result = 31 * result + Arrays.hashCode(to);
+        result = 31 * result + logs.hashCode();
+        result = 31 * result + Arrays.hashCode(logsBloom);
+        result = 31 * result + Objects.hashCode(revertReason);
+        return result;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactTransactionReceipt> {
+        @Override
+        public CompactTransactionReceipt deserialize(
+                JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException {
+            return read(jsonParser);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/** Streaming deserializer for {@link EthBlock.Block} and its subclasses. */
+public class BlockDeserializer<T extends EthBlock.Block> extends StreamingObjectDeserializer<T> {
+
+    private final EthBlock.ResultTransactionDeserialiser transactionsDeserializer =
+            new EthBlock.ResultTransactionDeserialiser();
+
+    public BlockDeserializer(Class<T> type, Supplier<T> factory) {
+        super(type, factory);
+    }
+
+    @Override
+    protected boolean readField(
+            T block,
+            String field,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext)
+            throws IOException {
+        switch (field) {
+            case "number":
+                block.setNumber(jsonParser.getValueAsString());
+                return true;
+            case "hash":
+                block.setHash(jsonParser.getValueAsString());
+                return true;
+            case "parentHash":
+                block.setParentHash(jsonParser.getValueAsString());
+                return true;
+            case "nonce":
+                block.setNonce(jsonParser.getValueAsString());
+                return true;
+            case "sha3Uncles":
+                block.setSha3Uncles(jsonParser.getValueAsString());
+                return true;
+            case "logsBloom":
+                block.setLogsBloom(jsonParser.getValueAsString());
+                return true;
+            case "transactionsRoot":
+                block.setTransactionsRoot(jsonParser.getValueAsString());
+                return true;
+            case "stateRoot":
+                block.setStateRoot(jsonParser.getValueAsString());
+                return true;
+            case "receiptsRoot":
+                block.setReceiptsRoot(jsonParser.getValueAsString());
+                return true;
+            case "author":
+                block.setAuthor(jsonParser.getValueAsString());
+                return true;
+            case "miner":
+                block.setMiner(jsonParser.getValueAsString());
+                return true;
+            case "mixHash":
+                block.setMixHash(jsonParser.getValueAsString());
+                return true;
+            case "difficulty":
+                block.setDifficulty(jsonParser.getValueAsString());
+                return true;
+            case "totalDifficulty":
+                block.setTotalDifficulty(jsonParser.getValueAsString());
+                return true;
+            case "extraData":
+                block.setExtraData(jsonParser.getValueAsString());
+                return true;
+            case "size":
+                block.setSize(jsonParser.getValueAsString());
+                return true;
+            case "gasLimit":
+                block.setGasLimit(jsonParser.getValueAsString());
+                return true;
+            case "gasUsed":
+                block.setGasUsed(jsonParser.getValueAsString());
+                return true;
+            case "timestamp":
+                block.setTimestamp(jsonParser.getValueAsString());
+                return true;
+            case "transactions":
+                if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                    block.setTransactions(
+                            transactionsDeserializer.deserialize(
+                                    jsonParser, deserializationContext));
+                }
+                return true;
+            case "uncles":
+                block.setUncles(readStrings(jsonParser));
+                return true;
+            case "sealFields":
+                block.setSealFields(readStrings(jsonParser));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
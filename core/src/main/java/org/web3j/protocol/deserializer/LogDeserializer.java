@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import org.web3j.protocol.core.methods.response.Log;
+
+/** Streaming deserializer for {@link Log} and its subclasses. */
+public class LogDeserializer<T extends Log> extends StreamingObjectDeserializer<T> {
+
+    public LogDeserializer(Class<T> type, Supplier<T> factory) {
+        super(type, factory);
+    }
+
+    @Override
+    protected boolean readField(
+            T log,
+            String field,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext)
+            throws IOException {
+        switch (field) {
+            case "removed":
+                log.setRemoved(jsonParser.getValueAsBoolean());
+                return true;
+            case "logIndex":
+                log.setLogIndex(jsonParser.getValueAsString());
+                return true;
+            case "transactionIndex":
+                log.setTransactionIndex(jsonParser.getValueAsString());
+                return true;
+            case "transactionHash":
+                log.setTransactionHash(jsonParser.getValueAsString());
+                return true;
+            case "blockHash":
+                log.setBlockHash(jsonParser.getValueAsString());
+                return true;
+            case "blockNumber":
+                log.setBlockNumber(jsonParser.getValueAsString());
+                return true;
+            case "address":
+                log.setAddress(jsonParser.getValueAsString());
+                return true;
+            case "data":
+                log.setData(jsonParser.getValueAsString());
+                return true;
+            case "type":
+                log.setType(jsonParser.getValueAsString());
+                return true;
+            case "topics":
+                log.setTopics(readStrings(jsonParser));
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Base for deserializers which bind the fields of a JSON object by name as they are streamed from
+ * the parser, without reflection or an intermediate tree. Unknown fields are skipped.
+ */
+public abstract class StreamingObjectDeserializer<T> extends StdDeserializer<T> {
+
+    private final Supplier<? extends T> factory;
+
+    protected StreamingObjectDeserializer(Class<T> type, Supplier<? extends T> factory) {
+        super(type);
+        this.factory = factory;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser jsonParser, DeserializationContext deserializationContext)
+            throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (T) deserializationContext.handleUnexpectedToken(handledType(), jsonParser);
+        }
+
+        T value = factory.get();
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            String field = jsonParser.getCurrentName();
+            jsonParser.nextToken();
+            if (!readField(value, field, jsonParser, deserializationContext)) {
+                jsonParser.skipChildren();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Read the value of a field, with the parser positioned at its first token.
+     *
+     * @return false if the field is unknown and should be skipped
+     */
+    protected abstract boolean readField(
+            T value,
+            String field,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext)
+            throws IOException;
+
+    /** @return the strings of a JSON array, or null */
+    protected static List<String> readStrings(JsonParser jsonParser) throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(jsonParser.getValueAsString());
+        }
+        return values;
+    }
+
+    /** @return the values of a JSON array read with the given deserializer, or null */
+    protected static <E> List<E> readList(
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext,
+            JsonDeserializer<E> deserializer)
+            throws IOException {
+        if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        List<E> values = new ArrayList<>();
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(
+                    jsonParser.getCurrentToken() == JsonToken.VALUE_NULL
+                            ? null
+                            : deserializer.deserialize(jsonParser, deserializationContext));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import org.web3j.protocol.core.methods.response.Transaction;
+
+/** Streaming deserializer for {@link Transaction} and its subclasses. */
+public class TransactionDeserializer<T extends Transaction> extends StreamingObjectDeserializer<T> {
+
+    public TransactionDeserializer(Class<T> type, Supplier<T> factory) {
+        super(type, factory);
+    }
+
+    @Override
+    protected boolean readField(
+            T transaction,
+            String field,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext)
+            throws IOException {
+        switch (field) {
+            case "hash":
+                transaction.setHash(jsonParser.getValueAsString());
+                return true;
+            case "nonce":
+                transaction.setNonce(jsonParser.getValueAsString());
+                return true;
+            case "blockHash":
+                transaction.setBlockHash(jsonParser.getValueAsString());
+                return true;
+            case "blockNumber":
+                transaction.setBlockNumber(jsonParser.getValueAsString());
+                return true;
+            case "transactionIndex":
+                transaction.setTransactionIndex(jsonParser.getValueAsString());
+                return true;
+            case "from":
+                transaction.setFrom(jsonParser.getValueAsString());
+                return true;
+            case "to":
+                transaction.setTo(jsonParser.getValueAsString());
+                return true;
+            case "value":
+                transaction.setValue(jsonParser.getValueAsString());
+                return true;
+            case "gasPrice":
+                transaction.setGasPrice(jsonParser.getValueAsString());
+                return true;
+            case "gas":
+                transaction.setGas(jsonParser.getValueAsString());
+                return true;
+            case "input":
+                transaction.setInput(jsonParser.getValueAsString());
+                return true;
+            case "creates":
+                transaction.setCreates(jsonParser.getValueAsString());
+                return true;
+            case "publicKey":
+                transaction.setPublicKey(jsonParser.getValueAsString());
+                return true;
+            case "raw":
+                transaction.setRaw(jsonParser.getValueAsString());
+                return true;
+            case "r":
+                transaction.setR(jsonParser.getValueAsString());
+                return true;
+            case "s":
+                transaction.setS(jsonParser.getValueAsString());
+                return true;
+            case "v":
+                readV(transaction, jsonParser);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Parity returns v as a number and Geth as a hex-encoded string, see Transaction#setV
+    private static void readV(Transaction transaction, JsonParser jsonParser) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            transaction.setV(jsonParser.getText());
+        } else if (token == JsonToken.VALUE_NUMBER_INT) {
+            transaction.setV(jsonParser.getLongValue());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/** Streaming deserializer for {@link TransactionReceipt} and its subclasses. */
+public class TransactionReceiptDeserializer<T extends TransactionReceipt>
+        extends StreamingObjectDeserializer<T> {
+
+    private final LogDeserializer<Log> logDeserializer =
+            new LogDeserializer<>(Log.class, Log::new);
+
+    public TransactionReceiptDeserializer(Class<T> type, Supplier<T> factory) {
+        super(type, factory);
+    }
+
+    @Override
+    protected boolean readField(
+            T receipt,
+            String field,
+            JsonParser jsonParser,
+            DeserializationContext deserializationContext)
+            throws IOException {
+        switch (field) {
+            case "transactionHash":
+                receipt.setTransactionHash(jsonParser.getValueAsString());
+                return true;
+            case "transactionIndex":
+                receipt.setTransactionIndex(jsonParser.getValueAsString());
+                return true;
+            case "blockHash":
+                receipt.setBlockHash(jsonParser.getValueAsString());
+                return true;
+            case "blockNumber":
+                receipt.setBlockNumber(jsonParser.getValueAsString());
+                return true;
+            case "cumulativeGasUsed":
+                receipt.setCumulativeGasUsed(jsonParser.getValueAsString());
+                return true;
+            case "gasUsed":
+                receipt.setGasUsed(jsonParser.getValueAsString());
+                return true;
+            case "contractAddress":
+                receipt.setContractAddress(jsonParser.getValueAsString());
+                return true;
+            case "root":
+                receipt.setRoot(jsonParser.getValueAsString());
+                return true;
+            case "status":
+                receipt.setStatus(jsonParser.getValueAsString());
+                return true;
+            case "from":
+                receipt.setFrom(jsonParser.getValueAsString());
+                return true;
+            case "to":
+                receipt.setTo(jsonParser.getValueAsString());
+                return true;
+            case "logs":
+                receipt.setLogs(readList(jsonParser, deserializationContext, logDeserializer));
+                return true;
+            case "logsBloom":
+                receipt.setLogsBloom(jsonParser.getValueAsString());
+                return true;
+            case "revertReason":
+                receipt.setRevertReason(jsonParser.getValueAsString());
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -33,8 +33,10 @@ import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.web3j.protocol.PayloadBuffer;
 import org.web3j.protocol.Service;
 import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.metrics.RequestTimer;
 
 import static okhttp3.ConnectionSpec.CLEARTEXT;
 
@@ -150,14 +152,29 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        return performIO(request, RequestTimer.NONE);
+    }
+
+    @Override
+    protected InputStream performIO(String request, RequestTimer timer) throws IOException {
+        return post(RequestBody.create(request, JSON_MEDIA_TYPE), timer);
+    }
+
+    @Override
+    protected InputStream performIO(PayloadBuffer request, RequestTimer timer) throws IOException {
+        // the body is written during the call, before the buffer is released
+        return post(RequestBody.create(request.array(), JSON_MEDIA_TYPE, 0, request.size()), timer);
+    }
 
-        RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
+    private InputStream post(RequestBody requestBody, RequestTimer timer) throws IOException {
         Headers headers = buildHeaders();
 
         okhttp3.Request httpRequest =
                 new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
 
+        timer.dispatched();
         okhttp3.Response response = httpClient.newCall(httpRequest).execute();
+        timer.firstByte();
         processHeaders(response.headers());
         ResponseBody responseBody = response.body();
         if (response.isSuccessful()) {
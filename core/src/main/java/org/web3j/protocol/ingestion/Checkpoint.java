@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Position of an event consumer. All logs in blocks before {@link #getBlockNumber()}, and all logs
+ * of that block up to and including {@link #getLogIndex()} have been processed. A log index of -1
+ * means no logs of the block have been processed.
+ */
+public class Checkpoint {
+
+    private final BigInteger blockNumber;
+    private final String blockHash;
+    private final long logIndex;
+
+    public Checkpoint(BigInteger blockNumber, String blockHash, long logIndex) {
+        this.blockNumber = blockNumber;
+        this.blockHash = blockHash;
+        this.logIndex = logIndex;
+    }
+
+    public BigInteger getBlockNumber() {
+        return blockNumber;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    public long getLogIndex() {
+        return logIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Checkpoint that = (Checkpoint) o;
+        return logIndex == that.logIndex
+                && Objects.equals(blockNumber, that.blockNumber)
+                && Objects.equals(blockHash, that.blockHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(blockNumber, blockHash, logIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint{"
+                + "blockNumber="
+                + blockNumber
+                + ", blockHash='"
+                + blockHash
+                + '\''
+                + ", logIndex="
+                + logIndex
+                + '}';
+    }
+}
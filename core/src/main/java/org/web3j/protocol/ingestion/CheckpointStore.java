@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+/** Storage for the last committed {@link Checkpoint} of an event consumer. */
+public interface CheckpointStore extends Closeable {
+
+    /**
+     * Load the last committed checkpoint.
+     *
+     * @return the checkpoint, or empty if none has been committed
+     * @throws IOException if the store could not be read
+     */
+    Optional<Checkpoint> load() throws IOException;
+
+    /**
+     * Durably record a checkpoint, replacing the previous one.
+     *
+     * @param checkpoint checkpoint to commit
+     * @throws IOException if the checkpoint could not be written
+     */
+    void commit(Checkpoint checkpoint) throws IOException;
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+import io.reactivex.Flowable;
+import io.reactivex.functions.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.filters.BloomLogFetcher;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Resumable log ingestion driver.
+ *
+ * <p>Blocks are replayed from the last committed {@link Checkpoint}, or from the configured start
+ * block if there is none, and then followed as new blocks are created. Matching logs of each block
+ * are passed to the handler in order, and the position is committed to the {@link
+ * CheckpointStore} every {@code commitBlocks} blocks or {@code commitInterval} milliseconds,
+ * whichever comes first, as well as when ingestion stops.
+ *
+ * <p>On start the hash of the checkpointed block is compared with the canonical chain. If it no
+ * longer matches, ingestion is rewound by {@code reorgDepth} blocks. Delivery is therefore
+ * at-least-once, handlers should be idempotent.
+ *
+ * <p>An ingestor tracks a single position, so its {@link Flowable} should only be subscribed to
+ * once at a time.
+ */
+public class CheckpointedLogIngestor {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointedLogIngestor.class);
+
+    public static final int DEFAULT_COMMIT_BLOCKS = 100;
+    public static final long DEFAULT_COMMIT_INTERVAL = 5_000;
+    public static final int DEFAULT_REORG_DEPTH = 64;
+
+    private final Web3j web3j;
+    private final BloomLogFetcher logFetcher;
+    private final CheckpointStore checkpointStore;
+    private final BigInteger startBlock;
+    private final int commitBlocks;
+    private final long commitInterval;
+    private final int reorgDepth;
+
+    private volatile Checkpoint pending;
+    private volatile Checkpoint committed;
+    private int uncommittedBlocks;
+    private long lastCommitTime;
+
+    public CheckpointedLogIngestor(
+            Web3j web3j,
+            EthFilter ethFilter,
+            CheckpointStore checkpointStore,
+            BigInteger startBlock) {
+        this(
+                web3j,
+                ethFilter,
+                checkpointStore,
+                startBlock,
+                DEFAULT_COMMIT_BLOCKS,
+                DEFAULT_COMMIT_INTERVAL,
+                DEFAULT_REORG_DEPTH);
+    }
+
+    /**
+     * Create a new ingestor.
+     *
+     * @param web3j web3j instance
+     * @param ethFilter addresses and topics of the logs to ingest, the block range is ignored
+     * @param checkpointStore store to resume from and commit to
+     * @param startBlock block to start from when no checkpoint has been committed
+     * @param commitBlocks maximum number of processed blocks between commits
+     * @param commitInterval maximum time in milliseconds between commits
+     * @param reorgDepth number of blocks to rewind if the checkpointed block has been reorganised
+     */
+    public CheckpointedLogIngestor(
+            Web3j web3j,
+            EthFilter ethFilter,
+            CheckpointStore checkpointStore,
+            BigInteger startBlock,
+            int commitBlocks,
+            long commitInterval,
+            int reorgDepth) {
+        this.web3j = web3j;
+        this.logFetcher = new BloomLogFetcher(web3j, ethFilter);
+        this.checkpointStore = checkpointStore;
+        this.startBlock = startBlock;
+        this.commitBlocks = commitBlocks;
+        this.commitInterval = commitInterval;
+        this.reorgDepth = reorgDepth;
+    }
+
+    /**
+     * Start ingesting logs. Nothing happens until the returned {@link Flowable} is subscribed to,
+     * and ingestion stops when the subscription is disposed.
+     *
+     * @param handler invoked synchronously with each log, in block and log index order
+     * @return a {@link Flowable} instance that emits each committed checkpoint
+     */
+    public Flowable<Checkpoint> ingest(Consumer<Log> handler) {
+        return Flowable.defer(
+                () -> {
+                    Optional<Checkpoint> resumeFrom = resolveResumePoint();
+                    BigInteger fromBlock =
+                            resumeFrom.map(Checkpoint::getBlockNumber).orElse(startBlock);
+                    lastCommitTime = System.currentTimeMillis();
+
+                    return web3j.replayPastAndFutureBlocksFlowable(
+                                    new DefaultBlockParameterNumber(fromBlock), false)
+                            .concatMap(
+                                    ethBlock ->
+                                            process(ethBlock.getBlock(), resumeFrom, handler))
+                            .doFinally(this::commitPending);
+                });
+    }
+
+    private Optional<Checkpoint> resolveResumePoint() throws IOException {
+        Optional<Checkpoint> checkpoint = checkpointStore.load();
+        committed = checkpoint.orElse(null);
+        if (!checkpoint.isPresent()) {
+            return checkpoint;
+        }
+
+        Checkpoint resumeFrom = checkpoint.get();
+        EthBlock.Block block =
+                web3j.ethGetBlockByNumber(
+                                new DefaultBlockParameterNumber(resumeFrom.getBlockNumber()),
+                                false)
+                        .send()
+                        .getBlock();
+
+        if (block != null && !resumeFrom.getBlockHash().equals(block.getHash())) {
+            BigInteger rewindTo =
+                    resumeFrom
+                            .getBlockNumber()
+                            .subtract(BigInteger.valueOf(reorgDepth))
+                            .max(startBlock);
+            log.warn(
+                    "Checkpointed block {} is no longer canonical, rewinding to block {}",
+                    resumeFrom.getBlockHash(),
+                    rewindTo);
+            return Optional.of(new Checkpoint(rewindTo, null, -1));
+        }
+        return checkpoint;
+    }
+
+    private Flowable<Checkpoint> process(
+            EthBlock.Block block, Optional<Checkpoint> resumeFrom, Consumer<Log> handler)
+            throws Exception {
+        long skipUpTo = -1;
+        if (resumeFrom.isPresent()
+                && resumeFrom.get().getBlockNumber().equals(block.getNumber())) {
+            skipUpTo = resumeFrom.get().getLogIndex();
+        }
+
+        long lastLogIndex = skipUpTo;
+        List<Log> logs = logFetcher.fetchLogs(block);
+        for (Log eventLog : logs) {
+            long logIndex = eventLog.getLogIndex().longValueExact();
+            if (logIndex > skipUpTo) {
+                handler.accept(eventLog);
+                lastLogIndex = logIndex;
+            }
+        }
+
+        pending = new Checkpoint(block.getNumber(), block.getHash(), lastLogIndex);
+        uncommittedBlocks++;
+
+        if (uncommittedBlocks >= commitBlocks
+                || System.currentTimeMillis() - lastCommitTime >= commitInterval) {
+            return Flowable.just(commit(pending));
+        }
+        return Flowable.empty();
+    }
+
+    private Checkpoint commit(Checkpoint checkpoint) throws IOException {
+        checkpointStore.commit(checkpoint);
+        committed = checkpoint;
+        uncommittedBlocks = 0;
+        lastCommitTime = System.currentTimeMillis();
+        return checkpoint;
+    }
+
+    private void commitPending() {
+        Checkpoint checkpoint = pending;
+        if (checkpoint != null && !checkpoint.equals(committed)) {
+            try {
+                commit(checkpoint);
+            } catch (IOException e) {
+                log.error("Failed to commit checkpoint " + checkpoint, e);
+            }
+        }
+    }
+
+    public Checkpoint getCommittedCheckpoint() {
+        return committed;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Append-only local file checkpoint store. Each commit appends a single line to the file and
+ * forces it to disk. Once the file holds {@code maxEntries} lines it is compacted to the latest
+ * checkpoint, which is written to a temporary file and atomically moved into place.
+ *
+ * <p>A partially written trailing line, e.g. following a crash, is ignored when loading and
+ * truncated when the store is opened.
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private static final char SEPARATOR = ',';
+    private static final char NEW_LINE = '\n';
+
+    private final Path path;
+    private final int maxEntries;
+
+    private FileChannel channel;
+    private int entries;
+
+    public FileCheckpointStore(Path path) throws IOException {
+        this(path, DEFAULT_MAX_ENTRIES);
+    }
+
+    public FileCheckpointStore(Path path, int maxEntries) throws IOException {
+        this.path = path;
+        this.maxEntries = maxEntries;
+        this.channel = open(path);
+        this.entries = recover();
+    }
+
+    @Override
+    public synchronized Optional<Checkpoint> load() throws IOException {
+        String content = new String(Files.readAllBytes(path), StandardCharsets.US_ASCII);
+        int end = content.lastIndexOf(NEW_LINE);
+        if (end == -1) {
+            return Optional.empty();
+        }
+        int start = content.lastIndexOf(NEW_LINE, end - 1) + 1;
+        return Optional.of(decode(content.substring(start, end)));
+    }
+
+    @Override
+    public synchronized void commit(Checkpoint checkpoint) throws IOException {
+        if (entries >= maxEntries) {
+            compact(checkpoint);
+        } else {
+            write(channel, checkpoint);
+            entries++;
+        }
+    }
+
+    private void compact(Checkpoint checkpoint) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel compactedChannel =
+                FileChannel.open(
+                        compacted,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            write(compactedChannel, checkpoint);
+        }
+
+        channel.close();
+        Files.move(
+                compacted,
+                path,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        channel = open(path);
+        entries = 1;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /** Count the complete lines of the file, truncating any partially written trailing line. */
+    private int recover() throws IOException {
+        int lines = 0;
+        long length = 0;
+        long position = 0;
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            int b;
+            while ((b = inputStream.read()) != -1) {
+                position++;
+                if (b == NEW_LINE) {
+                    lines++;
+                    length = position;
+                }
+            }
+        }
+        if (position > length) {
+            channel.truncate(length);
+        }
+        return lines;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND,
+                StandardOpenOption.WRITE);
+    }
+
+    private static void write(FileChannel channel, Checkpoint checkpoint) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(encode(checkpoint).getBytes(StandardCharsets.US_ASCII));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    private static String encode(Checkpoint checkpoint) {
+        return checkpoint.getBlockNumber().toString()
+                + SEPARATOR
+                + checkpoint.getBlockHash()
+                + SEPARATOR
+                + checkpoint.getLogIndex()
+                + NEW_LINE;
+    }
+
+    private static Checkpoint decode(String line) throws IOException {
+        String[] fields = line.split(String.valueOf(SEPARATOR));
+        if (fields.length != 3) {
+            throw new IOException("Invalid checkpoint entry: " + line);
+        }
+        try {
+            return new Checkpoint(new BigInteger(fields[0]), fields[1], Long.parseLong(fields[2]));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid checkpoint entry: " + line, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.util.Optional;
+
+/** Checkpoint store held in memory, the position is lost when the process exits. */
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+    private volatile Checkpoint checkpoint;
+
+    @Override
+    public Optional<Checkpoint> load() {
+        return Optional.ofNullable(checkpoint);
+    }
+
+    @Override
+    public void commit(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    @Override
+    public void close() {}
+}
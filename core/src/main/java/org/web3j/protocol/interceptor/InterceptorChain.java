@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.interceptor;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.metrics.RequestTimings;
+
+/** Runs requests through {@link RequestInterceptor}s on behalf of a service. */
+public final class InterceptorChain {
+
+    private InterceptorChain() {}
+
+    /**
+     * Send a request through interceptors.
+     *
+     * @param interceptors interceptors, in order
+     * @param request request to send
+     * @param responseType type of the response
+     * @param timings timings of the request
+     * @param sender sends the request over the transport once all interceptors have proceeded
+     * @param <T> type of the response
+     * @return the response
+     * @throws IOException if the request failed
+     */
+    public static <T extends Response> T send(
+            List<RequestInterceptor> interceptors,
+            Request<?, ?> request,
+            Class<T> responseType,
+            RequestTimings timings,
+            Sender<T> sender)
+            throws IOException {
+        return new RequestChain<>(interceptors, 0, request, responseType, timings, sender)
+                .proceed(request);
+    }
+
+    /**
+     * Send a batch of requests through interceptors.
+     *
+     * @param interceptors interceptors, in order
+     * @param request batch to send
+     * @param timings timings of the batch
+     * @param sender sends the batch over the transport once all interceptors have proceeded
+     * @return the batch response
+     * @throws IOException if the batch failed
+     */
+    public static BatchResponse sendBatch(
+            List<RequestInterceptor> interceptors,
+            BatchRequest request,
+            RequestTimings timings,
+            BatchSender sender)
+            throws IOException {
+        return new BatchRequestChain(interceptors, 0, request, timings, sender).proceed(request);
+    }
+
+    /** Sends a request over a transport. */
+    @FunctionalInterface
+    public interface Sender<T extends Response> {
+        T send(Request<?, ?> request) throws IOException;
+    }
+
+    /** Sends a batch of requests over a transport. */
+    @FunctionalInterface
+    public interface BatchSender {
+        BatchResponse send(BatchRequest request) throws IOException;
+    }
+
+    private static class RequestChain<T extends Response> implements RequestInterceptor.Chain<T> {
+        private final List<RequestInterceptor> interceptors;
+        private final int index;
+        private final Request<?, ?> request;
+        private final Class<T> responseType;
+        private final RequestTimings timings;
+        private final Sender<T> sender;
+
+        RequestChain(
+                List<RequestInterceptor> interceptors,
+                int index,
+                Request<?, ?> request,
+                Class<T> responseType,
+                RequestTimings timings,
+                Sender<T> sender) {
+            this.interceptors = interceptors;
+            this.index = index;
+            this.request = request;
+            this.responseType = responseType;
+            this.timings = timings;
+            this.sender = sender;
+        }
+
+        @Override
+        public Request<?, ?> request() {
+            return request;
+        }
+
+        @Override
+        public Class<T> responseType() {
+            return responseType;
+        }
+
+        @Override
+        public RequestTimings timings() {
+            return timings;
+        }
+
+        @Override
+        public T proceed(Request<?, ?> request) throws IOException {
+            if (index == interceptors.size()) {
+                return sender.send(request);
+            }
+            return interceptors
+                    .get(index)
+                    .intercept(
+                            new RequestChain<>(
+                                    interceptors,
+                                    index + 1,
+                                    request,
+                                    responseType,
+                                    timings,
+                                    sender));
+        }
+    }
+
+    private static class BatchRequestChain implements RequestInterceptor.BatchChain {
+        private final List<RequestInterceptor> interceptors;
+        private final int index;
+        private final BatchRequest request;
+        private final RequestTimings timings;
+        private final BatchSender sender;
+
+        BatchRequestChain(
+                List<RequestInterceptor> interceptors,
+                int index,
+                BatchRequest request,
+                RequestTimings timings,
+                BatchSender sender) {
+            this.interceptors = interceptors;
+            this.index = index;
+            this.request = request;
+            this.timings = timings;
+            this.sender = sender;
+        }
+
+        @Override
+        public BatchRequest request() {
+            return request;
+        }
+
+        @Override
+        public RequestTimings timings() {
+            return timings;
+        }
+
+        @Override
+        public BatchResponse proceed(BatchRequest request) throws IOException {
+            if (index == interceptors.size()) {
+                return sender.send(request);
+            }
+            return interceptors
+                    .get(index)
+                    .interceptBatch(
+                            new BatchRequestChain(
+                                    interceptors, index + 1, request, timings, sender));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.interceptor;
+
+import java.io.IOException;
+
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.metrics.RequestTimings;
+
+/**
+ * Intercepts the requests of a service, independently of its transport. An interceptor usually
+ * proceeds along the chain, possibly with a different request or more than once, but may also
+ * return a response of its own, as caching, retrying, tracing or sampling policies do.
+ *
+ * <p>Interceptors are called in the order they were added to the service, on the thread sending
+ * the request.
+ */
+public interface RequestInterceptor {
+
+    /**
+     * Intercept a request.
+     *
+     * @param chain chain of the request
+     * @param <T> type of the response
+     * @return the response
+     * @throws IOException if the request failed
+     */
+    <T extends Response> T intercept(Chain<T> chain) throws IOException;
+
+    /**
+     * Intercept a batch of requests, by default proceeding with the batch unchanged.
+     *
+     * @param chain chain of the batch
+     * @return the batch response
+     * @throws IOException if the batch failed
+     */
+    default BatchResponse interceptBatch(BatchChain chain) throws IOException {
+        return chain.proceed(chain.request());
+    }
+
+    /** Chain of a request through the remaining interceptors to the transport. */
+    interface Chain<T extends Response> {
+
+        Request<?, ?> request();
+
+        Class<T> responseType();
+
+        /** @return timings of the request, updated as it proceeds */
+        RequestTimings timings();
+
+        /**
+         * Proceed with the next interceptor, or send the request if there is none.
+         *
+         * @param request request to proceed with
+         * @return the response
+         * @throws IOException if the request failed
+         */
+        T proceed(Request<?, ?> request) throws IOException;
+    }
+
+    /** Chain of a batch of requests through the remaining interceptors to the transport. */
+    interface BatchChain {
+
+        BatchRequest request();
+
+        /** @return timings of the batch, updated as it proceeds */
+        RequestTimings timings();
+
+        /**
+         * Proceed with the next interceptor, or send the batch if there is none.
+         *
+         * @param request batch to proceed with
+         * @return the batch response
+         * @throws IOException if the batch failed
+         */
+        BatchResponse proceed(BatchRequest request) throws IOException;
+    }
+}
@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.protocol.Service;
+import org.web3j.protocol.metrics.RequestTimer;
 
 /** Ipc service implementation. */
 public class IpcService extends Service {
@@ -40,7 +41,13 @@ public class IpcService extends Service {
 
     @Override
     protected InputStream performIO(String payload) throws IOException {
+        return performIO(payload, RequestTimer.NONE);
+    }
+
+    @Override
+    protected InputStream performIO(String payload, RequestTimer timer) throws IOException {
         IOFacade io = getIO();
+        timer.dispatched();
         io.write(payload);
         log.debug(">> " + payload);
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Metrics held in memory as a {@link Histogram} per measurement and JSON-RPC method. */
+public class InMemoryServiceMetrics implements ServiceMetrics {
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(RequestSample sample) {
+        methods.computeIfAbsent(sample.getMethod(), method -> new MethodMetrics())
+                .record(sample);
+    }
+
+    /** @return metrics by JSON-RPC method, with batches under {@link RequestSample#BATCH} */
+    public Map<String, MethodMetrics> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /** @return metrics of a method, or null if no request of the method has been recorded */
+    public MethodMetrics getMethod(String method) {
+        return methods.get(method);
+    }
+
+    /** Drop all recorded metrics. */
+    public void reset() {
+        methods.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "InMemoryServiceMetrics" + methods;
+    }
+
+    /** Metrics of the requests of a single method, with durations in nanoseconds. */
+    public static class MethodMetrics {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errorResponses = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final Histogram totalTime = new Histogram();
+        private final Histogram serializationTime = new Histogram();
+        private final Histogram queueTime = new Histogram();
+        private final Histogram timeToFirstByte = new Histogram();
+        private final Histogram networkTime = new Histogram();
+        private final Histogram deserializationTime = new Histogram();
+        private final Histogram requestSize = new Histogram();
+        private final Histogram responseSize = new Histogram();
+        private final Histogram batchSize = new Histogram();
+        private final Histogram inFlight = new Histogram();
+
+        void record(RequestSample sample) {
+            requests.incrementAndGet();
+            if (sample.isErrorResponse()) {
+                errorResponses.incrementAndGet();
+            }
+            if (sample.getFailure() != null) {
+                failures.incrementAndGet();
+            }
+            totalTime.record(sample.getTotalTime());
+            serializationTime.record(sample.getSerializationTime());
+            queueTime.record(sample.getQueueTime());
+            timeToFirstByte.record(sample.getTimeToFirstByte());
+            networkTime.record(sample.getNetworkTime());
+            deserializationTime.record(sample.getDeserializationTime());
+            requestSize.record(sample.getRequestSize());
+            responseSize.record(sample.getResponseSize());
+            batchSize.record(sample.getBatchSize());
+            inFlight.record(sample.getInFlight());
+        }
+
+        public long getRequests() {
+            return requests.get();
+        }
+
+        public long getErrorResponses() {
+            return errorResponses.get();
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        /** @return fraction of requests which failed or received an error response */
+        public double getErrorRate() {
+            long recorded = requests.get();
+            return recorded == 0
+                    ? 0
+                    : (errorResponses.get() + failures.get()) / (double) recorded;
+        }
+
+        public Histogram getTotalTime() {
+            return totalTime;
+        }
+
+        public Histogram getSerializationTime() {
+            return serializationTime;
+        }
+
+        public Histogram getQueueTime() {
+            return queueTime;
+        }
+
+        public Histogram getTimeToFirstByte() {
+            return timeToFirstByte;
+        }
+
+        public Histogram getNetworkTime() {
+            return networkTime;
+        }
+
+        public Histogram getDeserializationTime() {
+            return deserializationTime;
+        }
+
+        public Histogram getRequestSize() {
+            return requestSize;
+        }
+
+        public Histogram getResponseSize() {
+            return responseSize;
+        }
+
+        public Histogram getBatchSize() {
+            return batchSize;
+        }
+
+        public Histogram getInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        public String toString() {
+            return "MethodMetrics{"
+                    + "requests="
+                    + getRequests()
+                    + ", errorRate="
+                    + getErrorRate()
+                    + ", totalTime="
+                    + totalTime
+                    + ", queueTime="
+                    + queueTime
+                    + ", timeToFirstByte="
+                    + timeToFirstByte
+                    + ", networkTime="
+                    + networkTime
+                    + ", deserializationTime="
+                    + deserializationTime
+                    + ", responseSize="
+                    + responseSize
+                    + '}';
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+/**
+ * Measurements of a single request or batch. Durations are in nanoseconds, and are -1 for phases
+ * which were not reached.
+ */
+public class RequestSample {
+
+    /** Method of samples of batch requests. */
+    public static final String BATCH = "batch";
+
+    private final String method;
+    private final int batchSize;
+    private final int inFlight;
+    private final long requestSize;
+    private final long responseSize;
+    private final long serializationTime;
+    private final long queueTime;
+    private final long timeToFirstByte;
+    private final long networkTime;
+    private final long deserializationTime;
+    private final long totalTime;
+    private final boolean errorResponse;
+    private final Throwable failure;
+
+    public RequestSample(
+            String method,
+            int batchSize,
+            int inFlight,
+            long requestSize,
+            long responseSize,
+            long serializationTime,
+            long queueTime,
+            long timeToFirstByte,
+            long networkTime,
+            long deserializationTime,
+            long totalTime,
+            boolean errorResponse,
+            Throwable failure) {
+        this.method = method;
+        this.batchSize = batchSize;
+        this.inFlight = inFlight;
+        this.requestSize = requestSize;
+        this.responseSize = responseSize;
+        this.serializationTime = serializationTime;
+        this.queueTime = queueTime;
+        this.timeToFirstByte = timeToFirstByte;
+        this.networkTime = networkTime;
+        this.deserializationTime = deserializationTime;
+        this.totalTime = totalTime;
+        this.errorResponse = errorResponse;
+        this.failure = failure;
+    }
+
+    /** @return JSON-RPC method, or {@link #BATCH} for batch requests */
+    public String getMethod() {
+        return method;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** @return number of requests of the service in flight when this request was sent */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /** @return size of the request payload in bytes, or characters for text transports */
+    public long getRequestSize() {
+        return requestSize;
+    }
+
+    /** @return size of the response payload in bytes, or -1 if not known */
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    public long getSerializationTime() {
+        return serializationTime;
+    }
+
+    /** @see RequestTimings#getQueueTime() */
+    public long getQueueTime() {
+        return queueTime;
+    }
+
+    /** @see RequestTimings#getTimeToFirstByte() */
+    public long getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /** @see RequestTimings#getNetworkTime() */
+    public long getNetworkTime() {
+        return networkTime;
+    }
+
+    /** @see RequestTimings#getDeserializationTime() */
+    public long getDeserializationTime() {
+        return deserializationTime;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    /** @return true if a JSON-RPC error response was received, for any request of a batch */
+    public boolean isErrorResponse() {
+        return errorResponse;
+    }
+
+    /** @return the exception the request failed with, or null if a response was received */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestSample{"
+                + "method='"
+                + method
+                + '\''
+                + ", batchSize="
+                + batchSize
+                + ", inFlight="
+                + inFlight
+                + ", requestSize="
+                + requestSize
+                + ", responseSize="
+                + responseSize
+                + ", serializationTime="
+                + serializationTime
+                + ", queueTime="
+                + queueTime
+                + ", timeToFirstByte="
+                + timeToFirstByte
+                + ", networkTime="
+                + networkTime
+                + ", deserializationTime="
+                + deserializationTime
+                + ", totalTime="
+                + totalTime
+                + ", errorResponse="
+                + errorResponse
+                + ", failure="
+                + failure
+                + '}';
+    }
+}
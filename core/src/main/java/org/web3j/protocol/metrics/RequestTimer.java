@@ -0,0 +1,329 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Response;
+
+/**
+ * Times the phases of a request on behalf of a service, for {@link ServiceMetrics} and request
+ * interceptors. Transports mark the phases they can observe, other phases are left unmeasured. When
+ * neither metrics nor interceptors are in use {@link #NONE} is used, which takes no measurements.
+ */
+public class RequestTimer implements RequestTimings {
+
+    /** Timer which takes no measurements. */
+    public static final RequestTimer NONE = new RequestTimer(null, null, 0, null);
+
+    private final ServiceMetrics metrics;
+    private final String method;
+    private final int batchSize;
+    private final AtomicInteger inFlight;
+    private final int inFlightAtStart;
+    private final long start;
+
+    private long attempt;
+    private long serialized;
+    private long dispatched;
+    private long firstByte;
+    private long received;
+    private long deserialized;
+    private long end;
+    private long requestSize = -1;
+    private long responseSize = -1;
+    private CountingInputStream countingInputStream;
+
+    private RequestTimer(
+            ServiceMetrics metrics, String method, int batchSize, AtomicInteger inFlight) {
+        this.metrics = metrics;
+        this.method = method;
+        this.batchSize = batchSize;
+        this.inFlight = inFlight;
+        this.inFlightAtStart = inFlight == null ? 0 : inFlight.incrementAndGet();
+        this.start = metrics == null ? 0 : System.nanoTime();
+        this.attempt = start;
+    }
+
+    /**
+     * Start timing a request.
+     *
+     * @param metrics metrics to record the request with
+     * @param method JSON-RPC method, or {@link RequestSample#BATCH}
+     * @param batchSize number of requests
+     * @param inFlight requests in flight of the service, incremented until the request finishes
+     * @return a timer, or {@link #NONE} if the metrics are disabled
+     */
+    public static RequestTimer start(
+            ServiceMetrics metrics, String method, int batchSize, AtomicInteger inFlight) {
+        return start(metrics, method, batchSize, inFlight, false);
+    }
+
+    /**
+     * Start timing a request.
+     *
+     * @param metrics metrics to record the request with, if enabled
+     * @param method JSON-RPC method, or {@link RequestSample#BATCH}
+     * @param batchSize number of requests
+     * @param inFlight requests in flight of the service, incremented until the request finishes
+     * @param timed whether the timings are needed even if the metrics are disabled
+     * @return a timer, or {@link #NONE} if neither timings nor metrics are needed
+     */
+    public static RequestTimer start(
+            ServiceMetrics metrics,
+            String method,
+            int batchSize,
+            AtomicInteger inFlight,
+            boolean timed) {
+        return timed || metrics.isEnabled()
+                ? new RequestTimer(metrics, method, batchSize, inFlight)
+                : NONE;
+    }
+
+    /** An attempt to send the request starts, discarding the phases of any previous attempt. */
+    public void attempt() {
+        if (metrics != null) {
+            synchronized (this) {
+                attempt = System.nanoTime();
+                serialized = dispatched = firstByte = received = deserialized = 0;
+                requestSize = responseSize = -1;
+                countingInputStream = null;
+            }
+        }
+    }
+
+    /** The request has been serialized to a payload of the given size. */
+    public void serialized(int payloadSize) {
+        if (metrics != null) {
+            synchronized (this) {
+                serialized = System.nanoTime();
+                requestSize = payloadSize;
+            }
+        }
+    }
+
+    /** The transport starts to send the request, after waiting for a connection or its turn. */
+    public void dispatched() {
+        if (metrics != null) {
+            synchronized (this) {
+                dispatched = System.nanoTime();
+            }
+        }
+    }
+
+    /** The first of the response, such as its headers, has been received. */
+    public void firstByte() {
+        if (metrics != null) {
+            synchronized (this) {
+                firstByte = System.nanoTime();
+            }
+        }
+    }
+
+    /** A response of the given size has been received. */
+    public void received(int payloadSize) {
+        if (metrics != null) {
+            synchronized (this) {
+                received = System.nanoTime();
+                responseSize = payloadSize;
+            }
+        }
+    }
+
+    /**
+     * A response has started to be received.
+     *
+     * @param response response body, or null
+     * @return the response body, counting the bytes read from it when measuring
+     */
+    public InputStream received(InputStream response) {
+        if (metrics == null || response == null) {
+            return response;
+        }
+        synchronized (this) {
+            received = System.nanoTime();
+            countingInputStream = new CountingInputStream(response);
+            return countingInputStream;
+        }
+    }
+
+    /** The response has been deserialized. */
+    public void deserialized() {
+        if (metrics != null) {
+            synchronized (this) {
+                deserialized = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * The request has completed, including any interceptors.
+     *
+     * @param reply a {@link Response} or {@link BatchResponse}, or null
+     */
+    public void completed(Object reply) {
+        if (metrics != null) {
+            finish(isErrorResponse(reply), null);
+        }
+    }
+
+    /** The request failed. */
+    public void failed(Throwable failure) {
+        if (metrics != null) {
+            finish(false, failure);
+        }
+    }
+
+    @Override
+    public synchronized long getSerializationTime() {
+        return between(attempt, serialized);
+    }
+
+    @Override
+    public synchronized long getQueueTime() {
+        return between(serialized, dispatched);
+    }
+
+    @Override
+    public synchronized long getTimeToFirstByte() {
+        return between(sent(), firstByte == 0 ? received : firstByte);
+    }
+
+    @Override
+    public synchronized long getNetworkTime() {
+        return between(sent(), received);
+    }
+
+    @Override
+    public synchronized long getDeserializationTime() {
+        return between(received, deserialized == 0 ? end : deserialized);
+    }
+
+    @Override
+    public synchronized long getTotalTime() {
+        if (metrics == null) {
+            return -1;
+        }
+        return (end == 0 ? System.nanoTime() : end) - start;
+    }
+
+    @Override
+    public synchronized long getRequestSize() {
+        return requestSize;
+    }
+
+    @Override
+    public synchronized long getResponseSize() {
+        return countingInputStream != null ? countingInputStream.count : responseSize;
+    }
+
+    private long sent() {
+        return dispatched == 0 ? serialized : dispatched;
+    }
+
+    private static long between(long from, long to) {
+        return from == 0 || to == 0 ? -1 : to - from;
+    }
+
+    private void finish(boolean errorResponse, Throwable failure) {
+        RequestSample sample;
+        synchronized (this) {
+            if (end != 0) {
+                return;
+            }
+            end = System.nanoTime();
+            sample =
+                    new RequestSample(
+                            method,
+                            batchSize,
+                            inFlightAtStart,
+                            getRequestSize(),
+                            getResponseSize(),
+                            getSerializationTime(),
+                            getQueueTime(),
+                            getTimeToFirstByte(),
+                            getNetworkTime(),
+                            failure != null ? -1 : getDeserializationTime(),
+                            end - start,
+                            errorResponse,
+                            failure);
+        }
+
+        if (inFlight != null) {
+            inFlight.decrementAndGet();
+        }
+        if (metrics.isEnabled()) {
+            metrics.record(sample);
+        }
+    }
+
+    private static boolean isErrorResponse(Object reply) {
+        if (reply instanceof Response) {
+            return ((Response<?>) reply).hasError();
+        } else if (reply instanceof BatchResponse) {
+            for (Response<?> response : ((BatchResponse) reply).getResponses()) {
+                if (response != null && response.hasError()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Counts the bytes read up to the first reset, as raw responses re-read the stream. */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+        private boolean reset;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0 && !reset) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0 && !reset) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            if (!reset) {
+                count += skipped;
+            }
+            return skipped;
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            super.reset();
+            reset = true;
+        }
+    }
+}
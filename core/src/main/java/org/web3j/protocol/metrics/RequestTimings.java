@@ -0,0 +1,45 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+/**
+ * Phase timings of a request, in nanoseconds. Phases which have not been reached, or which the
+ * transport does not report, are -1. If a request is sent more than once, such as by a retrying
+ * interceptor, the phases are those of the latest attempt.
+ */
+public interface RequestTimings {
+
+    /** @return time to serialize the request */
+    long getSerializationTime();
+
+    /** @return time from the request being serialized until the transport started to send it */
+    long getQueueTime();
+
+    /** @return time from the request being sent until the first of the response was received */
+    long getTimeToFirstByte();
+
+    /** @return time from the request being sent until the response could be read */
+    long getNetworkTime();
+
+    /** @return time to deserialize the response, including reading a streamed response body */
+    long getDeserializationTime();
+
+    /** @return time since the request started, until it finished if it has */
+    long getTotalTime();
+
+    /** @return size of the request payload in bytes, or characters for text transports */
+    long getRequestSize();
+
+    /** @return size of the response payload in bytes */
+    long getResponseSize();
+}
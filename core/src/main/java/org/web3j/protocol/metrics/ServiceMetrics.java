@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+/**
+ * Receives measurements of the requests sent by a {@link org.web3j.protocol.Web3jService}, such as
+ * {@link org.web3j.protocol.http.HttpService} or {@link
+ * org.web3j.protocol.websocket.WebSocketService}. Implementations must be thread safe and should
+ * return quickly, as they are called on the threads sending requests and receiving replies.
+ */
+public interface ServiceMetrics {
+
+    /** Metrics which record nothing, the default of services. */
+    ServiceMetrics NONE =
+            new ServiceMetrics() {
+                @Override
+                public boolean isEnabled() {
+                    return false;
+                }
+
+                @Override
+                public void record(RequestSample sample) {}
+            };
+
+    /**
+     * Whether requests should be measured. Services do not take any measurements while this is
+     * false.
+     *
+     * @return true if requests should be measured
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Record the measurements of a completed or failed request.
+     *
+     * @param sample measurements of the request
+     */
+    void record(RequestSample sample);
+}
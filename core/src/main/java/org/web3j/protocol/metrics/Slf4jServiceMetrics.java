@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reference adapter which logs every request sample at debug level, and is disabled while debug
+ * logging of this class is off. Adapters to other metrics libraries follow the same pattern of
+ * translating each {@link RequestSample} into their own timers and counters.
+ */
+public class Slf4jServiceMetrics implements ServiceMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(Slf4jServiceMetrics.class);
+
+    @Override
+    public boolean isEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    @Override
+    public void record(RequestSample sample) {
+        if (sample.getFailure() != null) {
+            log.debug(
+                    "{} failed after {} us: {}",
+                    sample.getMethod(),
+                    sample.getTotalTime() / 1000,
+                    sample.getFailure().toString());
+        } else {
+            log.debug(
+                    "{} x{} took {} us (serialize {} us, queue {} us, first byte {} us, "
+                            + "network {} us, deserialize {} us), "
+                            + "{} bytes sent, {} bytes received, {} in flight{}",
+                    sample.getMethod(),
+                    sample.getBatchSize(),
+                    sample.getTotalTime() / 1000,
+                    sample.getSerializationTime() / 1000,
+                    sample.getQueueTime() / 1000,
+                    sample.getTimeToFirstByte() / 1000,
+                    sample.getNetworkTime() / 1000,
+                    sample.getDeserializationTime() / 1000,
+                    sample.getRequestSize(),
+                    sample.getResponseSize(),
+                    sample.getInFlight(),
+                    sample.isErrorResponse() ? ", error response" : "");
+        }
+    }
+}
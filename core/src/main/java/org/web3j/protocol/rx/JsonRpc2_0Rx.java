@@ -28,8 +28,10 @@ import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.HeadTracker;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.filters.BlockFilter;
+import org.web3j.protocol.core.filters.BloomLogFetcher;
 import org.web3j.protocol.core.filters.LogFilter;
 import org.web3j.protocol.core.filters.PendingTransactionFilter;
 import org.web3j.protocol.core.methods.response.EthBlock;
@@ -43,14 +45,49 @@ public class JsonRpc2_0Rx {
     private final Web3j web3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
+    private final boolean useSubscriptions;
+    private volatile HeadTracker headTracker;
 
     public JsonRpc2_0Rx(Web3j web3j, ScheduledExecutorService scheduledExecutorService) {
+        this(web3j, scheduledExecutorService, false);
+    }
+
+    /**
+     * Create a new reactive API implementation.
+     *
+     * @param web3j web3j instance
+     * @param scheduledExecutorService executor used for polling filters
+     * @param useSubscriptions if true, new blocks and logs are received via eth_subscribe
+     *     notifications rather than by polling filters
+     */
+    public JsonRpc2_0Rx(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            boolean useSubscriptions) {
         this.web3j = web3j;
         this.scheduledExecutorService = scheduledExecutorService;
         this.scheduler = Schedulers.from(scheduledExecutorService);
+        this.useSubscriptions = useSubscriptions;
+    }
+
+    /**
+     * Read the latest block number from a head tracker, such as {@link Web3j#headTracker()},
+     * rather than requesting the latest block whenever past blocks are replayed.
+     *
+     * @param headTracker head tracker to use, or null to request the latest block
+     */
+    public void setHeadTracker(HeadTracker headTracker) {
+        this.headTracker = headTracker;
     }
 
     public Flowable<String> ethBlockHashFlowable(long pollingInterval) {
+        if (useSubscriptions) {
+            // notifications arrive on the transport's read thread, which downstream requests
+            // such as fetching the block would otherwise block waiting for their own reply
+            return Flowable.defer(web3j::newHeadsNotifications)
+                    .map(notification -> notification.getParams().getResult().getHash())
+                    .observeOn(scheduler);
+        }
         return Flowable.create(
                 subscriber -> {
                     BlockFilter blockFilter = new BlockFilter(web3j, subscriber::onNext);
@@ -72,6 +109,11 @@ public class JsonRpc2_0Rx {
 
     public Flowable<Log> ethLogFlowable(
             org.web3j.protocol.core.methods.request.EthFilter ethFilter, long pollingInterval) {
+        if (useSubscriptions && isFutureOnly(ethFilter)) {
+            return Flowable.defer(() -> web3j.logsNotifications(ethFilter))
+                    .map(notification -> toLog(notification.getParams().getResult()))
+                    .observeOn(scheduler);
+        }
         return Flowable.create(
                 subscriber -> {
                     LogFilter logFilter = new LogFilter(web3j, subscriber::onNext, ethFilter);
@@ -81,6 +123,43 @@ public class JsonRpc2_0Rx {
                 BackpressureStrategy.BUFFER);
     }
 
+    public Flowable<Log> bloomFilteredLogFlowable(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter, long pollingInterval) {
+        return new BloomLogFetcher(web3j, ethFilter)
+                .flowable(blockFlowable(false, pollingInterval));
+    }
+
+    /**
+     * Log subscriptions only deliver logs of new blocks, so filters with a historic or bounded
+     * block range, or for a single block hash, are still served by polling filters.
+     */
+    private static boolean isFutureOnly(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        return ethFilter.getBlockHash() == null
+                && isLatestOrPending(ethFilter.getFromBlock())
+                && isLatestOrPending(ethFilter.getToBlock());
+    }
+
+    private static boolean isLatestOrPending(DefaultBlockParameter blockParameter) {
+        return blockParameter == null
+                || blockParameter == DefaultBlockParameterName.LATEST
+                || blockParameter == DefaultBlockParameterName.PENDING;
+    }
+
+    private static Log toLog(org.web3j.protocol.websocket.events.Log log) {
+        return new Log(
+                log.isRemoved(),
+                log.getLogIndex(),
+                log.getTransactionIndex(),
+                log.getTransactionHash(),
+                log.getBlockHash(),
+                log.getBlockNumber(),
+                log.getAddress(),
+                log.getData(),
+                null,
+                log.getTopics());
+    }
+
     private <T> void run(
             org.web3j.protocol.core.filters.Filter<T> filter,
             FlowableEmitter<? super T> emitter,
@@ -103,6 +182,11 @@ public class JsonRpc2_0Rx {
                 .map(ethTransaction -> ethTransaction.getTransaction().get());
     }
 
+    public Flowable<Transaction> pendingTransactionFlowable(
+            PendingTransactionBatcher batcher, long pollingInterval) {
+        return batcher.hydrate(ethPendingTransactionHashFlowable(pollingInterval));
+    }
+
     public Flowable<EthBlock> blockFlowable(boolean fullTransactionObjects, long pollingInterval) {
         return ethBlockHashFlowable(pollingInterval)
                 .flatMap(
@@ -232,6 +316,13 @@ public class JsonRpc2_0Rx {
     }
 
     private BigInteger getLatestBlockNumber() throws IOException {
+        HeadTracker tracker = headTracker;
+        if (tracker != null) {
+            long headNumber = tracker.getHeadNumber();
+            if (headNumber >= 0) {
+                return BigInteger.valueOf(headNumber);
+            }
+        }
         return getBlockNumber(DefaultBlockParameterName.LATEST);
     }
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Hydrates a stream of pending transaction hashes into {@link Transaction} objects.
+ *
+ * <p>Hashes seen recently are dropped, the remaining lookups are grouped into JSON-RPC batches by
+ * size and time window, and at most a fixed number of batches are in flight at any time.
+ * Transactions which have already been mined by the time they are looked up are dropped.
+ */
+public class PendingTransactionBatcher {
+
+    public static final int DEFAULT_SEEN_CAPACITY = 10_000;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final long DEFAULT_MAX_BATCH_DELAY = 100;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BATCHES = 4;
+
+    private final Web3j web3j;
+    private final Scheduler scheduler;
+    private final int maxBatchSize;
+    private final long maxBatchDelay;
+    private final int maxInFlightBatches;
+    private final Map<String, Boolean> seen;
+
+    private final AtomicLong hashesReceived = new AtomicLong();
+    private final AtomicLong duplicateHashes = new AtomicLong();
+    private final AtomicLong batchesSent = new AtomicLong();
+    private final AtomicLong lookupsSent = new AtomicLong();
+    private final AtomicLong notFound = new AtomicLong();
+    private final AtomicLong alreadyMined = new AtomicLong();
+
+    public PendingTransactionBatcher(Web3j web3j) {
+        this(
+                web3j,
+                Schedulers.io(),
+                DEFAULT_SEEN_CAPACITY,
+                DEFAULT_MAX_BATCH_SIZE,
+                DEFAULT_MAX_BATCH_DELAY,
+                DEFAULT_MAX_IN_FLIGHT_BATCHES);
+    }
+
+    /**
+     * Create a new batcher.
+     *
+     * @param web3j web3j instance to send batches with
+     * @param scheduler scheduler used for the batch window and to send batches on
+     * @param seenCapacity number of recently seen hashes remembered for deduplication
+     * @param maxBatchSize maximum number of lookups per batch
+     * @param maxBatchDelay maximum time in milliseconds a hash waits before its batch is sent
+     * @param maxInFlightBatches maximum number of batches awaiting a response
+     */
+    public PendingTransactionBatcher(
+            Web3j web3j,
+            Scheduler scheduler,
+            int seenCapacity,
+            int maxBatchSize,
+            long maxBatchDelay,
+            int maxInFlightBatches) {
+        this.web3j = web3j;
+        this.scheduler = scheduler;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.seen =
+                new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > seenCapacity;
+                    }
+                };
+    }
+
+    public Flowable<Transaction> hydrate(Flowable<String> transactionHashes) {
+        return transactionHashes
+                .filter(this::firstSeen)
+                .buffer(maxBatchDelay, TimeUnit.MILLISECONDS, scheduler, maxBatchSize)
+                .filter(batch -> !batch.isEmpty())
+                .onBackpressureBuffer()
+                .flatMap(
+                        batch -> Flowable.fromCallable(() -> lookup(batch)).subscribeOn(scheduler),
+                        maxInFlightBatches)
+                .flatMapIterable(transactions -> transactions);
+    }
+
+    private boolean firstSeen(String transactionHash) {
+        hashesReceived.incrementAndGet();
+        synchronized (seen) {
+            if (seen.put(transactionHash, Boolean.TRUE) == null) {
+                return true;
+            }
+        }
+        duplicateHashes.incrementAndGet();
+        return false;
+    }
+
+    private List<Transaction> lookup(List<String> transactionHashes) throws IOException {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (String transactionHash : transactionHashes) {
+            batchRequest.add(web3j.ethGetTransactionByHash(transactionHash));
+        }
+
+        batchesSent.incrementAndGet();
+        lookupsSent.addAndGet(transactionHashes.size());
+        BatchResponse batchResponse = batchRequest.send();
+
+        List<Transaction> transactions = new ArrayList<>(transactionHashes.size());
+        for (Response<?> response : batchResponse.getResponses()) {
+            Optional<Transaction> transaction = ((EthTransaction) response).getTransaction();
+            if (!transaction.isPresent()) {
+                notFound.incrementAndGet();
+            } else if (transaction.get().getBlockNumberRaw() != null) {
+                alreadyMined.incrementAndGet();
+            } else {
+                transactions.add(transaction.get());
+            }
+        }
+        return transactions;
+    }
+
+    public long getHashesReceived() {
+        return hashesReceived.get();
+    }
+
+    public long getDuplicateHashes() {
+        return duplicateHashes.get();
+    }
+
+    public double getDedupeHitRate() {
+        long received = hashesReceived.get();
+        return received == 0 ? 0 : (double) duplicateHashes.get() / received;
+    }
+
+    public long getBatchesSent() {
+        return batchesSent.get();
+    }
+
+    public double getAverageBatchSize() {
+        long batches = batchesSent.get();
+        return batches == 0 ? 0 : (double) lookupsSent.get() / batches;
+    }
+
+    public long getNotFound() {
+        return notFound.get();
+    }
+
+    public long getAlreadyMined() {
+        return alreadyMined.get();
+    }
+}
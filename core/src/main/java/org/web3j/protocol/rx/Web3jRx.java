@@ -35,6 +35,16 @@ public interface Web3jRx {
      */
     Flowable<Log> ethLogFlowable(EthFilter ethFilter);
 
+    /**
+     * Create a flowable to filter for specific log events on the blockchain, driven by new blocks.
+     * The logsBloom of each new block is checked locally, and logs are only requested for blocks
+     * that may contain matching events. The block range of the filter is ignored.
+     *
+     * @param ethFilter filter criteria
+     * @return a {@link Flowable} instance that emits all Log events matching the filter
+     */
+    Flowable<Log> bloomFilteredLogFlowable(EthFilter ethFilter);
+
     /**
      * Create an Flowable to emit block hashes.
      *
@@ -67,6 +77,16 @@ public interface Web3jRx {
      */
     Flowable<Transaction> pendingTransactionFlowable();
 
+    /**
+     * Create an {@link Flowable} instance to emit all pending transactions that have yet to be
+     * placed into a block on the blockchain. Transaction hashes are deduplicated and looked up in
+     * batches by the provided {@link PendingTransactionBatcher}.
+     *
+     * @param batcher batcher used to look up pending transactions
+     * @return a {@link Flowable} instance to emit pending transactions
+     */
+    Flowable<Transaction> pendingTransactionFlowable(PendingTransactionBatcher batcher);
+
     /**
      * Create an {@link Flowable} instance that emits newly created blocks on the blockchain.
      *
@@ -205,4 +225,14 @@ public interface Web3jRx {
      * @return a {@link Flowable} instance that emits logs included in new blocks
      */
     Flowable<LogNotification> logsNotifications(List<String> addresses, List<String> topics);
+
+    /**
+     * Creates a {@link Flowable} instance that emits notifications for logs included in new
+     * imported blocks and matching the addresses and topics of the provided filter. The block range
+     * of the filter is ignored.
+     *
+     * @param ethFilter filter to match logs against
+     * @return a {@link Flowable} instance that emits logs included in new blocks
+     */
+    Flowable<LogNotification> logsNotifications(EthFilter ethFilter);
 }
@@ -14,6 +14,8 @@ package org.web3j.protocol.websocket;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.web3j.protocol.metrics.RequestTimer;
+
 /**
  * Objects necessary to process a reply for a request sent via WebSocket protocol.
  *
@@ -22,6 +24,7 @@ import java.util.concurrent.CompletableFuture;
 class WebSocketRequest<T> {
     private CompletableFuture<T> onReply;
     private Class<T> responseType;
+    private RequestTimer timer = RequestTimer.NONE;
 
     public WebSocketRequest(CompletableFuture<T> onReply, Class<T> responseType) {
         this.onReply = onReply;
@@ -35,4 +38,12 @@ class WebSocketRequest<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    public RequestTimer getTimer() {
+        return timer;
+    }
+
+    public void setTimer(RequestTimer timer) {
+        this.timer = timer;
+    }
 }
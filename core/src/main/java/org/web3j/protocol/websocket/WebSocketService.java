@@ -22,18 +22,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.reactivex.subjects.BehaviorSubject;
@@ -48,7 +49,13 @@ import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.EthUnsubscribe;
+import org.web3j.protocol.interceptor.InterceptorChain;
+import org.web3j.protocol.interceptor.RequestInterceptor;
+import org.web3j.protocol.metrics.RequestSample;
+import org.web3j.protocol.metrics.RequestTimer;
+import org.web3j.protocol.metrics.ServiceMetrics;
 import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
 
 /**
  * Web socket service that allows to interact with JSON-RPC via WebSocket protocol.
@@ -85,6 +92,10 @@ public class WebSocketService implements Web3jService {
     // Map of a subscription id to objects necessary to process incoming events
     private Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
 
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final List<RequestInterceptor> interceptors = new CopyOnWriteArrayList<>();
+    private volatile ServiceMetrics metrics = ServiceMetrics.NONE;
+
     public WebSocketService(String serverUrl, boolean includeRawResponses) {
         this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
     }
@@ -102,6 +113,32 @@ public class WebSocketService implements Web3jService {
         this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
     }
 
+    /**
+     * Set the metrics to record the serialization, round trip and deserialization of requests with.
+     *
+     * @param metrics metrics, or {@link ServiceMetrics#NONE} to stop recording
+     */
+    public void setMetrics(ServiceMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public ServiceMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Add an interceptor, which is called after the interceptors added before it. As interceptors
+     * are synchronous, asynchronous requests through interceptors each occupy a thread of {@link
+     * Async} until they complete.
+     */
+    public void addInterceptor(RequestInterceptor interceptor) {
+        interceptors.add(interceptor);
+    }
+
+    public void removeInterceptor(RequestInterceptor interceptor) {
+        interceptors.remove(interceptor);
+    }
+
     /**
      * Connect to a WebSocket server.
      *
@@ -161,29 +198,52 @@ public class WebSocketService implements Web3jService {
 
     @Override
     public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
-        try {
-            return sendAsync(request, responseType).get();
-        } catch (InterruptedException e) {
-            Thread.interrupted();
-            throw new IOException("Interrupted WebSocket request", e);
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof IOException) {
-                throw (IOException) e.getCause();
-            }
+        if (interceptors.isEmpty()) {
+            return get(sendAsync(request, responseType), "Interrupted WebSocket request");
+        }
 
-            throw new RuntimeException("Unexpected exception", e.getCause());
+        RequestTimer timer = RequestTimer.start(metrics, request.getMethod(), 1, inFlight, true);
+        try {
+            T response =
+                    InterceptorChain.send(
+                            interceptors,
+                            request,
+                            responseType,
+                            timer,
+                            r ->
+                                    get(
+                                            sendAsync(r, responseType, timer),
+                                            "Interrupted WebSocket request"));
+            timer.completed(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            timer.failed(e);
+            throw e;
         }
     }
 
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request request, Class<T> responseType) {
+        if (!interceptors.isEmpty()) {
+            // interceptors are synchronous, so the chain runs on a thread of its own
+            return Async.run(() -> send(request, responseType));
+        }
+
+        RequestTimer timer = RequestTimer.start(metrics, request.getMethod(), 1, inFlight);
+        return completeTimer(sendAsync(request, responseType, timer), timer);
+    }
 
+    private <T extends Response> CompletableFuture<T> sendAsync(
+            Request<?, ?> request, Class<T> responseType, RequestTimer timer) {
+        timer.attempt();
         CompletableFuture<T> result = new CompletableFuture<>();
         long requestId = request.getId();
-        requestForId.put(requestId, new WebSocketRequest<>(result, responseType));
+        WebSocketRequest<T> webSocketRequest = new WebSocketRequest<>(result, responseType);
+        webSocketRequest.setTimer(timer);
+        requestForId.put(requestId, webSocketRequest);
         try {
-            sendRequest(request, requestId);
+            sendRequest(request, requestId, timer);
         } catch (IOException e) {
             closeRequest(requestId, e);
         }
@@ -193,22 +253,50 @@ public class WebSocketService implements Web3jService {
 
     @Override
     public BatchResponse sendBatch(BatchRequest requests) throws IOException {
-        try {
-            return sendBatchAsync(requests).get();
-        } catch (InterruptedException e) {
-            Thread.interrupted();
-            throw new IOException("Interrupted WebSocket batch requests", e);
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof IOException) {
-                throw (IOException) e.getCause();
-            }
+        if (interceptors.isEmpty()) {
+            return get(sendBatchAsync(requests), "Interrupted WebSocket batch requests");
+        }
 
-            throw new RuntimeException("Unexpected exception", e.getCause());
+        RequestTimer timer =
+                RequestTimer.start(
+                        metrics,
+                        RequestSample.BATCH,
+                        requests.getRequests().size(),
+                        inFlight,
+                        true);
+        try {
+            BatchResponse batchResponse =
+                    InterceptorChain.sendBatch(
+                            interceptors,
+                            requests,
+                            timer,
+                            r ->
+                                    get(
+                                            sendBatchAsync(r, timer),
+                                            "Interrupted WebSocket batch requests"));
+            timer.completed(batchResponse);
+            return batchResponse;
+        } catch (IOException | RuntimeException e) {
+            timer.failed(e);
+            throw e;
         }
     }
 
     @Override
     public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest requests) {
+        if (!interceptors.isEmpty()) {
+            return Async.run(() -> sendBatch(requests));
+        }
+
+        RequestTimer timer =
+                RequestTimer.start(
+                        metrics, RequestSample.BATCH, requests.getRequests().size(), inFlight);
+        return completeTimer(sendBatchAsync(requests, timer), timer);
+    }
+
+    private CompletableFuture<BatchResponse> sendBatchAsync(
+            BatchRequest requests, RequestTimer timer) {
+        timer.attempt();
         CompletableFuture<BatchResponse> result = new CompletableFuture<>();
 
         // replace first batch elements's id to handle response
@@ -217,11 +305,13 @@ public class WebSocketService implements Web3jService {
         long originId = firstRequest.getId();
         requests.getRequests().get(0).setId(requestId);
 
-        requestForId.put(
-                requestId, new WebSocketRequests(result, requests.getRequests(), originId));
+        WebSocketRequests webSocketRequests =
+                new WebSocketRequests(result, requests.getRequests(), originId);
+        webSocketRequests.setTimer(timer);
+        requestForId.put(requestId, webSocketRequests);
 
         try {
-            sendBatchRequest(requests, requestId);
+            sendBatchRequest(requests, requestId, timer);
         } catch (IOException e) {
             closeRequest(requestId, e);
         }
@@ -229,17 +319,53 @@ public class WebSocketService implements Web3jService {
         return result;
     }
 
-    private void sendRequest(Request request, long requestId) throws JsonProcessingException {
+    private static <T> T get(CompletableFuture<T> result, String interruptedMessage)
+            throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.interrupted();
+            throw new IOException(interruptedMessage, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    private static <T> CompletableFuture<T> completeTimer(
+            CompletableFuture<T> result, RequestTimer timer) {
+        if (timer != RequestTimer.NONE) {
+            result.whenComplete(
+                    (reply, throwable) -> {
+                        if (throwable != null) {
+                            timer.failed(throwable);
+                        } else {
+                            timer.completed(reply);
+                        }
+                    });
+        }
+        return result;
+    }
+
+    private void sendRequest(Request<?, ?> request, long requestId, RequestTimer timer)
+            throws JsonProcessingException {
         String payload = objectMapper.writeValueAsString(request);
+        timer.serialized(payload.length());
         log.debug("Sending request: {}", payload);
+        timer.dispatched();
         webSocketClient.send(payload);
         setRequestTimeout(requestId);
     }
 
-    private void sendBatchRequest(BatchRequest request, long requestId)
+    private void sendBatchRequest(BatchRequest request, long requestId, RequestTimer timer)
             throws JsonProcessingException {
         String payload = objectMapper.writeValueAsString(request.getRequests());
+        timer.serialized(payload.length());
         log.debug("Sending batch request: {}", payload);
+        timer.dispatched();
         webSocketClient.send(payload);
         setRequestTimeout(requestId);
     }
@@ -256,31 +382,35 @@ public class WebSocketService implements Web3jService {
     }
 
     void closeRequest(long requestId, Exception e) {
-        CompletableFuture result = requestForId.get(requestId).getOnReply();
+        WebSocketRequest<?> request = requestForId.get(requestId);
         requestForId.remove(requestId);
-        result.completeExceptionally(e);
+        request.getOnReply().completeExceptionally(e);
     }
 
     void onWebSocketMessage(String messageStr) throws IOException {
-        JsonNode replyJson = parseToTree(messageStr);
-
-        if (isReply(replyJson)) {
-            processRequestReply(messageStr, replyJson);
-        } else if (isBatchReply(replyJson)) {
-            processBatchRequestReply(messageStr, (ArrayNode) replyJson);
-        } else if (isSubscriptionEvent(replyJson)) {
-            processSubscriptionEvent(messageStr, replyJson);
+        // a char array rather than the string, so that parsers of long messages do not wrap it
+        // in a reader, which the raw response deserializer would mistake for an input stream
+        char[] message = messageStr.toCharArray();
+        MessageHeader header = readHeader(message);
+
+        if (header.isBatch()) {
+            processBatchRequestReply(messageStr, message, header.getReplyId());
+        } else if (header.isReply()) {
+            processRequestReply(messageStr, message, header.getReplyId());
+        } else if (header.isSubscriptionEvent()) {
+            processSubscriptionEvent(messageStr, message, header.subscription);
         } else {
             throw new IOException("Unknown message type");
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void processRequestReply(String replyStr, JsonNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson);
+    private void processRequestReply(String replyStr, char[] message, long replyId)
+            throws IOException {
         WebSocketRequest request = getAndRemoveRequest(replyId);
-        try {
-            Object reply = objectMapper.convertValue(replyJson, request.getResponseType());
+        request.getTimer().received(message.length);
+        try (JsonParser parser = createParser(message)) {
+            Object reply = objectMapper.readValue(parser, request.getResponseType());
             // Instead of sending a reply to a caller asynchronously we need to process it here
             // to avoid race conditions we need to modify state of this class.
             if (reply instanceof EthSubscribe) {
@@ -288,30 +418,33 @@ public class WebSocketService implements Web3jService {
             }
 
             sendReplyToListener(request, reply);
-        } catch (IllegalArgumentException e) {
+        } catch (JsonProcessingException e) {
             sendExceptionToListener(replyStr, request, e);
         }
     }
 
-    private void processBatchRequestReply(String replyStr, ArrayNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson.get(0));
+    private void processBatchRequestReply(String replyStr, char[] message, long replyId)
+            throws IOException {
         WebSocketRequests webSocketRequests = (WebSocketRequests) getAndRemoveRequest(replyId);
-        try {
-            // rollback request id of first batch elt
-            ((ObjectNode) replyJson.get(0)).put("id", webSocketRequests.getOriginId());
-
+        webSocketRequests.getTimer().received(message.length);
+        try (JsonParser parser = createParser(message)) {
             List<Request<?, ? extends Response<?>>> requests = webSocketRequests.getRequests();
-            List<Response<?>> responses = new ArrayList<>(replyJson.size());
+            List<Response<?>> responses = new ArrayList<>(requests.size());
 
-            for (int i = 0; i < replyJson.size(); i++) {
-                Response<?> response =
-                        objectMapper.treeToValue(
-                                replyJson.get(i), requests.get(i).getResponseType());
-                responses.add(response);
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                responses.add(
+                        objectMapper.readValue(
+                                parser, requests.get(responses.size()).getResponseType()));
+            }
+
+            // rollback request id of first batch elt
+            if (!responses.isEmpty()) {
+                responses.get(0).setId(webSocketRequests.getOriginId());
             }
 
             sendReplyToListener(webSocketRequests, new BatchResponse(requests, responses));
-        } catch (IllegalArgumentException e) {
+        } catch (JsonProcessingException e) {
             sendExceptionToListener(replyStr, webSocketRequests, e);
         }
     }
@@ -360,11 +493,12 @@ public class WebSocketService implements Web3jService {
 
     @SuppressWarnings("unchecked")
     private void sendReplyToListener(WebSocketRequest request, Object reply) {
+        request.getTimer().deserialized();
         request.getOnReply().complete(reply);
     }
 
     private void sendExceptionToListener(
-            String replyStr, WebSocketRequest request, IllegalArgumentException e) {
+            String replyStr, WebSocketRequest request, JsonProcessingException e) {
         request.getOnReply()
                 .completeExceptionally(
                         new IOException(
@@ -374,46 +508,94 @@ public class WebSocketService implements Web3jService {
                                 e));
     }
 
-    private void processSubscriptionEvent(String replyStr, JsonNode replyJson) {
+    private void processSubscriptionEvent(
+            String replyStr, char[] message, String subscriptionId) throws IOException {
         log.debug("Processing event: {}", replyStr);
-        String subscriptionId = extractSubscriptionId(replyJson);
         WebSocketSubscription subscription = subscriptionForId.get(subscriptionId);
 
         if (subscription != null) {
-            sendEventToSubscriber(replyJson, subscription);
+            sendEventToSubscriber(message, subscription);
         } else {
             log.warn("No subscriber for WebSocket event with subscription id {}", subscriptionId);
         }
     }
 
-    private String extractSubscriptionId(JsonNode replyJson) {
-        return replyJson.get("params").get("subscription").asText();
-    }
-
     @SuppressWarnings("unchecked")
-    private void sendEventToSubscriber(JsonNode replyJson, WebSocketSubscription subscription) {
-        Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
+    private void sendEventToSubscriber(char[] message, WebSocketSubscription subscription)
+            throws IOException {
+        Object event;
+        try (JsonParser parser = createParser(message)) {
+            event = objectMapper.readValue(parser, subscription.getResponseType());
+        }
         subscription.getSubject().onNext(event);
     }
 
-    private boolean isReply(JsonNode replyJson) {
-        return replyJson.has("id");
+    private JsonParser createParser(char[] message) throws IOException {
+        return objectMapper.getFactory().createParser(message);
     }
 
-    private boolean isBatchReply(JsonNode replyJson) {
-        return replyJson.isArray();
+    /**
+     * Read only as much of a message as is needed to dispatch it: the id of a reply, or of the
+     * first reply of a batch, or the subscription id of an event.
+     */
+    private MessageHeader readHeader(char[] message) throws IOException {
+        try (JsonParser parser = createParser(message)) {
+            MessageHeader header = new MessageHeader();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                header.batch = true;
+                token = parser.nextToken();
+            }
+            if (token == JsonToken.START_OBJECT) {
+                readHeaderFields(parser, header);
+            }
+            return header;
+        } catch (JsonProcessingException e) {
+            throw new IOException("Failed to parse incoming WebSocket message", e);
+        }
     }
 
-    private boolean isSubscriptionEvent(JsonNode replyJson) {
-        return replyJson.has("method");
+    private static void readHeaderFields(JsonParser parser, MessageHeader header)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (field.equals("id")) {
+                header.idToken = token;
+                header.idText = parser.getText();
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    header.id = parser.getLongValue();
+                }
+                return;
+            } else if (field.equals("method")) {
+                header.method = true;
+                parser.skipChildren();
+            } else if (field.equals("params") && token == JsonToken.START_OBJECT) {
+                if (readSubscription(parser, header)) {
+                    return;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
     }
 
-    private JsonNode parseToTree(String replyStr) throws IOException {
-        try {
-            return objectMapper.readTree(replyStr);
-        } catch (IOException e) {
-            throw new IOException("Failed to parse incoming WebSocket message", e);
+    /** @return true if the subscription has been found and the rest of the message is not needed */
+    private static boolean readSubscription(JsonParser parser, MessageHeader header)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("subscription")) {
+                header.subscription = parser.getValueAsString();
+                if (header.method) {
+                    return true;
+                }
+            } else {
+                parser.skipChildren();
+            }
         }
+        return false;
     }
 
     private WebSocketRequest getAndRemoveRequest(long id) throws IOException {
@@ -426,20 +608,6 @@ public class WebSocketService implements Web3jService {
         return request;
     }
 
-    private long getReplyId(JsonNode replyJson) throws IOException {
-        JsonNode idField = replyJson.get("id");
-        if (idField == null) {
-            throw new IOException("'id' field is missing in the reply");
-        }
-
-        if (!idField.isIntegralNumber()) {
-            throw new IOException(
-                    String.format("'id' expected to be long, but it is: '%s'", idField.asText()));
-        }
-
-        return idField.longValue();
-    }
-
     private static URI parseURI(String serverUrl) {
         try {
             return new URI(serverUrl);
@@ -515,6 +683,11 @@ public class WebSocketService implements Web3jService {
                 EthUnsubscribe.class);
     }
 
+    @Override
+    public boolean supportsSubscriptions() {
+        return true;
+    }
+
     @Override
     public void close() {
         webSocketClient.close();
@@ -550,4 +723,39 @@ public class WebSocketService implements Web3jService {
     boolean isWaitingForReply(long requestId) {
         return requestForId.containsKey(requestId);
     }
+
+    /** The fields of an incoming message which determine how it is dispatched. */
+    private static class MessageHeader {
+        private boolean batch;
+        private JsonToken idToken;
+        private String idText;
+        private long id;
+        private boolean method;
+        private String subscription;
+
+        boolean isBatch() {
+            return batch;
+        }
+
+        boolean isReply() {
+            return idToken != null;
+        }
+
+        boolean isSubscriptionEvent() {
+            return method;
+        }
+
+        long getReplyId() throws IOException {
+            if (idToken == null) {
+                throw new IOException("'id' field is missing in the reply");
+            }
+
+            if (idToken != JsonToken.VALUE_NUMBER_INT) {
+                throw new IOException(
+                        String.format("'id' expected to be long, but it is: '%s'", idText));
+            }
+
+            return id;
+        }
+    }
 }
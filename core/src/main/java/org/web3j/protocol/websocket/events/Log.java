@@ -12,8 +12,14 @@
  */
 package org.web3j.protocol.websocket.events;
 
+import java.io.IOException;
 import java.util.List;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import org.web3j.protocol.deserializer.StreamingObjectDeserializer;
+
 public class Log {
     private String address;
     private String blockHash;
@@ -23,6 +29,7 @@ public class Log {
     private List<String> topics;
     private String transactionHash;
     private String transactionIndex;
+    private boolean removed;
 
     public String getAddress() {
         return address;
@@ -55,4 +62,55 @@ public class Log {
     public String getTransactionIndex() {
         return transactionIndex;
     }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    public static class Deserializer extends StreamingObjectDeserializer<Log> {
+
+        public Deserializer() {
+            super(Log.class, Log::new);
+        }
+
+        @Override
+        protected boolean readField(
+                Log log,
+                String field,
+                JsonParser jsonParser,
+                DeserializationContext deserializationContext)
+                throws IOException {
+            switch (field) {
+                case "address":
+                    log.address = jsonParser.getValueAsString();
+                    return true;
+                case "blockHash":
+                    log.blockHash = jsonParser.getValueAsString();
+                    return true;
+                case "blockNumber":
+                    log.blockNumber = jsonParser.getValueAsString();
+                    return true;
+                case "data":
+                    log.data = jsonParser.getValueAsString();
+                    return true;
+                case "logIndex":
+                    log.logIndex = jsonParser.getValueAsString();
+                    return true;
+                case "topics":
+                    log.topics = readStrings(jsonParser);
+                    return true;
+                case "transactionHash":
+                    log.transactionHash = jsonParser.getValueAsString();
+                    return true;
+                case "transactionIndex":
+                    log.transactionIndex = jsonParser.getValueAsString();
+                    return true;
+                case "removed":
+                    log.removed = jsonParser.getValueAsBoolean();
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
 }
@@ -12,6 +12,13 @@
  */
 package org.web3j.protocol.websocket.events;
 
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import org.web3j.protocol.deserializer.StreamingObjectDeserializer;
+
 public class NewHead {
     private String difficulty;
     private String extraData;
@@ -88,4 +95,69 @@ public class NewHead {
     public String getTransactionRoot() {
         return transactionRoot;
     }
+
+    public static class Deserializer extends StreamingObjectDeserializer<NewHead> {
+
+        public Deserializer() {
+            super(NewHead.class, NewHead::new);
+        }
+
+        @Override
+        protected boolean readField(
+                NewHead newHead,
+                String field,
+                JsonParser jsonParser,
+                DeserializationContext deserializationContext)
+                throws IOException {
+            switch (field) {
+                case "difficulty":
+                    newHead.difficulty = jsonParser.getValueAsString();
+                    return true;
+                case "extraData":
+                    newHead.extraData = jsonParser.getValueAsString();
+                    return true;
+                case "gasLimit":
+                    newHead.gasLimit = jsonParser.getValueAsString();
+                    return true;
+                case "gasUsed":
+                    newHead.gasUsed = jsonParser.getValueAsString();
+                    return true;
+                case "hash":
+                    newHead.hash = jsonParser.getValueAsString();
+                    return true;
+                case "logsBloom":
+                    newHead.logsBloom = jsonParser.getValueAsString();
+                    return true;
+                case "miner":
+                    newHead.miner = jsonParser.getValueAsString();
+                    return true;
+                case "nonce":
+                    newHead.nonce = jsonParser.getValueAsString();
+                    return true;
+                case "number":
+                    newHead.number = jsonParser.getValueAsString();
+                    return true;
+                case "parentHash":
+                    newHead.parentHash = jsonParser.getValueAsString();
+                    return true;
+                case "receiptRoot":
+                    newHead.receiptRoot = jsonParser.getValueAsString();
+                    return true;
+                case "sha3Uncles":
+                    newHead.sha3Uncles = jsonParser.getValueAsString();
+                    return true;
+                case "stateRoot":
+                    newHead.stateRoot = jsonParser.getValueAsString();
+                    return true;
+                case "timestamp":
+                    newHead.timestamp = jsonParser.getValueAsString();
+                    return true;
+                case "transactionRoot":
+                    newHead.transactionRoot = jsonParser.getValueAsString();
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
 }
@@ -12,7 +12,16 @@
  */
 package org.web3j.protocol.websocket.events;
 
+import java.io.IOException;
+import java.util.function.Supplier;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import org.web3j.protocol.deserializer.StreamingObjectDeserializer;
 
 /**
  * Base class for WebSocket notifications.
@@ -36,4 +45,67 @@ public class Notification<T> {
     public NotificationParams<T> getParams() {
         return params;
     }
+
+    /**
+     * Streaming deserializer for a notification type, reading its result with the given
+     * deserializer.
+     */
+    public static class Deserializer<T, N extends Notification<T>>
+            extends StreamingObjectDeserializer<N> {
+
+        private final JsonDeserializer<T> resultDeserializer;
+
+        public Deserializer(
+                Class<N> type, Supplier<N> factory, JsonDeserializer<T> resultDeserializer) {
+            super(type, factory);
+            this.resultDeserializer = resultDeserializer;
+        }
+
+        @Override
+        protected boolean readField(
+                N notification,
+                String field,
+                JsonParser jsonParser,
+                DeserializationContext deserializationContext)
+                throws IOException {
+            // private fields cannot be accessed through the type variable
+            Notification<T> target = notification;
+            switch (field) {
+                case "jsonrpc":
+                    target.jsonrpc = jsonParser.getValueAsString();
+                    return true;
+                case "method":
+                    target.method = jsonParser.getValueAsString();
+                    return true;
+                case "params":
+                    target.params = readParams(jsonParser, deserializationContext);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private NotificationParams<T> readParams(
+                JsonParser jsonParser, DeserializationContext deserializationContext)
+                throws IOException {
+            if (jsonParser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+
+            T result = null;
+            String subscription = null;
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = jsonParser.getCurrentName();
+                JsonToken token = jsonParser.nextToken();
+                if (field.equals("result") && token != JsonToken.VALUE_NULL) {
+                    result = resultDeserializer.deserialize(jsonParser, deserializationContext);
+                } else if (field.equals("subscription")) {
+                    subscription = jsonParser.getValueAsString();
+                } else {
+                    jsonParser.skipChildren();
+                }
+            }
+            return new NotificationParams<>(result, subscription);
+        }
+    }
 }
@@ -24,6 +24,13 @@ public class NotificationParams<T> {
     private T result;
     private String subsciption;
 
+    public NotificationParams() {}
+
+    NotificationParams(T result, String subsciption) {
+        this.result = result;
+        this.subsciption = subsciption;
+    }
+
     public T getResult() {
         return result;
     }
@@ -14,6 +14,7 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
@@ -67,6 +68,21 @@ public class ClientTransactionManager extends TransactionManager {
         return web3j.ethSendTransaction(transaction).send();
     }
 
+    @Override
+    public CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        Transaction transaction =
+                new Transaction(getFromAddress(), null, gasPrice, gasLimit, to, value, data);
+
+        return web3j.ethSendTransaction(transaction).sendAsync();
+    }
+
     @Override
     public EthSendTransaction sendTransactionEIP1559(
             BigInteger gasPremium,
@@ -78,19 +94,35 @@ public class ClientTransactionManager extends TransactionManager {
             boolean constructor)
             throws IOException {
 
-        Transaction transaction =
-                new Transaction(
-                        getFromAddress(),
-                        null,
-                        null,
-                        gasLimit,
-                        to,
-                        value,
-                        data,
-                        gasPremium,
-                        feeCap);
+        return web3j.ethSendTransaction(
+                        createTransactionEIP1559(gasPremium, feeCap, gasLimit, to, data, value))
+                .send();
+    }
 
-        return web3j.ethSendTransaction(transaction).send();
+    @Override
+    public CompletableFuture<EthSendTransaction> sendTransactionEIP1559Async(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return web3j.ethSendTransaction(
+                        createTransactionEIP1559(gasPremium, feeCap, gasLimit, to, data, value))
+                .sendAsync();
+    }
+
+    private Transaction createTransactionEIP1559(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value) {
+        return new Transaction(
+                getFromAddress(), null, null, gasLimit, to, value, data, gasPremium, feeCap);
     }
 
     @Override
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import org.web3j.abi.EventEncoder;
@@ -44,12 +46,12 @@ import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.tx.exceptions.TransactionRevertedException;
+import org.web3j.tx.gas.ContractEIP1559GasProvider;
 import org.web3j.tx.gas.ContractGasProvider;
 import org.web3j.tx.gas.StaticGasProvider;
 import org.web3j.utils.Numeric;
 
-import static org.web3j.utils.RevertReasonExtractor.extractRevertReason;
-
 /**
  * Solidity contract type abstraction for interacting with smart contracts via native Java types.
  */
@@ -294,10 +296,19 @@ public abstract class Contract extends ManagedTransaction {
         return FunctionReturnDecoder.decode(value, function.getOutputParameters());
     }
 
-    @SuppressWarnings("unchecked")
     protected <T extends Type> T executeCallSingleValueReturn(Function function)
             throws IOException {
-        List<Type> values = executeCall(function);
+        return singleValue(executeCall(function));
+    }
+
+    protected <T extends Type, R> R executeCallSingleValueReturn(
+            Function function, Class<R> returnType) throws IOException {
+        T result = executeCallSingleValueReturn(function);
+        return convertSingleValue(result, returnType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Type> T singleValue(List<Type> values) {
         if (!values.isEmpty()) {
             return (T) values.get(0);
         } else {
@@ -306,9 +317,7 @@ public abstract class Contract extends ManagedTransaction {
     }
 
     @SuppressWarnings("unchecked")
-    protected <T extends Type, R> R executeCallSingleValueReturn(
-            Function function, Class<R> returnType) throws IOException {
-        T result = executeCallSingleValueReturn(function);
+    private static <T extends Type, R> R convertSingleValue(T result, Class<R> returnType) {
         if (result == null) {
             throw new ContractCallException("Empty value (0x) returned from contract");
         }
@@ -343,6 +352,12 @@ public abstract class Contract extends ManagedTransaction {
         return executeTransaction(FunctionEncoder.encode(function), weiValue, function.getName());
     }
 
+    private CompletableFuture<TransactionReceipt> executeTransactionAsync(
+            Function function, BigInteger weiValue) {
+        return executeTransactionAsync(
+                FunctionEncoder.encode(function), weiValue, function.getName(), false);
+    }
+
     TransactionReceipt executeTransaction(String data, BigInteger weiValue, String funcName)
             throws TransactionException, IOException {
 
@@ -362,56 +377,126 @@ public abstract class Contract extends ManagedTransaction {
             String data, BigInteger weiValue, String funcName, boolean constructor)
             throws TransactionException, IOException {
 
-        TransactionReceipt receipt =
-                send(
-                        contractAddress,
-                        data,
-                        weiValue,
-                        gasProvider.getGasPrice(funcName),
-                        gasProvider.getGasLimit(funcName),
-                        constructor);
+        TransactionReceipt receipt;
+        if (isEIP1559Enabled()) {
+            ContractEIP1559GasProvider eip1559GasProvider =
+                    (ContractEIP1559GasProvider) gasProvider;
+            receipt =
+                    sendEIP1559(
+                            contractAddress,
+                            data,
+                            weiValue,
+                            eip1559GasProvider.getGasLimit(funcName),
+                            eip1559GasProvider.getGasPremium(funcName),
+                            eip1559GasProvider.getFeeCap(funcName),
+                            constructor);
+        } else {
+            receipt =
+                    send(
+                            contractAddress,
+                            data,
+                            weiValue,
+                            gasProvider.getGasPrice(funcName),
+                            gasProvider.getGasLimit(funcName),
+                            constructor);
+        }
+
+        return checkStatus(receipt, data);
+    }
+
+    CompletableFuture<TransactionReceipt> executeTransactionAsync(
+            String data, BigInteger weiValue, String funcName, boolean constructor) {
+
+        CompletableFuture<TransactionReceipt> result;
+        if (isEIP1559Enabled()) {
+            ContractEIP1559GasProvider eip1559GasProvider =
+                    (ContractEIP1559GasProvider) gasProvider;
+            result =
+                    sendEIP1559Async(
+                            contractAddress,
+                            data,
+                            weiValue,
+                            eip1559GasProvider.getGasLimit(funcName),
+                            eip1559GasProvider.getGasPremium(funcName),
+                            eip1559GasProvider.getFeeCap(funcName),
+                            constructor);
+        } else {
+            result =
+                    sendAsync(
+                            contractAddress,
+                            data,
+                            weiValue,
+                            gasProvider.getGasPrice(funcName),
+                            gasProvider.getGasLimit(funcName),
+                            constructor);
+        }
+
+        return result.thenApply(
+                receipt -> {
+                    try {
+                        return checkStatus(receipt, data);
+                    } catch (TransactionException e) {
+                        // the message of a reverted transaction does not fetch its reason, which
+                        // callers can retrieve via getRevertReasonAsync()
+                        throw new CompletionException(e.getMessage(), e);
+                    }
+                });
+    }
+
+    private boolean isEIP1559Enabled() {
+        return gasProvider instanceof ContractEIP1559GasProvider
+                && ((ContractEIP1559GasProvider) gasProvider).isEIP1559Enabled();
+    }
 
+    private TransactionReceipt checkStatus(TransactionReceipt receipt, String data)
+            throws TransactionException {
         if (!receipt.isStatusOK()) {
-            throw new TransactionException(
-                    String.format(
-                            "Transaction %s has failed with status: %s. "
-                                    + "Gas used: %s. "
-                                    + "Revert reason: '%s'.",
-                            receipt.getTransactionHash(),
-                            receipt.getStatus(),
-                            receipt.getGasUsedRaw() != null
-                                    ? receipt.getGasUsed().toString()
-                                    : "unknown",
-                            extractRevertReason(receipt, data, web3j, true)),
-                    receipt);
+            throw new TransactionRevertedException(receipt, data, web3j);
         }
         return receipt;
     }
 
     protected <T extends Type> RemoteFunctionCall<T> executeRemoteCallSingleValueReturn(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeCallSingleValueReturn(function));
+        return new RemoteFunctionCall<>(
+                function,
+                contractAddress,
+                Contract::singleValue,
+                () -> executeCallSingleValueReturn(function));
     }
 
     protected <T> RemoteFunctionCall<T> executeRemoteCallSingleValueReturn(
             Function function, Class<T> returnType) {
         return new RemoteFunctionCall<>(
-                function, () -> executeCallSingleValueReturn(function, returnType));
+                function,
+                contractAddress,
+                values -> convertSingleValue(singleValue(values), returnType),
+                () -> executeCallSingleValueReturn(function, returnType));
     }
 
     protected RemoteFunctionCall<List<Type>> executeRemoteCallMultipleValueReturn(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeCallMultipleValueReturn(function));
+        return new RemoteFunctionCall<>(
+                function,
+                contractAddress,
+                values -> values,
+                () -> executeCallMultipleValueReturn(function));
     }
 
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallTransaction(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeTransaction(function));
+        return new RemoteFunctionCall<>(
+                function,
+                () -> executeTransaction(function),
+                () -> executeTransactionAsync(function, BigInteger.ZERO));
     }
 
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallTransaction(
             Function function, BigInteger weiValue) {
-        return new RemoteFunctionCall<>(function, () -> executeTransaction(function, weiValue));
+        return new RemoteFunctionCall<>(
+                function,
+                () -> executeTransaction(function, weiValue),
+                () -> executeTransactionAsync(function, weiValue));
     }
 
     private static <T extends Contract> T create(
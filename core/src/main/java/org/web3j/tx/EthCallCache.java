@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+/**
+ * Read-through cache of {@code eth_call} results, keyed by sender, contract address, call data and
+ * block.
+ *
+ * <p>Results at {@link DefaultBlockParameterName#LATEST} are dropped on every new block. Results at
+ * a specific block number never expire, while results at {@link DefaultBlockParameterName#PENDING}
+ * are never cached. The least recently used entries are evicted once the cache holds {@code
+ * maxEntries} results.
+ *
+ * <p>A cache can be shared by several contracts via {@link
+ * ManagedTransaction#setEthCallCache(EthCallCache)}.
+ */
+public class EthCallCache implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EthCallCache.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final Map<Key, String> entries;
+    private final Disposable newHeadsSubscription;
+    // incremented on every new head, so that results of calls which were in flight while the
+    // head changed are not cached as latest
+    private volatile long head;
+    private volatile boolean followingHeads = true;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public EthCallCache(Web3j web3j) {
+        this(web3j.ethBlockHashFlowable(), DEFAULT_MAX_ENTRIES);
+    }
+
+    public EthCallCache(Web3j web3j, int maxEntries) {
+        this(web3j.ethBlockHashFlowable(), maxEntries);
+    }
+
+    /**
+     * @param newHeads hashes of new blocks
+     * @param maxEntries maximum number of cached results
+     */
+    public EthCallCache(Flowable<String> newHeads, int maxEntries) {
+        this.entries =
+                new LinkedHashMap<Key, String>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                        if (size() > maxEntries) {
+                            evictions.incrementAndGet();
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+        this.newHeadsSubscription =
+                newHeads.subscribe(
+                        blockHash -> onNewHead(),
+                        throwable -> {
+                            log.warn(
+                                    "New heads subscription failed, no longer caching latest",
+                                    throwable);
+                            followingHeads = false;
+                            onNewHead();
+                        });
+    }
+
+    /**
+     * Return the cached result of a call, or perform the call and cache its result.
+     *
+     * @param from sender address, which contracts may depend on via {@code msg.sender}
+     * @param to contract address
+     * @param data call data
+     * @param defaultBlockParameter block to call at
+     * @param call performs the call
+     * @return the result of the call
+     * @throws IOException if the call fails
+     */
+    public String get(
+            String from,
+            String to,
+            String data,
+            DefaultBlockParameter defaultBlockParameter,
+            Call call)
+            throws IOException {
+        if (defaultBlockParameter == DefaultBlockParameterName.PENDING
+                || newHeadsSubscription.isDisposed()) {
+            return call.execute();
+        }
+
+        Key key = new Key(from, to, data, defaultBlockParameter);
+        if (key.latest && !followingHeads) {
+            return call.execute();
+        }
+
+        long callHead = head;
+        synchronized (entries) {
+            String value = entries.get(key);
+            if (value != null) {
+                hits.incrementAndGet();
+                return value;
+            }
+        }
+
+        misses.incrementAndGet();
+        String value = call.execute();
+        if (value != null) {
+            synchronized (entries) {
+                if (!key.latest || callHead == head) {
+                    entries.put(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+    private void onNewHead() {
+        synchronized (entries) {
+            head++;
+            entries.keySet().removeIf(key -> key.latest);
+        }
+    }
+
+    /** Drop all cached results. */
+    public void invalidate() {
+        synchronized (entries) {
+            head++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /** Stop following new blocks and drop all cached results. Calls are no longer cached. */
+    @Override
+    public void close() {
+        newHeadsSubscription.dispose();
+        invalidate();
+    }
+
+    /** Performs an uncached {@code eth_call}. */
+    public interface Call {
+        String execute() throws IOException;
+    }
+
+    private static class Key {
+        private final String from;
+        private final String to;
+        private final String data;
+        private final String block;
+        private final boolean latest;
+
+        Key(String from, String to, String data, DefaultBlockParameter defaultBlockParameter) {
+            this.from = from == null ? null : from.toLowerCase();
+            this.to = to == null ? null : to.toLowerCase();
+            this.data = data;
+            this.block = defaultBlockParameter.getValue();
+            this.latest = defaultBlockParameter == DefaultBlockParameterName.LATEST;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(from, key.from)
+                    && Objects.equals(to, key.to)
+                    && Objects.equals(data, key.data)
+                    && Objects.equals(block, key.block);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to, data, block);
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.Web3j;
@@ -61,6 +62,31 @@ public class FastRawTransactionManager extends RawTransactionManager {
         return nonce;
     }
 
+    /**
+     * Only the first nonce is requested from the node, without blocking the caller, following
+     * nonces are allocated locally.
+     */
+    @Override
+    protected CompletableFuture<BigInteger> getNonceAsync() {
+        synchronized (this) {
+            if (nonce.signum() != -1) {
+                nonce = nonce.add(BigInteger.ONE);
+                return CompletableFuture.completedFuture(nonce);
+            }
+        }
+        return super.getNonceAsync().thenApply(this::nextNonce);
+    }
+
+    private synchronized BigInteger nextNonce(BigInteger transactionCount) {
+        // another caller may have initialised the nonce while the request was in flight
+        if (nonce.signum() == -1) {
+            nonce = transactionCount;
+        } else {
+            nonce = nonce.add(BigInteger.ONE);
+        }
+        return nonce;
+    }
+
     public BigInteger getCurrentNonce() {
         return nonce;
     }
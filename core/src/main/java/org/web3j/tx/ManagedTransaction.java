@@ -14,6 +14,7 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.web3j.ens.EnsResolver;
 import org.web3j.protocol.Web3j;
@@ -37,6 +38,8 @@ public abstract class ManagedTransaction {
 
     protected EnsResolver ensResolver;
 
+    protected EthCallCache ethCallCache;
+
     protected ManagedTransaction(Web3j web3j, TransactionManager transactionManager) {
         this(new EnsResolver(web3j), web3j, transactionManager);
     }
@@ -76,6 +79,19 @@ public abstract class ManagedTransaction {
         ensResolver.setSyncThreshold(syncThreshold);
     }
 
+    /**
+     * Cache the results of read calls in the given cache, which may be shared with other contracts.
+     *
+     * @param ethCallCache the cache to use, or null to disable caching
+     */
+    public void setEthCallCache(EthCallCache ethCallCache) {
+        this.ethCallCache = ethCallCache;
+    }
+
+    public EthCallCache getEthCallCache() {
+        return ethCallCache;
+    }
+
     /**
      * Return the current gas price from the ethereum node.
      *
@@ -128,9 +144,56 @@ public abstract class ManagedTransaction {
                 gasPrice, gasLimit, to, data, value, constructor);
     }
 
+    protected CompletableFuture<TransactionReceipt> sendAsync(
+            String to,
+            String data,
+            BigInteger value,
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            boolean constructor) {
+
+        return transactionManager.executeTransactionAsync(
+                gasPrice, gasLimit, to, data, value, constructor);
+    }
+
+    protected TransactionReceipt sendEIP1559(
+            String to,
+            String data,
+            BigInteger value,
+            BigInteger gasLimit,
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            boolean constructor)
+            throws IOException, TransactionException {
+
+        return transactionManager.executeTransactionEIP1559(
+                gasPremium, feeCap, gasLimit, to, data, value, constructor);
+    }
+
+    protected CompletableFuture<TransactionReceipt> sendEIP1559Async(
+            String to,
+            String data,
+            BigInteger value,
+            BigInteger gasLimit,
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            boolean constructor) {
+
+        return transactionManager.executeTransactionEIP1559Async(
+                gasPremium, feeCap, gasLimit, to, data, value, constructor);
+    }
+
     protected String call(String to, String data, DefaultBlockParameter defaultBlockParameter)
             throws IOException {
 
+        if (ethCallCache != null) {
+            return ethCallCache.get(
+                    transactionManager.getFromAddress(),
+                    to,
+                    data,
+                    defaultBlockParameter,
+                    () -> transactionManager.sendCall(to, data, defaultBlockParameter));
+        }
         return transactionManager.sendCall(to, data, defaultBlockParameter);
     }
 }
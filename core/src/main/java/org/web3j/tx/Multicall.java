@@ -0,0 +1,292 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.Utils;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.utils.Numeric;
+
+/**
+ * Aggregates read-only contract calls into a single {@code eth_call} to a <a
+ * href="https://github.com/mds1/multicall">Multicall3</a> contract.
+ *
+ * <p>Calls created by generated contract wrappers are queued via {@link #add(RemoteFunctionCall)},
+ * possibly across different contracts, and executed by {@link #send()}. Queued calls are split
+ * into aggregate calls of at most {@code maxCalldataSize} bytes of call data, which are sent in a
+ * single JSON-RPC batch. A reverting call only fails its own future. Calls which can not be
+ * aggregated are executed on their own.
+ */
+public class Multicall {
+
+    /** Address of the Multicall3 contract on most public networks. */
+    public static final String MULTICALL3_ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+
+    public static final int DEFAULT_MAX_CALLDATA_SIZE = 64 * 1024;
+
+    private static final String TRY_AGGREGATE =
+            Numeric.toHexString(
+                            Hash.sha3(
+                                    "tryAggregate(bool,(address,bytes)[])"
+                                            .getBytes(StandardCharsets.UTF_8)))
+                    .substring(0, 10);
+
+    // size of an ABI word in bytes
+    private static final int WORD_SIZE = 32;
+    private static final int WORD_LENGTH = WORD_SIZE * 2;
+
+    private static final List<TypeReference<Type>> RESULT_TYPES =
+            Utils.convert(
+                    Arrays.asList(
+                            new TypeReference<Bool>() {}, new TypeReference<DynamicBytes>() {}));
+
+    private final Web3j web3j;
+    private final String multicallAddress;
+    private final int maxCalldataSize;
+    private DefaultBlockParameter defaultBlockParameter = DefaultBlockParameterName.LATEST;
+
+    private final List<PendingCall<?>> pendingCalls = new ArrayList<>();
+
+    public Multicall(Web3j web3j) {
+        this(web3j, MULTICALL3_ADDRESS, DEFAULT_MAX_CALLDATA_SIZE);
+    }
+
+    /**
+     * @param web3j web3j instance
+     * @param multicallAddress address of the Multicall3 contract
+     * @param maxCalldataSize maximum size of the call data of one aggregate call in bytes
+     */
+    public Multicall(Web3j web3j, String multicallAddress, int maxCalldataSize) {
+        this.web3j = web3j;
+        this.multicallAddress = multicallAddress;
+        this.maxCalldataSize = maxCalldataSize;
+    }
+
+    /**
+     * Sets the block to execute the calls at.
+     *
+     * @param defaultBlockParameter the default block parameter
+     */
+    public void setDefaultBlockParameter(DefaultBlockParameter defaultBlockParameter) {
+        this.defaultBlockParameter = defaultBlockParameter;
+    }
+
+    /**
+     * Queue a call.
+     *
+     * @param call the call to queue
+     * @param <T> the result type
+     * @return a future that is completed with the result of the call once {@link #send()} has
+     *     executed it
+     */
+    public synchronized <T> CompletableFuture<T> add(RemoteFunctionCall<T> call) {
+        PendingCall<T> pendingCall = new PendingCall<>(call);
+        pendingCalls.add(pendingCall);
+        return pendingCall.future;
+    }
+
+    public synchronized int size() {
+        return pendingCalls.size();
+    }
+
+    /**
+     * Execute all queued calls. Failures of individual calls are reported through their futures.
+     *
+     * @throws IOException if the aggregate calls could not be sent
+     */
+    public void send() throws IOException {
+        List<PendingCall<?>> calls;
+        synchronized (this) {
+            calls = new ArrayList<>(pendingCalls);
+            pendingCalls.clear();
+        }
+
+        List<List<PendingCall<?>>> chunks = new ArrayList<>();
+        List<PendingCall<?>> chunk = new ArrayList<>();
+        int chunkSize = 0;
+        for (PendingCall<?> pendingCall : calls) {
+            if (pendingCall.encodedCall == null) {
+                pendingCall.sendSeparately();
+                continue;
+            }
+
+            int callSize = pendingCall.encodedCall.length() / 2 + WORD_SIZE;
+            if (!chunk.isEmpty() && chunkSize + callSize > maxCalldataSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkSize = 0;
+            }
+            chunk.add(pendingCall);
+            chunkSize += callSize;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+
+        try {
+            if (chunks.size() == 1) {
+                complete(chunks.get(0), aggregateCall(chunks.get(0)).send());
+            } else if (!chunks.isEmpty()) {
+                BatchRequest batchRequest = web3j.newBatch();
+                for (List<PendingCall<?>> aggregate : chunks) {
+                    batchRequest.add(aggregateCall(aggregate));
+                }
+                List<? extends Response<?>> responses = batchRequest.send().getResponses();
+                for (int i = 0; i < chunks.size(); i++) {
+                    complete(chunks.get(i), (EthCall) responses.get(i));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (List<PendingCall<?>> aggregate : chunks) {
+                for (PendingCall<?> pendingCall : aggregate) {
+                    pendingCall.future.completeExceptionally(e);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private Request<?, EthCall> aggregateCall(List<PendingCall<?>> calls) {
+        StringBuilder data = new StringBuilder(TRY_AGGREGATE);
+        // requireSuccess, followed by the offset of the calls array
+        data.append(TypeEncoder.encode(new Bool(false)));
+        data.append(encodeWord(2 * WORD_SIZE));
+        data.append(encodeWord(calls.size()));
+        int offset = calls.size() * WORD_SIZE;
+        for (PendingCall<?> pendingCall : calls) {
+            data.append(encodeWord(offset));
+            offset += pendingCall.encodedCall.length() / 2;
+        }
+        for (PendingCall<?> pendingCall : calls) {
+            data.append(pendingCall.encodedCall);
+        }
+
+        return web3j.ethCall(
+                Transaction.createEthCallTransaction(null, multicallAddress, data.toString()),
+                defaultBlockParameter);
+    }
+
+    private static void complete(List<PendingCall<?>> calls, EthCall response) {
+        if (response.isReverted()) {
+            ContractCallException exception =
+                    new ContractCallException(
+                            String.format(
+                                    TransactionManager.REVERT_ERR_STR,
+                                    response.getRevertReason()));
+            for (PendingCall<?> pendingCall : calls) {
+                pendingCall.future.completeExceptionally(exception);
+            }
+            return;
+        }
+
+        String results = Numeric.cleanHexPrefix(response.getValue());
+        int arrayOffset = decodeWord(results, 0) * 2;
+        int elementsOffset = arrayOffset + WORD_LENGTH;
+        for (int i = 0; i < calls.size(); i++) {
+            int resultOffset =
+                    elementsOffset + decodeWord(results, elementsOffset + i * WORD_LENGTH) * 2;
+            List<Type> result =
+                    FunctionReturnDecoder.decode(results.substring(resultOffset), RESULT_TYPES);
+            boolean success = ((Bool) result.get(0)).getValue();
+            String returnData = Numeric.toHexString(((DynamicBytes) result.get(1)).getValue());
+            calls.get(i).complete(success, returnData);
+        }
+    }
+
+    private static String encodeWord(long value) {
+        return TypeEncoder.encode(new Uint256(BigInteger.valueOf(value)));
+    }
+
+    private static int decodeWord(String input, int offset) {
+        return Numeric.toBigInt(input.substring(offset, offset + WORD_LENGTH)).intValueExact();
+    }
+
+    private static class PendingCall<T> {
+        private final RemoteFunctionCall<T> call;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        // ABI encoded (address target, bytes callData) tuple
+        private final String encodedCall;
+
+        PendingCall(RemoteFunctionCall<T> call) {
+            this.call = call;
+            if (call.isDecodable()) {
+                this.encodedCall =
+                        FunctionEncoder.encodeConstructor(
+                                Arrays.asList(
+                                        new Address(call.getContractAddress()),
+                                        new DynamicBytes(
+                                                Numeric.hexStringToByteArray(
+                                                        call.encodeFunctionCall()))));
+            } else {
+                this.encodedCall = null;
+            }
+        }
+
+        void sendSeparately() {
+            call.sendAsync()
+                    .whenComplete(
+                            (result, throwable) -> {
+                                if (throwable != null) {
+                                    future.completeExceptionally(throwable);
+                                } else {
+                                    future.complete(result);
+                                }
+                            });
+        }
+
+        void complete(boolean success, String returnData) {
+            if (!success) {
+                EthCall revert = new EthCall();
+                revert.setResult(returnData);
+                future.completeExceptionally(
+                        new ContractCallException(
+                                String.format(
+                                        TransactionManager.REVERT_ERR_STR,
+                                        revert.getRevertReason())));
+                return;
+            }
+
+            try {
+                future.complete(call.decodeResult(returnData));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
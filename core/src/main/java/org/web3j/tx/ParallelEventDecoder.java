@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.tx.Contract.EventValuesWithLog;
+
+/**
+ * Decodes a stream of logs against a set of event definitions on a worker pool.
+ *
+ * <p>Logs are routed to their event by topic0 and logs without a matching event are dropped.
+ * Decoding of up to {@code parallelism} logs runs concurrently, while decoded events are emitted
+ * in the order the logs were received, i.e. block and log index order for the web3j log
+ * Flowables.
+ */
+public class ParallelEventDecoder {
+
+    private final Map<String, Event> eventsBySignature;
+    private final int parallelism;
+    private final Scheduler scheduler;
+
+    public ParallelEventDecoder(List<Event> events) {
+        this(events, Runtime.getRuntime().availableProcessors(), Schedulers.computation());
+    }
+
+    public ParallelEventDecoder(List<Event> events, int parallelism, Scheduler scheduler) {
+        this.eventsBySignature = new HashMap<>(events.size());
+        for (Event event : events) {
+            eventsBySignature.put(EventEncoder.encode(event), event);
+        }
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Find the event definition for a log.
+     *
+     * @param log log to route
+     * @return the event with a signature matching topic0, or null if there is none
+     */
+    public Event getEvent(Log log) {
+        List<String> topics = log.getTopics();
+        if (topics == null || topics.isEmpty()) {
+            return null;
+        }
+        return eventsBySignature.get(topics.get(0));
+    }
+
+    public Flowable<EventValuesWithLog> decode(Flowable<Log> logs) {
+        return logs.filter(log -> getEvent(log) != null)
+                .concatMapEager(
+                        log ->
+                                Maybe.fromCallable(() -> decodeLog(log))
+                                        .subscribeOn(scheduler)
+                                        .toFlowable(),
+                        parallelism,
+                        1);
+    }
+
+    private EventValuesWithLog decodeLog(Log log) {
+        return Contract.staticExtractEventParametersWithLog(getEvent(log), log);
+    }
+}
@@ -14,10 +14,12 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.web3j.crypto.Credentials;
-import org.web3j.crypto.Hash;
 import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.SignedTransaction;
 import org.web3j.crypto.TransactionEncoder;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
@@ -29,7 +31,6 @@ import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
 import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.tx.exceptions.TxHashMismatchException;
 import org.web3j.tx.response.TransactionReceiptProcessor;
-import org.web3j.utils.Numeric;
 import org.web3j.utils.TxHashVerifier;
 
 /**
@@ -99,6 +100,13 @@ public class RawTransactionManager extends TransactionManager {
         return ethGetTransactionCount.getTransactionCount();
     }
 
+    protected CompletableFuture<BigInteger> getNonceAsync() {
+        return web3j.ethGetTransactionCount(
+                        credentials.getAddress(), DefaultBlockParameterName.PENDING)
+                .sendAsync()
+                .thenApply(EthGetTransactionCount::getTransactionCount);
+    }
+
     public TxHashVerifier getTxHashVerifier() {
         return txHashVerifier;
     }
@@ -145,6 +153,48 @@ public class RawTransactionManager extends TransactionManager {
         return signAndSend(rawTransaction);
     }
 
+    @Override
+    public CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return getNonceAsync()
+                .thenCompose(
+                        nonce ->
+                                signAndSendAsync(
+                                        RawTransaction.createTransaction(
+                                                nonce, gasPrice, gasLimit, to, value, data)));
+    }
+
+    @Override
+    public CompletableFuture<EthSendTransaction> sendTransactionEIP1559Async(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return getNonceAsync()
+                .thenCompose(
+                        nonce ->
+                                signAndSendAsync(
+                                        RawTransaction.createTransaction(
+                                                nonce,
+                                                null,
+                                                gasLimit,
+                                                to,
+                                                value,
+                                                data,
+                                                gasPremium,
+                                                feeCap)));
+    }
+
     @Override
     public String sendCall(String to, String data, DefaultBlockParameter defaultBlockParameter)
             throws IOException {
@@ -170,6 +220,16 @@ public class RawTransactionManager extends TransactionManager {
      * @return The transaction signed and encoded without ever broadcasting it
      */
     public String sign(RawTransaction rawTransaction) {
+        return signTransaction(rawTransaction).getHexValue();
+    }
+
+    /**
+     * Sign a transaction without broadcasting it.
+     *
+     * @param rawTransaction a RawTransaction instance to be signed
+     * @return the signed transaction, with its encoding and hash
+     */
+    public SignedTransaction signTransaction(RawTransaction rawTransaction) {
 
         byte[] signedMessage;
 
@@ -179,18 +239,39 @@ public class RawTransactionManager extends TransactionManager {
             signedMessage = TransactionEncoder.signMessage(rawTransaction, credentials);
         }
 
-        return Numeric.toHexString(signedMessage);
+        return new SignedTransaction(signedMessage);
     }
 
     public EthSendTransaction signAndSend(RawTransaction rawTransaction) throws IOException {
-        String hexValue = sign(rawTransaction);
-        EthSendTransaction ethSendTransaction = web3j.ethSendRawTransaction(hexValue).send();
+        SignedTransaction signedTransaction = signTransaction(rawTransaction);
+        EthSendTransaction ethSendTransaction =
+                web3j.ethSendRawTransaction(signedTransaction.getHexValue()).send();
+
+        return verifyTransactionHash(signedTransaction, ethSendTransaction);
+    }
+
+    public CompletableFuture<EthSendTransaction> signAndSendAsync(RawTransaction rawTransaction) {
+        SignedTransaction signedTransaction = signTransaction(rawTransaction);
+        return web3j.ethSendRawTransaction(signedTransaction.getHexValue())
+                .sendAsync()
+                .thenApply(
+                        ethSendTransaction -> {
+                            try {
+                                return verifyTransactionHash(signedTransaction, ethSendTransaction);
+                            } catch (TxHashMismatchException e) {
+                                throw new CompletionException(e);
+                            }
+                        });
+    }
 
+    private EthSendTransaction verifyTransactionHash(
+            SignedTransaction signedTransaction, EthSendTransaction ethSendTransaction)
+            throws TxHashMismatchException {
         if (ethSendTransaction != null && !ethSendTransaction.hasError()) {
-            String txHashLocal = Hash.sha3(hexValue);
             String txHashRemote = ethSendTransaction.getTransactionHash();
-            if (!txHashVerifier.verify(txHashLocal, txHashRemote)) {
-                throw new TxHashMismatchException(txHashLocal, txHashRemote);
+            if (!txHashVerifier.verify(signedTransaction.getTransactionHash(), txHashRemote)) {
+                throw new TxHashMismatchException(
+                        signedTransaction.getTransactionHash(), txHashRemote);
             }
         }
 
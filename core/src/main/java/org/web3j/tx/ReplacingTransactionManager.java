@@ -0,0 +1,586 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.SignedTransaction;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.exceptions.TxHashMismatchException;
+
+/**
+ * RawTransactionManager derivative which replaces its transactions if they are not mined in time.
+ *
+ * <p>Transactions executed by this manager, or passed to {@link #submit(RawTransaction)}, are
+ * tracked by nonce. On every new block the receipts of all transactions sent for a tracked nonce
+ * are requested in a single batch. If none has been mined after {@code blocksBeforeReplacement}
+ * blocks, the transaction is re-signed with its fees raised by {@code priceBumpPercent} and sent
+ * again with the same nonce. The receipt of whichever transaction is mined completes the
+ * execution. Submitting another transaction with the nonce of a pending one replaces it, and both
+ * executions complete with the receipt of whichever is mined.
+ *
+ * <p>Pending transactions can also be replaced explicitly via {@link #speedUp(BigInteger)} and
+ * {@link #cancel(BigInteger)}.
+ */
+public class ReplacingTransactionManager extends RawTransactionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplacingTransactionManager.class);
+
+    private static final BigInteger ONE_HUNDRED = BigInteger.valueOf(100);
+
+    public static final int DEFAULT_BLOCKS_BEFORE_REPLACEMENT = 5;
+    // nodes reject replacements paying less than 10% more than the transaction they replace
+    public static final int DEFAULT_PRICE_BUMP_PERCENT = 12;
+    public static final int DEFAULT_ATTEMPTS = 50;
+
+    private final Web3j web3j;
+    private final Flowable<String> blockHashes;
+    private final Scheduler scheduler;
+    private final int blocksBeforeReplacement;
+    private final int priceBumpPercent;
+    private final BigInteger maxGasPrice;
+    private final int attempts;
+    private final Map<BigInteger, PendingTransaction> pending = new LinkedHashMap<>();
+
+    private final AtomicLong replacementsSent = new AtomicLong();
+
+    private Disposable subscription;
+
+    public ReplacingTransactionManager(Web3j web3j, Credentials credentials, long chainId) {
+        this(
+                web3j,
+                credentials,
+                chainId,
+                web3j.ethBlockHashFlowable(),
+                Schedulers.io(),
+                DEFAULT_BLOCKS_BEFORE_REPLACEMENT,
+                DEFAULT_PRICE_BUMP_PERCENT,
+                null,
+                DEFAULT_ATTEMPTS);
+    }
+
+    /**
+     * Create a new transaction manager.
+     *
+     * @param web3j web3j instance
+     * @param credentials credentials to sign transactions with
+     * @param chainId chain id, or {@link ChainId#NONE}
+     * @param blockHashes hashes of new blocks
+     * @param scheduler scheduler used to process new blocks on
+     * @param blocksBeforeReplacement number of blocks to wait for a receipt before replacing a
+     *     transaction
+     * @param priceBumpPercent percentage by which fees are raised on each replacement
+     * @param maxGasPrice maximum gas price, or fee cap for EIP-1559 transactions, to replace a
+     *     transaction with, or null for no limit
+     * @param attempts number of blocks to wait for a receipt before failing
+     */
+    public ReplacingTransactionManager(
+            Web3j web3j,
+            Credentials credentials,
+            long chainId,
+            Flowable<String> blockHashes,
+            Scheduler scheduler,
+            int blocksBeforeReplacement,
+            int priceBumpPercent,
+            BigInteger maxGasPrice,
+            int attempts) {
+        super(web3j, credentials, chainId);
+        this.web3j = web3j;
+        this.blockHashes = blockHashes;
+        this.scheduler = scheduler;
+        this.blocksBeforeReplacement = blocksBeforeReplacement;
+        this.priceBumpPercent = priceBumpPercent;
+        this.maxGasPrice = maxGasPrice;
+        this.attempts = attempts;
+    }
+
+    @Override
+    protected TransactionReceipt executeTransaction(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException, TransactionException {
+
+        return waitFor(
+                submit(
+                        RawTransaction.createTransaction(
+                                getNonce(), gasPrice, gasLimit, to, value, data)));
+    }
+
+    @Override
+    protected TransactionReceipt executeTransactionEIP1559(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException, TransactionException {
+
+        return waitFor(
+                submit(
+                        RawTransaction.createTransaction(
+                                getNonce(),
+                                null,
+                                gasLimit,
+                                to,
+                                value,
+                                data,
+                                gasPremium,
+                                feeCap)));
+    }
+
+    @Override
+    protected CompletableFuture<TransactionReceipt> executeTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return getNonceAsync()
+                .thenCompose(
+                        nonce ->
+                                submit(
+                                        RawTransaction.createTransaction(
+                                                nonce, gasPrice, gasLimit, to, value, data)));
+    }
+
+    @Override
+    protected CompletableFuture<TransactionReceipt> executeTransactionEIP1559Async(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return getNonceAsync()
+                .thenCompose(
+                        nonce ->
+                                submit(
+                                        RawTransaction.createTransaction(
+                                                nonce,
+                                                null,
+                                                gasLimit,
+                                                to,
+                                                value,
+                                                data,
+                                                gasPremium,
+                                                feeCap)));
+    }
+
+    /**
+     * Sign and send a transaction, replacing it until one transaction with its nonce is mined.
+     *
+     * @param rawTransaction the transaction to send
+     * @return a future that is completed with the receipt of the original transaction or of one of
+     *     its replacements
+     */
+    public CompletableFuture<TransactionReceipt> submit(RawTransaction rawTransaction) {
+        SignedTransaction signedTransaction = signTransaction(rawTransaction);
+        return web3j.ethSendRawTransaction(signedTransaction.getHexValue())
+                .sendAsync()
+                .thenCompose(
+                        ethSendTransaction -> {
+                            CompletableFuture<TransactionReceipt> result =
+                                    new CompletableFuture<>();
+                            String transactionHash = ethSendTransaction.getTransactionHash();
+                            if (ethSendTransaction.hasError()) {
+                                result.completeExceptionally(
+                                        new RuntimeException(
+                                                "Error processing transaction request: "
+                                                        + ethSendTransaction
+                                                                .getError()
+                                                                .getMessage()));
+                            } else if (!getTxHashVerifier()
+                                    .verify(
+                                            signedTransaction.getTransactionHash(),
+                                            transactionHash)) {
+                                result.completeExceptionally(
+                                        new TxHashMismatchException(
+                                                signedTransaction.getTransactionHash(),
+                                                transactionHash));
+                            } else {
+                                result = track(rawTransaction, transactionHash);
+                            }
+                            return result;
+                        });
+    }
+
+    /**
+     * Replace a pending transaction with the same transaction at higher fees.
+     *
+     * @param nonce nonce of the pending transaction
+     * @return the node's response to the replacement
+     * @throws IOException if the replacement could not be sent
+     */
+    public EthSendTransaction speedUp(BigInteger nonce) throws IOException {
+        PendingTransaction pendingTransaction = getPending(nonce);
+        synchronized (pendingTransaction) {
+            RawTransaction current = pendingTransaction.current;
+            return replace(
+                    pendingTransaction,
+                    withBumpedFees(
+                            current,
+                            current.getGasLimit(),
+                            current.getTo(),
+                            current.getValue(),
+                            current.getData()));
+        }
+    }
+
+    /**
+     * Replace a pending transaction with a zero value transfer to the sending account at higher
+     * fees. If the cancellation is mined, the pending execution completes exceptionally with a
+     * {@link TransactionException} carrying the receipt of the cancellation. If the original
+     * transaction is mined after all, the execution completes with its receipt as usual.
+     *
+     * @param nonce nonce of the pending transaction
+     * @return the node's response to the cancellation
+     * @throws IOException if the cancellation could not be sent
+     */
+    public EthSendTransaction cancel(BigInteger nonce) throws IOException {
+        PendingTransaction pendingTransaction = getPending(nonce);
+        synchronized (pendingTransaction) {
+            // replacements of the cancellation are cancellations too
+            pendingTransaction.cancelled = true;
+            return replace(
+                    pendingTransaction,
+                    withBumpedFees(
+                            pendingTransaction.current,
+                            Transfer.GAS_LIMIT,
+                            getFromAddress(),
+                            BigInteger.ZERO,
+                            ""));
+        }
+    }
+
+    private PendingTransaction getPending(BigInteger nonce) {
+        synchronized (pending) {
+            PendingTransaction pendingTransaction = pending.get(nonce);
+            if (pendingTransaction == null) {
+                throw new IllegalArgumentException("No pending transaction with nonce " + nonce);
+            }
+            return pendingTransaction;
+        }
+    }
+
+    private CompletableFuture<TransactionReceipt> track(
+            RawTransaction rawTransaction, String transactionHash) {
+        synchronized (pending) {
+            PendingTransaction pendingTransaction = pending.get(rawTransaction.getNonce());
+            if (pendingTransaction != null) {
+                synchronized (pendingTransaction) {
+                    if (!pendingTransaction.future.isDone()) {
+                        // the node accepted it as a replacement of the pending transaction
+                        pendingTransaction.current = rawTransaction;
+                        pendingTransaction.cancelled = false;
+                        pendingTransaction.blocksSinceSent = 0;
+                        pendingTransaction.transactionHashes.add(transactionHash);
+                        return pendingTransaction.future;
+                    }
+                }
+            }
+
+            pendingTransaction = new PendingTransaction(rawTransaction, transactionHash);
+            pending.put(rawTransaction.getNonce(), pendingTransaction);
+            if (subscription == null) {
+                subscription =
+                        blockHashes
+                                .onBackpressureBuffer()
+                                .observeOn(scheduler)
+                                .subscribe(this::processBlock, this::failAll);
+            }
+            return pendingTransaction.future;
+        }
+    }
+
+    private void processBlock(String blockHash) {
+        List<PendingTransaction> outstanding;
+        synchronized (pending) {
+            outstanding = new ArrayList<>(pending.values());
+        }
+        if (outstanding.isEmpty()) {
+            return;
+        }
+
+        try {
+            sendTransactionReceiptRequests(outstanding);
+        } catch (IOException e) {
+            log.warn("Failed to request transaction receipts for block {}", blockHash, e);
+        }
+
+        for (PendingTransaction pendingTransaction : outstanding) {
+            synchronized (pendingTransaction) {
+                if (pendingTransaction.future.isDone()) {
+                    continue;
+                }
+                pendingTransaction.blocks++;
+                pendingTransaction.blocksSinceSent++;
+                if (pendingTransaction.blocks >= attempts) {
+                    String transactionHash = pendingTransaction.latestTransactionHash();
+                    pendingTransaction.future.completeExceptionally(
+                            new TransactionException(
+                                    "Transaction receipt was not generated after "
+                                            + attempts
+                                            + " blocks for transaction: "
+                                            + transactionHash,
+                                    transactionHash));
+                } else if (pendingTransaction.blocksSinceSent >= blocksBeforeReplacement) {
+                    replaceStuck(pendingTransaction);
+                }
+            }
+        }
+
+        synchronized (pending) {
+            Iterator<PendingTransaction> iterator = pending.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().future.isDone()) {
+                    iterator.remove();
+                }
+            }
+            if (pending.isEmpty() && subscription != null) {
+                subscription.dispose();
+                subscription = null;
+            }
+        }
+    }
+
+    private void sendTransactionReceiptRequests(List<PendingTransaction> outstanding)
+            throws IOException {
+        BatchRequest batchRequest = web3j.newBatch();
+        List<PendingTransaction> requested = new ArrayList<>();
+        for (PendingTransaction pendingTransaction : outstanding) {
+            synchronized (pendingTransaction) {
+                for (String transactionHash : pendingTransaction.transactionHashes) {
+                    batchRequest.add(web3j.ethGetTransactionReceipt(transactionHash));
+                    requested.add(pendingTransaction);
+                }
+            }
+        }
+
+        List<? extends Response<?>> responses = batchRequest.send().getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            EthGetTransactionReceipt response = (EthGetTransactionReceipt) responses.get(i);
+            if (response.hasError()) {
+                log.warn(
+                        "Failed to request transaction receipt: {}",
+                        response.getError().getMessage());
+                continue;
+            }
+            Optional<TransactionReceipt> receipt = response.getTransactionReceipt();
+            if (receipt.isPresent()) {
+                requested.get(i).complete(receipt.get());
+            }
+        }
+    }
+
+    private void replaceStuck(PendingTransaction pendingTransaction) {
+        RawTransaction current = pendingTransaction.current;
+        RawTransaction replacement =
+                withBumpedFees(
+                        current,
+                        current.getGasLimit(),
+                        current.getTo(),
+                        current.getValue(),
+                        current.getData());
+        if (exceedsMaxGasPrice(replacement)) {
+            log.debug(
+                    "Not replacing transaction with nonce {}, maximum gas price reached",
+                    current.getNonce());
+            return;
+        }
+
+        try {
+            EthSendTransaction ethSendTransaction = replace(pendingTransaction, replacement);
+            if (ethSendTransaction.hasError()) {
+                log.warn(
+                        "Failed to replace transaction with nonce {}: {}",
+                        current.getNonce(),
+                        ethSendTransaction.getError().getMessage());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to replace transaction with nonce {}", current.getNonce(), e);
+        }
+    }
+
+    private EthSendTransaction replace(
+            PendingTransaction pendingTransaction, RawTransaction replacement) throws IOException {
+        SignedTransaction signedTransaction = signTransaction(replacement);
+        // subsequent replacements are priced from this one, even if it is rejected
+        pendingTransaction.current = replacement;
+        pendingTransaction.blocksSinceSent = 0;
+
+        EthSendTransaction ethSendTransaction =
+                web3j.ethSendRawTransaction(signedTransaction.getHexValue()).send();
+        if (!ethSendTransaction.hasError()) {
+            pendingTransaction.transactionHashes.add(signedTransaction.getTransactionHash());
+            if (pendingTransaction.cancelled) {
+                pendingTransaction.cancellationHashes.add(signedTransaction.getTransactionHash());
+            }
+            replacementsSent.incrementAndGet();
+        }
+        return ethSendTransaction;
+    }
+
+    private RawTransaction withBumpedFees(
+            RawTransaction rawTransaction,
+            BigInteger gasLimit,
+            String to,
+            BigInteger value,
+            String data) {
+        if (rawTransaction.isEIP1559Transaction()) {
+            return RawTransaction.createTransaction(
+                    rawTransaction.getNonce(),
+                    null,
+                    gasLimit,
+                    to,
+                    value,
+                    data,
+                    bump(rawTransaction.getGasPremium()),
+                    bump(rawTransaction.getFeeCap()));
+        }
+        return RawTransaction.createTransaction(
+                rawTransaction.getNonce(),
+                bump(rawTransaction.getGasPrice()),
+                gasLimit,
+                to,
+                value,
+                data);
+    }
+
+    private BigInteger bump(BigInteger fee) {
+        BigInteger bumped =
+                fee.multiply(BigInteger.valueOf(100 + priceBumpPercent)).divide(ONE_HUNDRED);
+        return bumped.max(fee.add(BigInteger.ONE));
+    }
+
+    private boolean exceedsMaxGasPrice(RawTransaction rawTransaction) {
+        if (maxGasPrice == null) {
+            return false;
+        }
+        BigInteger price =
+                rawTransaction.isEIP1559Transaction()
+                        ? rawTransaction.getFeeCap()
+                        : rawTransaction.getGasPrice();
+        return price.compareTo(maxGasPrice) > 0;
+    }
+
+    private TransactionReceipt waitFor(CompletableFuture<TransactionReceipt> future)
+            throws IOException, TransactionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransactionException) {
+                throw (TransactionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    private void failAll(Throwable throwable) {
+        synchronized (pending) {
+            for (PendingTransaction pendingTransaction : pending.values()) {
+                pendingTransaction.future.completeExceptionally(
+                        new TransactionException(throwable));
+            }
+            pending.clear();
+            subscription = null;
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    public long getReplacementsSent() {
+        return replacementsSent.get();
+    }
+
+    private static class PendingTransaction {
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        private final List<String> transactionHashes = new ArrayList<>();
+        private final Set<String> cancellationHashes = new HashSet<>();
+        private RawTransaction current;
+        private boolean cancelled;
+        private int blocks;
+        private int blocksSinceSent;
+
+        PendingTransaction(RawTransaction rawTransaction, String transactionHash) {
+            this.current = rawTransaction;
+            this.transactionHashes.add(transactionHash);
+        }
+
+        synchronized void complete(TransactionReceipt receipt) {
+            if (cancellationHashes.contains(receipt.getTransactionHash())) {
+                future.completeExceptionally(
+                        new TransactionException(
+                                "Transaction with nonce "
+                                        + current.getNonce()
+                                        + " was cancelled by transaction "
+                                        + receipt.getTransactionHash(),
+                                receipt));
+            } else {
+                future.complete(receipt);
+            }
+        }
+
+        String latestTransactionHash() {
+            return transactionHashes.get(transactionHashes.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.exceptions.TxHashMismatchException;
+import org.web3j.tx.nonce.NonceManager;
+import org.web3j.tx.nonce.NonceReservation;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+/**
+ * RawTransactionManager derivative that allocates nonces from a {@link NonceManager}, which may be
+ * shared with the transaction managers of other accounts.
+ *
+ * <p>The nonce of a transaction is released if it could not be sent, so that it is used by the
+ * next transaction rather than leaving a gap.
+ */
+public class SharedNonceTransactionManager extends RawTransactionManager {
+
+    private final NonceManager nonceManager;
+
+    public SharedNonceTransactionManager(
+            Web3j web3j, Credentials credentials, long chainId, NonceManager nonceManager) {
+        super(web3j, credentials, chainId);
+        this.nonceManager = nonceManager;
+    }
+
+    public SharedNonceTransactionManager(
+            Web3j web3j,
+            Credentials credentials,
+            long chainId,
+            NonceManager nonceManager,
+            TransactionReceiptProcessor transactionReceiptProcessor) {
+        super(web3j, credentials, chainId, transactionReceiptProcessor);
+        this.nonceManager = nonceManager;
+    }
+
+    @Override
+    protected BigInteger getNonce() throws IOException {
+        NonceReservation reservation = nonceManager.reserve(getFromAddress());
+        reservation.commit();
+        return reservation.getNonce();
+    }
+
+    @Override
+    public EthSendTransaction sendTransaction(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+
+        NonceReservation reservation = nonceManager.reserve(getFromAddress());
+        return send(
+                reservation,
+                RawTransaction.createTransaction(
+                        reservation.getNonce(), gasPrice, gasLimit, to, value, data));
+    }
+
+    @Override
+    public EthSendTransaction sendTransactionEIP1559(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor)
+            throws IOException {
+
+        NonceReservation reservation = nonceManager.reserve(getFromAddress());
+        return send(
+                reservation,
+                RawTransaction.createTransaction(
+                        reservation.getNonce(),
+                        null,
+                        gasLimit,
+                        to,
+                        value,
+                        data,
+                        gasPremium,
+                        feeCap));
+    }
+
+    @Override
+    public CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        NonceReservation reservation;
+        try {
+            reservation = nonceManager.reserve(getFromAddress());
+        } catch (IOException e) {
+            CompletableFuture<EthSendTransaction> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        return sendAsync(
+                reservation,
+                RawTransaction.createTransaction(
+                        reservation.getNonce(), gasPrice, gasLimit, to, value, data));
+    }
+
+    @Override
+    public CompletableFuture<EthSendTransaction> sendTransactionEIP1559Async(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        NonceReservation reservation;
+        try {
+            reservation = nonceManager.reserve(getFromAddress());
+        } catch (IOException e) {
+            CompletableFuture<EthSendTransaction> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        return sendAsync(
+                reservation,
+                RawTransaction.createTransaction(
+                        reservation.getNonce(),
+                        null,
+                        gasLimit,
+                        to,
+                        value,
+                        data,
+                        gasPremium,
+                        feeCap));
+    }
+
+    public NonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    private EthSendTransaction send(NonceReservation reservation, RawTransaction rawTransaction)
+            throws IOException {
+        EthSendTransaction ethSendTransaction;
+        try {
+            ethSendTransaction = signAndSend(rawTransaction);
+        } catch (IOException | RuntimeException e) {
+            complete(reservation, e);
+            throw e;
+        }
+        complete(reservation, ethSendTransaction);
+        return ethSendTransaction;
+    }
+
+    private CompletableFuture<EthSendTransaction> sendAsync(
+            NonceReservation reservation, RawTransaction rawTransaction) {
+        CompletableFuture<EthSendTransaction> result;
+        try {
+            result = signAndSendAsync(rawTransaction);
+        } catch (RuntimeException e) {
+            reservation.release();
+            throw e;
+        }
+        return result.whenComplete(
+                (ethSendTransaction, throwable) -> {
+                    if (throwable != null) {
+                        complete(
+                                reservation,
+                                throwable instanceof CompletionException
+                                        ? throwable.getCause()
+                                        : throwable);
+                    } else {
+                        complete(reservation, ethSendTransaction);
+                    }
+                });
+    }
+
+    private static void complete(
+            NonceReservation reservation, EthSendTransaction ethSendTransaction) {
+        if (ethSendTransaction == null || ethSendTransaction.hasError()) {
+            reservation.release();
+        } else {
+            reservation.commit();
+        }
+    }
+
+    private static void complete(NonceReservation reservation, Throwable throwable) {
+        // the node has accepted the transaction if the returned hash could be compared
+        if (throwable instanceof TxHashMismatchException) {
+            reservation.commit();
+        } else {
+            reservation.release();
+        }
+    }
+}
@@ -14,6 +14,7 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameter;
@@ -25,6 +26,7 @@ import org.web3j.protocol.exceptions.TransactionException;
 import org.web3j.tx.exceptions.ContractCallException;
 import org.web3j.tx.response.PollingTransactionReceiptProcessor;
 import org.web3j.tx.response.TransactionReceiptProcessor;
+import org.web3j.utils.Async;
 
 import static org.web3j.protocol.core.JsonRpc2_0Web3j.DEFAULT_BLOCK_TIME;
 
@@ -108,6 +110,44 @@ public abstract class TransactionManager {
         return processResponse(ethSendTransaction);
     }
 
+    /**
+     * Execute a transaction asynchronously, i.e. send it and wait for its receipt without blocking
+     * a thread for the lifetime of the transaction.
+     *
+     * @param gasPrice gas price
+     * @param gasLimit gas limit
+     * @param to recipient, or null for contract creation
+     * @param data transaction data
+     * @param value value in Wei
+     * @param constructor whether the transaction creates a contract
+     * @return a future that is completed with the transaction receipt
+     */
+    protected CompletableFuture<TransactionReceipt> executeTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return sendTransactionAsync(gasPrice, gasLimit, to, data, value, constructor)
+                .thenCompose(this::processResponseAsync);
+    }
+
+    protected CompletableFuture<TransactionReceipt> executeTransactionEIP1559Async(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+
+        return sendTransactionEIP1559Async(
+                        gasPremium, feeCap, gasLimit, to, data, value, constructor)
+                .thenCompose(this::processResponseAsync);
+    }
+
     public EthSendTransaction sendTransaction(
             BigInteger gasPrice, BigInteger gasLimit, String to, String data, BigInteger value)
             throws IOException {
@@ -144,6 +184,43 @@ public abstract class TransactionManager {
             boolean constructor)
             throws IOException;
 
+    /**
+     * Send a transaction asynchronously. By default this runs {@link #sendTransaction(BigInteger,
+     * BigInteger, String, String, BigInteger, boolean)} on the {@link Async} executor, transaction
+     * managers should override it if they can send without blocking a thread.
+     *
+     * @param gasPrice gas price
+     * @param gasLimit gas limit
+     * @param to recipient, or null for contract creation
+     * @param data transaction data
+     * @param value value in Wei
+     * @param constructor whether the transaction creates a contract
+     * @return a future that is completed with the node response
+     */
+    public CompletableFuture<EthSendTransaction> sendTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+        return Async.run(() -> sendTransaction(gasPrice, gasLimit, to, data, value, constructor));
+    }
+
+    public CompletableFuture<EthSendTransaction> sendTransactionEIP1559Async(
+            BigInteger gasPremium,
+            BigInteger feeCap,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            boolean constructor) {
+        return Async.run(
+                () ->
+                        sendTransactionEIP1559(
+                                gasPremium, feeCap, gasLimit, to, data, value, constructor));
+    }
+
     public abstract String sendCall(
             String to, String data, DefaultBlockParameter defaultBlockParameter) throws IOException;
 
@@ -157,9 +234,7 @@ public abstract class TransactionManager {
     private TransactionReceipt processResponse(EthSendTransaction transactionResponse)
             throws IOException, TransactionException {
         if (transactionResponse.hasError()) {
-            throw new RuntimeException(
-                    "Error processing transaction request: "
-                            + transactionResponse.getError().getMessage());
+            throw transactionRequestException(transactionResponse);
         }
 
         String transactionHash = transactionResponse.getTransactionHash();
@@ -167,6 +242,26 @@ public abstract class TransactionManager {
         return transactionReceiptProcessor.waitForTransactionReceipt(transactionHash);
     }
 
+    private CompletableFuture<TransactionReceipt> processResponseAsync(
+            EthSendTransaction transactionResponse) {
+        if (transactionResponse.hasError()) {
+            CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+            result.completeExceptionally(transactionRequestException(transactionResponse));
+            return result;
+        }
+
+        String transactionHash = transactionResponse.getTransactionHash();
+
+        return transactionReceiptProcessor.waitForTransactionReceiptAsync(transactionHash);
+    }
+
+    private static RuntimeException transactionRequestException(
+            EthSendTransaction transactionResponse) {
+        return new RuntimeException(
+                "Error processing transaction request: "
+                        + transactionResponse.getError().getMessage());
+    }
+
     static void assertCallNotReverted(EthCall ethCall) {
         if (ethCall.isReverted()) {
             throw new ContractCallException(
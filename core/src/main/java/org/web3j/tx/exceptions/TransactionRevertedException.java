@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.exceptions;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import static org.web3j.utils.RevertReasonExtractor.MISSING_REASON;
+import static org.web3j.utils.RevertReasonExtractor.extractRevertReason;
+import static org.web3j.utils.RevertReasonExtractor.extractRevertReasonAsync;
+
+/**
+ * Thrown when a transaction has been mined with a failed status.
+ *
+ * <p>The revert reason is only retrieved from the node when it is first requested via {@link
+ * #getRevertReason()} or {@link #getRevertReasonAsync()}, and is memoized afterwards. The exception
+ * message never contacts the node, it only includes the reason once it has been retrieved or if it
+ * was present in the receipt.
+ */
+public class TransactionRevertedException extends TransactionException {
+
+    private final transient Web3j web3j;
+    private final String data;
+    private final AtomicReference<CompletableFuture<String>> revertReason =
+            new AtomicReference<>();
+    private volatile String message;
+
+    public TransactionRevertedException(TransactionReceipt transactionReceipt, String data) {
+        this(transactionReceipt, data, null);
+    }
+
+    /**
+     * @param transactionReceipt the reverted transaction receipt
+     * @param data the reverted transaction data
+     * @param web3j Web3j instance to retrieve the revert reason with, or null if the reason should
+     *     only be taken from the receipt
+     */
+    public TransactionRevertedException(
+            TransactionReceipt transactionReceipt, String data, Web3j web3j) {
+        super(null, transactionReceipt);
+        this.web3j = web3j;
+        this.data = data;
+    }
+
+    private TransactionReceipt receipt() {
+        return getTransactionReceipt().get();
+    }
+
+    /** @return the revert reason, retrieving it from the node if necessary */
+    public String getRevertReason() {
+        CompletableFuture<String> future = revertReason.get();
+        if (future == null) {
+            CompletableFuture<String> resolved = new CompletableFuture<>();
+            if (revertReason.compareAndSet(null, resolved)) {
+                resolved.complete(retrieveRevertReason());
+            }
+            future = revertReason.get();
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return MISSING_REASON;
+        }
+    }
+
+    /** @return a future completed with the revert reason, without blocking the calling thread */
+    public CompletableFuture<String> getRevertReasonAsync() {
+        CompletableFuture<String> future = revertReason.get();
+        if (future == null) {
+            CompletableFuture<String> resolved =
+                    web3j == null
+                            ? CompletableFuture.completedFuture(retrieveRevertReason())
+                            : extractRevertReasonAsync(receipt(), data, web3j)
+                                    .exceptionally(throwable -> MISSING_REASON);
+            if (!revertReason.compareAndSet(null, resolved)) {
+                future = revertReason.get();
+            } else {
+                future = resolved;
+            }
+        }
+        return future;
+    }
+
+    private String retrieveRevertReason() {
+        try {
+            return extractRevertReason(receipt(), data, web3j, web3j != null);
+        } catch (IOException | RuntimeException e) {
+            return MISSING_REASON;
+        }
+    }
+
+    private String resolvedRevertReason() {
+        String reason = receipt().getRevertReason();
+        if (reason != null) {
+            return reason;
+        }
+        CompletableFuture<String> future = revertReason.get();
+        if (future != null && future.isDone()) {
+            return future.getNow(MISSING_REASON);
+        }
+        return null;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message != null) {
+            return message;
+        }
+
+        TransactionReceipt receipt = receipt();
+        String failure =
+                String.format(
+                        "Transaction %s has failed with status: %s. Gas used: %s. ",
+                        receipt.getTransactionHash(),
+                        receipt.getStatus(),
+                        receipt.getGasUsedRaw() != null
+                                ? receipt.getGasUsed().toString()
+                                : "unknown");
+        String reason = resolvedRevertReason();
+        if (reason == null) {
+            // retrieving the reason could block the thread which is completing the receipt
+            return failure + "Revert reason not retrieved.";
+        }
+        message = failure + String.format("Revert reason: '%s'.", reason);
+        return message;
+    }
+}
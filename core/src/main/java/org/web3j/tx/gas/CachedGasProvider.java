@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.gas;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+
+/**
+ * Gas provider which fetches the gas price once per block and serves every lookup in between from
+ * its cache.
+ *
+ * <p>Cached fees are refreshed when they are older than the configured time to live, or eagerly on
+ * each new block once {@link #refreshOnNewHeads()} has been called. In EIP-1559 mode the gas
+ * premium is the price chosen by the {@link GasPriceStrategy} and the fee cap is that price scaled
+ * by the fee cap multiplier.
+ */
+@SuppressWarnings("deprecation")
+public class CachedGasProvider implements ContractEIP1559GasProvider, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedGasProvider.class);
+
+    public static final long DEFAULT_TTL = 15_000;
+    public static final double DEFAULT_FEE_CAP_MULTIPLIER = 2;
+
+    private final Web3j web3j;
+    private final GasPriceStrategy gasPriceStrategy;
+    private final BigInteger gasLimit;
+    private final long ttlNanos;
+    private final boolean eip1559Enabled;
+    private final BigDecimal feeCapMultiplier;
+
+    private volatile Fees fees;
+    private volatile Disposable newHeadsSubscription;
+
+    public CachedGasProvider(Web3j web3j, BigInteger gasLimit) {
+        this(web3j, new MultiplierGasPriceStrategy(1), gasLimit, DEFAULT_TTL);
+    }
+
+    public CachedGasProvider(
+            Web3j web3j, GasPriceStrategy gasPriceStrategy, BigInteger gasLimit, long ttl) {
+        this(web3j, gasPriceStrategy, gasLimit, ttl, false, DEFAULT_FEE_CAP_MULTIPLIER);
+    }
+
+    /**
+     * @param web3j web3j instance to fetch fee data with
+     * @param gasPriceStrategy strategy to determine the gas price
+     * @param gasLimit gas limit for all contract functions
+     * @param ttl maximum age of cached fees in milliseconds
+     * @param eip1559Enabled whether contract transactions should use EIP-1559 fees
+     * @param feeCapMultiplier multiplier applied to the gas price to obtain the fee cap
+     */
+    public CachedGasProvider(
+            Web3j web3j,
+            GasPriceStrategy gasPriceStrategy,
+            BigInteger gasLimit,
+            long ttl,
+            boolean eip1559Enabled,
+            double feeCapMultiplier) {
+        this.web3j = web3j;
+        this.gasPriceStrategy = gasPriceStrategy;
+        this.gasLimit = gasLimit;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.eip1559Enabled = eip1559Enabled;
+        this.feeCapMultiplier = BigDecimal.valueOf(feeCapMultiplier);
+    }
+
+    /**
+     * Refresh the cached fees on every new block, so that lookups never wait for the node.
+     *
+     * @return this gas provider
+     */
+    public CachedGasProvider refreshOnNewHeads() {
+        return refreshOnNewHeads(web3j.ethBlockHashFlowable());
+    }
+
+    public synchronized CachedGasProvider refreshOnNewHeads(Flowable<String> newHeads) {
+        if (newHeadsSubscription != null) {
+            newHeadsSubscription.dispose();
+        }
+        newHeadsSubscription =
+                newHeads.subscribe(
+                        blockHash -> onNewHead(),
+                        throwable -> log.warn("New heads subscription failed", throwable));
+        return this;
+    }
+
+    private void onNewHead() {
+        try {
+            refresh();
+        } catch (IOException e) {
+            log.warn("Failed to refresh gas price", e);
+            fees = null;
+        }
+    }
+
+    private synchronized Fees refresh() throws IOException {
+        Fees refreshed = new Fees(gasPriceStrategy.getGasPrice(web3j), System.nanoTime());
+        fees = refreshed;
+        return refreshed;
+    }
+
+    private Fees fees() {
+        Fees current = fees;
+        if (current != null && System.nanoTime() - current.fetchedAt < ttlNanos) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = fees;
+            if (current != null && System.nanoTime() - current.fetchedAt < ttlNanos) {
+                return current;
+            }
+            try {
+                return refresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to fetch gas price", e);
+            }
+        }
+    }
+
+    /** Drop the cached fees, so that the next lookup fetches them from the node. */
+    public void invalidate() {
+        fees = null;
+    }
+
+    @Override
+    public boolean isEIP1559Enabled() {
+        return eip1559Enabled;
+    }
+
+    @Override
+    public BigInteger getGasPremium(String contractFunc) {
+        return fees().gasPrice;
+    }
+
+    @Override
+    public BigInteger getFeeCap(String contractFunc) {
+        return fees().feeCap;
+    }
+
+    @Override
+    public BigInteger getGasPrice(String contractFunc) {
+        return fees().gasPrice;
+    }
+
+    @Override
+    public BigInteger getGasPrice() {
+        return fees().gasPrice;
+    }
+
+    @Override
+    public BigInteger getGasLimit(String contractFunc) {
+        return gasLimit;
+    }
+
+    @Override
+    public BigInteger getGasLimit() {
+        return gasLimit;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (newHeadsSubscription != null) {
+            newHeadsSubscription.dispose();
+            newHeadsSubscription = null;
+        }
+    }
+
+    private class Fees {
+        private final BigInteger gasPrice;
+        private final BigInteger feeCap;
+        private final long fetchedAt;
+
+        Fees(BigInteger gasPrice, long fetchedAt) {
+            this.gasPrice = gasPrice;
+            this.feeCap = new BigDecimal(gasPrice).multiply(feeCapMultiplier).toBigInteger();
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.gas;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.web3j.protocol.Web3j;
+
+/** Uses the node's {@code eth_gasPrice}, scaled by a multiplier. */
+public class MultiplierGasPriceStrategy implements GasPriceStrategy {
+
+    private final BigDecimal multiplier;
+
+    public MultiplierGasPriceStrategy(double multiplier) {
+        if (multiplier <= 0) {
+            throw new IllegalArgumentException("Multiplier must be positive");
+        }
+        this.multiplier = BigDecimal.valueOf(multiplier);
+    }
+
+    @Override
+    public BigInteger getGasPrice(Web3j web3j) throws IOException {
+        BigInteger gasPrice = web3j.ethGasPrice().send().getGasPrice();
+        return new BigDecimal(gasPrice).multiply(multiplier).toBigInteger();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.gas;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Uses a percentile of the gas prices paid by the transactions in the latest block, falling back to
+ * {@code eth_gasPrice} for empty blocks.
+ */
+public class PercentileGasPriceStrategy implements GasPriceStrategy {
+
+    private final int percentile;
+
+    public PercentileGasPriceStrategy(int percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        this.percentile = percentile;
+    }
+
+    @Override
+    public BigInteger getGasPrice(Web3j web3j) throws IOException {
+        EthBlock.Block block =
+                web3j.ethGetBlockByNumber(DefaultBlockParameterName.LATEST, true)
+                        .send()
+                        .getBlock();
+
+        List<BigInteger> gasPrices = new ArrayList<>();
+        if (block != null && block.getTransactions() != null) {
+            for (EthBlock.TransactionResult<?> result : block.getTransactions()) {
+                if (result instanceof EthBlock.TransactionObject) {
+                    gasPrices.add(((EthBlock.TransactionObject) result).getGasPrice());
+                }
+            }
+        }
+
+        if (gasPrices.isEmpty()) {
+            return web3j.ethGasPrice().send().getGasPrice();
+        }
+
+        Collections.sort(gasPrices);
+        int index = (int) Math.ceil(percentile / 100.0 * gasPrices.size()) - 1;
+        return gasPrices.get(Math.max(index, 0));
+    }
+}
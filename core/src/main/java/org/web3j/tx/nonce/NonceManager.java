@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.nonce;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+/**
+ * Nonce allocator shared by any number of accounts.
+ *
+ * <p>Each account has an atomic counter which is initialised from {@code
+ * eth_getTransactionCount(pending)} on first use, after which nonces are allocated without
+ * locking. A nonce is allocated as a {@link NonceReservation} which is committed once the
+ * transaction has been accepted by the node, or released if sending failed, in which case the
+ * nonce is handed out again before any new one.
+ *
+ * <p>Reconciliation compares the local state of each account with the pending transaction count
+ * of the node. Nonces used outside of this manager are skipped, and if the node is missing a
+ * committed nonce, e.g. because the transaction has been dropped from its pool, the gap is
+ * reported to the {@link GapFiller} once it has been observed by two consecutive reconciliations.
+ */
+public class NonceManager {
+
+    private static final Logger log = LoggerFactory.getLogger(NonceManager.class);
+
+    private final Web3j web3j;
+    private final GapFiller gapFiller;
+    private final Map<String, AccountNonces> accounts = new ConcurrentHashMap<>();
+
+    private final AtomicLong reservations = new AtomicLong();
+    private final AtomicLong releases = new AtomicLong();
+    private final AtomicLong gapsFilled = new AtomicLong();
+
+    public NonceManager(Web3j web3j) {
+        this(web3j, null);
+    }
+
+    /**
+     * Create a new nonce manager.
+     *
+     * @param web3j web3j instance
+     * @param gapFiller used to fill gaps found during reconciliation, or null to only log them
+     */
+    public NonceManager(Web3j web3j, GapFiller gapFiller) {
+        this.web3j = web3j;
+        this.gapFiller = gapFiller;
+    }
+
+    /**
+     * Reserve the next nonce of an account.
+     *
+     * @param address account address
+     * @return the reservation, which must be committed or released
+     * @throws IOException if the nonce of a new account could not be retrieved
+     */
+    public NonceReservation reserve(String address) throws IOException {
+        AccountNonces account = getAccount(address);
+
+        Long released = account.released.pollFirst();
+        long nonce = released != null ? released : account.next.getAndIncrement();
+        account.inFlight.add(nonce);
+
+        reservations.incrementAndGet();
+        return new NonceReservation(this, address, BigInteger.valueOf(nonce));
+    }
+
+    void commit(String address, long nonce) {
+        AccountNonces account = accounts.get(key(address));
+        account.inFlight.remove(nonce);
+        account.highestCommitted.accumulateAndGet(nonce, Math::max);
+    }
+
+    void release(String address, long nonce) {
+        AccountNonces account = accounts.get(key(address));
+        account.inFlight.remove(nonce);
+        if (!account.next.compareAndSet(nonce + 1, nonce)) {
+            account.released.add(nonce);
+        }
+        releases.incrementAndGet();
+    }
+
+    /**
+     * Reconcile an account with the node. Accounts which have not been used yet are ignored.
+     *
+     * @param address account address
+     * @throws IOException if the transaction count could not be retrieved or a gap not be filled
+     */
+    public void reconcile(String address) throws IOException {
+        AccountNonces account = accounts.get(key(address));
+        if (account == null || account.next.get() < 0) {
+            return;
+        }
+
+        long pending = getPendingTransactionCount(address);
+        account.next.accumulateAndGet(pending, Math::max);
+        account.released.headSet(pending).clear();
+
+        boolean gap =
+                pending <= account.highestCommitted.get() && !account.inFlight.contains(pending);
+        if (!gap) {
+            account.suspectedGap = -1;
+            return;
+        }
+        if (account.suspectedGap != pending) {
+            account.suspectedGap = pending;
+            return;
+        }
+
+        account.suspectedGap = -1;
+        if (gapFiller == null) {
+            log.warn("Nonce {} of account {} is missing on the node", pending, address);
+            return;
+        }
+        account.released.remove(pending);
+        gapFiller.fill(address, BigInteger.valueOf(pending));
+        gapsFilled.incrementAndGet();
+    }
+
+    /** Reconcile all accounts with the node, failures are logged. */
+    public void reconcileAll() {
+        for (String address : accounts.keySet()) {
+            try {
+                reconcile(address);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to reconcile nonces of account {}", address, e);
+            }
+        }
+    }
+
+    /**
+     * Periodically reconcile all accounts.
+     *
+     * @param scheduledExecutorService executor to reconcile on
+     * @param period time between reconciliations in milliseconds
+     * @return a future which can be used to cancel reconciliation
+     */
+    public ScheduledFuture<?> scheduleReconciliation(
+            ScheduledExecutorService scheduledExecutorService, long period) {
+        return scheduledExecutorService.scheduleAtFixedRate(
+                this::reconcileAll, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the nonce the next new reservation of an account will receive, if none are released.
+     *
+     * @param address account address
+     * @return the next nonce, or null if the account has not been used yet
+     */
+    public BigInteger getNextNonce(String address) {
+        AccountNonces account = accounts.get(key(address));
+        if (account == null || account.next.get() < 0) {
+            return null;
+        }
+        return BigInteger.valueOf(account.next.get());
+    }
+
+    public long getReservations() {
+        return reservations.get();
+    }
+
+    public long getReleases() {
+        return releases.get();
+    }
+
+    public long getGapsFilled() {
+        return gapsFilled.get();
+    }
+
+    private AccountNonces getAccount(String address) throws IOException {
+        AccountNonces account = accounts.computeIfAbsent(key(address), k -> new AccountNonces());
+        if (account.next.get() < 0) {
+            synchronized (account) {
+                if (account.next.get() < 0) {
+                    account.next.set(getPendingTransactionCount(address));
+                }
+            }
+        }
+        return account;
+    }
+
+    private long getPendingTransactionCount(String address) throws IOException {
+        EthGetTransactionCount ethGetTransactionCount =
+                web3j.ethGetTransactionCount(address, DefaultBlockParameterName.PENDING).send();
+        if (ethGetTransactionCount.hasError()) {
+            throw new IOException(
+                    "Error retrieving transaction count: "
+                            + ethGetTransactionCount.getError().getMessage());
+        }
+        return ethGetTransactionCount.getTransactionCount().longValueExact();
+    }
+
+    private static String key(String address) {
+        return address.toLowerCase();
+    }
+
+    private static class AccountNonces {
+        // -1 until initialised from the node
+        private final AtomicLong next = new AtomicLong(-1);
+        private final AtomicLong highestCommitted = new AtomicLong(-1);
+        private final ConcurrentSkipListSet<Long> released = new ConcurrentSkipListSet<>();
+        private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+        private volatile long suspectedGap = -1;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.nonce;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A nonce allocated by a {@link NonceManager}. Only the first call to {@link #commit()} or {@link
+ * #release()} has an effect.
+ */
+public class NonceReservation {
+
+    private final NonceManager nonceManager;
+    private final String address;
+    private final BigInteger nonce;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    NonceReservation(NonceManager nonceManager, String address, BigInteger nonce) {
+        this.nonceManager = nonceManager;
+        this.address = address;
+        this.nonce = nonce;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public BigInteger getNonce() {
+        return nonce;
+    }
+
+    /** Mark the nonce as used, i.e. a transaction with this nonce has been accepted. */
+    public void commit() {
+        if (completed.compareAndSet(false, true)) {
+            nonceManager.commit(address, nonce.longValue());
+        }
+    }
+
+    /** Return the nonce so that it is allocated again, i.e. no transaction has been sent. */
+    public void release() {
+        if (completed.compareAndSet(false, true)) {
+            nonceManager.release(address, nonce.longValue());
+        }
+    }
+}
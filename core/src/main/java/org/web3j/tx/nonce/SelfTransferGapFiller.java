@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.nonce;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.TransactionEncoder;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.ChainId;
+import org.web3j.tx.Transfer;
+import org.web3j.utils.Numeric;
+
+/**
+ * Fills nonce gaps with zero value transfers from an account to itself, at the current gas price.
+ */
+public class SelfTransferGapFiller implements GapFiller {
+
+    private final Web3j web3j;
+    private final long chainId;
+    private final Map<String, Credentials> credentials = new HashMap<>();
+
+    public SelfTransferGapFiller(Web3j web3j, long chainId, List<Credentials> credentials) {
+        this.web3j = web3j;
+        this.chainId = chainId;
+        for (Credentials account : credentials) {
+            this.credentials.put(account.getAddress().toLowerCase(), account);
+        }
+    }
+
+    @Override
+    public void fill(String address, BigInteger nonce) throws IOException {
+        Credentials account = credentials.get(address.toLowerCase());
+        if (account == null) {
+            throw new IllegalArgumentException("No credentials for account " + address);
+        }
+
+        BigInteger gasPrice = web3j.ethGasPrice().send().getGasPrice();
+        RawTransaction rawTransaction =
+                RawTransaction.createEtherTransaction(
+                        nonce, gasPrice, Transfer.GAS_LIMIT, account.getAddress(), BigInteger.ZERO);
+
+        byte[] signedMessage;
+        if (chainId > ChainId.NONE) {
+            signedMessage = TransactionEncoder.signMessage(rawTransaction, chainId, account);
+        } else {
+            signedMessage = TransactionEncoder.signMessage(rawTransaction, account);
+        }
+
+        EthSendTransaction ethSendTransaction =
+                web3j.ethSendRawTransaction(Numeric.toHexString(signedMessage)).send();
+        if (ethSendTransaction.hasError()) {
+            throw new IOException(
+                    "Error filling nonce "
+                            + nonce
+                            + " of account "
+                            + address
+                            + ": "
+                            + ethSendTransaction.getError().getMessage());
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+/**
+ * Transaction receipt processor that only queries for receipts when a new block is created.
+ *
+ * <p>On each new block the processor looks up the hashes of the transactions included in the
+ * block, and requests the receipts of the outstanding transactions it contains in a single
+ * JSON-RPC batch. Newly registered transactions, which may have been included in an earlier block,
+ * and transactions about to time out are always part of the batch.
+ *
+ * <p>Blocks are followed via {@link Web3j#ethBlockHashFlowable()}, i.e. using a subscription if
+ * the service supports them or a polling filter otherwise, and only while there are outstanding
+ * transactions.
+ */
+public class BlockBatchingTransactionReceiptProcessor extends TransactionReceiptProcessor {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(BlockBatchingTransactionReceiptProcessor.class);
+
+    public static final int DEFAULT_ATTEMPTS = 40;
+
+    private final Web3j web3j;
+    private final Flowable<String> blockHashes;
+    private final Scheduler scheduler;
+    private final int attempts;
+    private final Map<String, PendingReceipt> pending = new LinkedHashMap<>();
+
+    private final AtomicLong blocksProcessed = new AtomicLong();
+    private final AtomicLong batchesSent = new AtomicLong();
+    private final AtomicLong receiptRequestsSent = new AtomicLong();
+
+    private Disposable subscription;
+
+    public BlockBatchingTransactionReceiptProcessor(Web3j web3j) {
+        this(web3j, DEFAULT_ATTEMPTS);
+    }
+
+    public BlockBatchingTransactionReceiptProcessor(Web3j web3j, int attempts) {
+        this(web3j, web3j.ethBlockHashFlowable(), Schedulers.io(), attempts);
+    }
+
+    /**
+     * Create a new processor.
+     *
+     * @param web3j web3j instance
+     * @param blockHashes hashes of new blocks
+     * @param scheduler scheduler used to process new blocks on
+     * @param attempts number of blocks to wait for a transaction receipt before failing
+     */
+    public BlockBatchingTransactionReceiptProcessor(
+            Web3j web3j, Flowable<String> blockHashes, Scheduler scheduler, int attempts) {
+        super(web3j);
+        this.web3j = web3j;
+        this.blockHashes = blockHashes;
+        this.scheduler = scheduler;
+        this.attempts = attempts;
+    }
+
+    @Override
+    public TransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        try {
+            return waitForTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransactionException) {
+                throw (TransactionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    /**
+     * Register a transaction to wait for.
+     *
+     * @param transactionHash hash of the transaction
+     * @return a future that is completed with the transaction receipt, or exceptionally with a
+     *     {@link TransactionException} if none has been generated after the configured number of
+     *     blocks
+     */
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        synchronized (pending) {
+            PendingReceipt pendingReceipt =
+                    pending.computeIfAbsent(transactionHash, hash -> new PendingReceipt());
+            if (subscription == null) {
+                subscription =
+                        blockHashes
+                                .onBackpressureBuffer()
+                                .observeOn(scheduler)
+                                .subscribe(this::processBlock, this::failAll);
+            }
+            return pendingReceipt.future;
+        }
+    }
+
+    private void processBlock(String blockHash) {
+        blocksProcessed.incrementAndGet();
+
+        List<Map.Entry<String, PendingReceipt>> outstanding;
+        synchronized (pending) {
+            outstanding = new ArrayList<>(pending.entrySet());
+        }
+        if (outstanding.isEmpty()) {
+            return;
+        }
+
+        Set<String> included = getTransactionHashes(blockHash);
+        List<String> toCheck = new ArrayList<>();
+        for (Map.Entry<String, PendingReceipt> entry : outstanding) {
+            PendingReceipt pendingReceipt = entry.getValue();
+            pendingReceipt.blocks++;
+            if (!pendingReceipt.checked
+                    || included.contains(entry.getKey().toLowerCase())
+                    || pendingReceipt.blocks >= attempts) {
+                toCheck.add(entry.getKey());
+            }
+        }
+
+        if (!toCheck.isEmpty()) {
+            try {
+                sendTransactionReceiptRequests(toCheck);
+            } catch (IOException e) {
+                log.warn("Failed to request transaction receipts for block {}", blockHash, e);
+            }
+        }
+
+        synchronized (pending) {
+            Iterator<Map.Entry<String, PendingReceipt>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, PendingReceipt> entry = iterator.next();
+                PendingReceipt pendingReceipt = entry.getValue();
+                if (!pendingReceipt.future.isDone() && pendingReceipt.blocks >= attempts) {
+                    pendingReceipt.future.completeExceptionally(
+                            new TransactionException(
+                                    "Transaction receipt was not generated after "
+                                            + attempts
+                                            + " blocks for transaction: "
+                                            + entry.getKey(),
+                                    entry.getKey()));
+                }
+                if (pendingReceipt.future.isDone()) {
+                    iterator.remove();
+                }
+            }
+            if (pending.isEmpty() && subscription != null) {
+                subscription.dispose();
+                subscription = null;
+            }
+        }
+    }
+
+    private Set<String> getTransactionHashes(String blockHash) {
+        try {
+            EthBlock.Block block = web3j.ethGetBlockByHash(blockHash, false).send().getBlock();
+            if (block == null) {
+                return Collections.emptySet();
+            }
+
+            Set<String> transactionHashes = new HashSet<>();
+            for (EthBlock.TransactionResult<?> transaction : block.getTransactions()) {
+                transactionHashes.add(((String) transaction.get()).toLowerCase());
+            }
+            return transactionHashes;
+        } catch (IOException e) {
+            log.warn("Failed to retrieve block {}", blockHash, e);
+            return Collections.emptySet();
+        }
+    }
+
+    private void sendTransactionReceiptRequests(List<String> transactionHashes)
+            throws IOException {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (String transactionHash : transactionHashes) {
+            batchRequest.add(web3j.ethGetTransactionReceipt(transactionHash));
+        }
+
+        batchesSent.incrementAndGet();
+        receiptRequestsSent.addAndGet(transactionHashes.size());
+        List<? extends Response<?>> responses = batchRequest.send().getResponses();
+
+        for (int i = 0; i < responses.size(); i++) {
+            PendingReceipt pendingReceipt;
+            synchronized (pending) {
+                pendingReceipt = pending.get(transactionHashes.get(i));
+            }
+            if (pendingReceipt == null) {
+                continue;
+            }
+            pendingReceipt.checked = true;
+
+            EthGetTransactionReceipt response = (EthGetTransactionReceipt) responses.get(i);
+            if (response.hasError()) {
+                pendingReceipt.future.completeExceptionally(
+                        new TransactionException(
+                                "Error processing request: " + response.getError().getMessage()));
+                continue;
+            }
+            Optional<TransactionReceipt> receipt = response.getTransactionReceipt();
+            receipt.ifPresent(pendingReceipt.future::complete);
+        }
+    }
+
+    private void failAll(Throwable throwable) {
+        synchronized (pending) {
+            for (PendingReceipt pendingReceipt : pending.values()) {
+                pendingReceipt.future.completeExceptionally(new TransactionException(throwable));
+            }
+            pending.clear();
+            subscription = null;
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    public long getBlocksProcessed() {
+        return blocksProcessed.get();
+    }
+
+    public long getBatchesSent() {
+        return batchesSent.get();
+    }
+
+    public long getReceiptRequestsSent() {
+        return receiptRequestsSent.get();
+    }
+
+    private static class PendingReceipt {
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        // only accessed when processing blocks, which happens serially
+        private int blocks;
+        private boolean checked;
+    }
+}
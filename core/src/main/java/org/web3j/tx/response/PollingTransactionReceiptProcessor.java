@@ -14,21 +14,42 @@ package org.web3j.tx.response;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 
-/** With each provided transaction hash, poll until we obtain a transaction receipt. */
+/**
+ * With each provided transaction hash, poll until we obtain a transaction receipt.
+ *
+ * <p>When waiting asynchronously, no thread is held between attempts, instead each following
+ * attempt is scheduled on the provided executor. By default a shared executor backed by a single
+ * daemon thread is used, so pending polls never keep the JVM alive.
+ */
 public class PollingTransactionReceiptProcessor extends TransactionReceiptProcessor {
 
     protected final long sleepDuration;
     protected final int attempts;
+    private final ScheduledExecutorService scheduledExecutorService;
 
     public PollingTransactionReceiptProcessor(Web3j web3j, long sleepDuration, int attempts) {
+        this(web3j, sleepDuration, attempts, DefaultScheduler.INSTANCE);
+    }
+
+    public PollingTransactionReceiptProcessor(
+            Web3j web3j,
+            long sleepDuration,
+            int attempts,
+            ScheduledExecutorService scheduledExecutorService) {
         super(web3j);
         this.sleepDuration = sleepDuration;
         this.attempts = attempts;
+        this.scheduledExecutorService = scheduledExecutorService;
     }
 
     @Override
@@ -58,11 +79,59 @@ public class PollingTransactionReceiptProcessor extends TransactionReceiptProces
             }
         }
 
-        throw new TransactionException(
+        throw receiptTimeoutException(transactionHash);
+    }
+
+    @Override
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+        pollTransactionReceipt(transactionHash, 0, result);
+        return result;
+    }
+
+    private void pollTransactionReceipt(
+            String transactionHash, int attempt, CompletableFuture<TransactionReceipt> result) {
+        sendTransactionReceiptRequestAsync(transactionHash)
+                .whenComplete(
+                        (receiptOptional, throwable) -> {
+                            if (throwable != null) {
+                                result.completeExceptionally(
+                                        throwable instanceof CompletionException
+                                                ? throwable.getCause()
+                                                : throwable);
+                            } else if (receiptOptional.isPresent()) {
+                                result.complete(receiptOptional.get());
+                            } else if (attempt + 1 >= attempts) {
+                                result.completeExceptionally(
+                                        receiptTimeoutException(transactionHash));
+                            } else {
+                                scheduledExecutorService.schedule(
+                                        () ->
+                                                pollTransactionReceipt(
+                                                        transactionHash, attempt + 1, result),
+                                        sleepDuration,
+                                        TimeUnit.MILLISECONDS);
+                            }
+                        });
+    }
+
+    private TransactionException receiptTimeoutException(String transactionHash) {
+        return new TransactionException(
                 "Transaction receipt was not generated after "
                         + ((sleepDuration * attempts) / 1000
                                 + " seconds for transaction: "
                                 + transactionHash),
                 transactionHash);
     }
+
+    private static final class DefaultScheduler {
+        static final ScheduledExecutorService INSTANCE =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "web3j-receipt-poller");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
 }
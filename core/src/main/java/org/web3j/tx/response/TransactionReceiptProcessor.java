@@ -14,11 +14,14 @@ package org.web3j.tx.response;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
 
 /** Abstraction for managing how we wait for transaction receipts to be generated on the network. */
 public abstract class TransactionReceiptProcessor {
@@ -32,10 +35,42 @@ public abstract class TransactionReceiptProcessor {
     public abstract TransactionReceipt waitForTransactionReceipt(String transactionHash)
             throws IOException, TransactionException;
 
+    /**
+     * Wait for a transaction receipt asynchronously. By default this runs {@link
+     * #waitForTransactionReceipt(String)} on the {@link Async} executor, processors should
+     * override it if they can wait without blocking a thread.
+     *
+     * @param transactionHash hash of the transaction
+     * @return a future that is completed with the transaction receipt
+     */
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        return Async.run(() -> waitForTransactionReceipt(transactionHash));
+    }
+
     Optional<? extends TransactionReceipt> sendTransactionReceiptRequest(String transactionHash)
             throws IOException, TransactionException {
         EthGetTransactionReceipt transactionReceipt =
                 web3j.ethGetTransactionReceipt(transactionHash).send();
+        return getTransactionReceipt(transactionReceipt);
+    }
+
+    CompletableFuture<Optional<? extends TransactionReceipt>> sendTransactionReceiptRequestAsync(
+            String transactionHash) {
+        return web3j.ethGetTransactionReceipt(transactionHash)
+                .sendAsync()
+                .thenApply(
+                        transactionReceipt -> {
+                            try {
+                                return getTransactionReceipt(transactionReceipt);
+                            } catch (TransactionException e) {
+                                throw new CompletionException(e);
+                            }
+                        });
+    }
+
+    private static Optional<? extends TransactionReceipt> getTransactionReceipt(
+            EthGetTransactionReceipt transactionReceipt) throws TransactionException {
         if (transactionReceipt.hasError()) {
             throw new TransactionException(
                     "Error processing request: " + transactionReceipt.getError().getMessage());
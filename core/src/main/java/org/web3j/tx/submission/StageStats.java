@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.submission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput and latency of a pipeline stage. The latency of an item is measured from when it is
+ * queued for the stage until the stage has completed it.
+ */
+public class StageStats {
+
+    private final long startTime = System.nanoTime();
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    void record(long queuedAt) {
+        long latency = System.nanoTime() - queuedAt;
+        count.incrementAndGet();
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /** @return completed items per second since the stage was created */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - startTime;
+        return elapsed == 0 ? 0 : count.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /** @return average latency in milliseconds */
+    public double getAverageLatency() {
+        long completed = count.get();
+        return completed == 0 ? 0 : toMillis(totalLatency.get()) / completed;
+    }
+
+    /** @return maximum latency in milliseconds */
+    public double getMaxLatency() {
+        return toMillis(maxLatency.get());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "StageStats{"
+                + "count="
+                + getCount()
+                + ", throughput="
+                + getThroughput()
+                + ", averageLatency="
+                + getAverageLatency()
+                + ", maxLatency="
+                + getMaxLatency()
+                + '}';
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.submission;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.SignedTransaction;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.tx.RawTransactionManager;
+import org.web3j.tx.exceptions.TxHashMismatchException;
+import org.web3j.tx.nonce.NonceManager;
+import org.web3j.tx.nonce.NonceReservation;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+/**
+ * Pipelined submission of many transactions from a single account.
+ *
+ * <p>Submitted transactions pass through three stages:
+ *
+ * <ol>
+ *   <li>signing, where a nonce is reserved from the {@link NonceManager} and the transaction is
+ *       signed by the {@link RawTransactionManager}, on a pool of signing threads
+ *   <li>sending, where signed transactions are sent in JSON-RPC batches of up to {@code
+ *       maxBatchSize} {@code eth_sendRawTransaction} requests, in nonce order
+ *   <li>confirmation, where receipts are awaited via {@link
+ *       TransactionReceiptProcessor#waitForTransactionReceiptAsync(String)}
+ * </ol>
+ *
+ * <p>The signing and sending queues are bounded, {@link #submit(Function)} blocks while the
+ * signing queue is full, and no more than {@code maxPendingConfirmations} transactions are awaiting
+ * their receipt at any time.
+ */
+public class TransactionSubmissionEngine implements Closeable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_PENDING_CONFIRMATIONS = 10_000;
+
+    private final Web3j web3j;
+    private final RawTransactionManager transactionManager;
+    private final NonceManager nonceManager;
+    private final TransactionReceiptProcessor transactionReceiptProcessor;
+    private final int maxBatchSize;
+
+    private final BlockingQueue<Submission> signingQueue;
+    private final BlockingQueue<Submission> sendingQueue;
+    private final Semaphore pendingConfirmations;
+    private final ExecutorService signingExecutor;
+    private final ExecutorService sendingExecutor;
+
+    private final StageStats signingStats = new StageStats();
+    private final StageStats sendingStats = new StageStats();
+    private final StageStats confirmationStats = new StageStats();
+
+    public TransactionSubmissionEngine(
+            Web3j web3j,
+            RawTransactionManager transactionManager,
+            NonceManager nonceManager,
+            TransactionReceiptProcessor transactionReceiptProcessor) {
+        this(
+                web3j,
+                transactionManager,
+                nonceManager,
+                transactionReceiptProcessor,
+                Runtime.getRuntime().availableProcessors(),
+                DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_MAX_BATCH_SIZE,
+                DEFAULT_MAX_PENDING_CONFIRMATIONS);
+    }
+
+    /**
+     * Create a new engine and start its signing and sending threads.
+     *
+     * @param web3j web3j instance to send batches with
+     * @param transactionManager transaction manager to sign with
+     * @param nonceManager nonce manager to reserve nonces from
+     * @param transactionReceiptProcessor processor to wait for receipts with
+     * @param signingThreads number of signing threads
+     * @param signingQueueCapacity maximum number of transactions waiting to be signed
+     * @param sendingQueueCapacity maximum number of signed transactions waiting to be sent
+     * @param maxBatchSize maximum number of transactions per batch
+     * @param maxPendingConfirmations maximum number of sent transactions awaiting their receipt,
+     *     must be at least {@code maxBatchSize}
+     */
+    public TransactionSubmissionEngine(
+            Web3j web3j,
+            RawTransactionManager transactionManager,
+            NonceManager nonceManager,
+            TransactionReceiptProcessor transactionReceiptProcessor,
+            int signingThreads,
+            int signingQueueCapacity,
+            int sendingQueueCapacity,
+            int maxBatchSize,
+            int maxPendingConfirmations) {
+        if (maxPendingConfirmations < maxBatchSize) {
+            throw new IllegalArgumentException(
+                    "maxPendingConfirmations must be at least maxBatchSize");
+        }
+
+        this.web3j = web3j;
+        this.transactionManager = transactionManager;
+        this.nonceManager = nonceManager;
+        this.transactionReceiptProcessor = transactionReceiptProcessor;
+        this.maxBatchSize = maxBatchSize;
+        this.signingQueue = new ArrayBlockingQueue<>(signingQueueCapacity);
+        this.sendingQueue = new ArrayBlockingQueue<>(sendingQueueCapacity);
+        this.pendingConfirmations = new Semaphore(maxPendingConfirmations);
+
+        this.signingExecutor = Executors.newFixedThreadPool(signingThreads);
+        for (int i = 0; i < signingThreads; i++) {
+            signingExecutor.execute(this::runSigning);
+        }
+        this.sendingExecutor = Executors.newSingleThreadExecutor();
+        sendingExecutor.execute(this::runSending);
+    }
+
+    /**
+     * Submit a transaction.
+     *
+     * @param transaction creates the transaction to send given its nonce
+     * @return a future that is completed with the transaction receipt
+     * @throws InterruptedException if interrupted while waiting for space in the signing queue
+     */
+    public CompletableFuture<TransactionReceipt> submit(
+            Function<BigInteger, RawTransaction> transaction) throws InterruptedException {
+        Submission submission = new Submission(transaction);
+        signingQueue.put(submission);
+        return submission.receipt;
+    }
+
+    private void runSigning() {
+        Submission submission = null;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                submission = signingQueue.take();
+                if (sign(submission)) {
+                    sendingQueue.put(submission);
+                }
+                submission = null;
+            }
+        } catch (InterruptedException e) {
+            // the submission in hand was signed but never reached the sending queue
+            if (submission != null) {
+                abandon(submission);
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean sign(Submission submission) {
+        try {
+            submission.reservation = nonceManager.reserve(transactionManager.getFromAddress());
+            submission.signedTransaction =
+                    transactionManager.signTransaction(
+                            submission.transaction.apply(submission.reservation.getNonce()));
+        } catch (IOException | RuntimeException e) {
+            if (submission.reservation != null) {
+                submission.reservation.release();
+            }
+            submission.receipt.completeExceptionally(e);
+            return false;
+        }
+
+        signingStats.record(submission.queuedAt);
+        submission.queuedAt = System.nanoTime();
+        return true;
+    }
+
+    private void runSending() {
+        List<Submission> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(sendingQueue.take());
+                sendingQueue.drainTo(batch, maxBatchSize - 1);
+                batch.sort(Comparator.comparing(submission -> submission.reservation.getNonce()));
+
+                pendingConfirmations.acquire(batch.size());
+                send(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // the batch in hand has not been sent, nor acquired any permits
+            for (Submission submission : batch) {
+                abandon(submission);
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(List<Submission> batch) {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (Submission submission : batch) {
+            batchRequest.add(
+                    web3j.ethSendRawTransaction(submission.signedTransaction.getHexValue()));
+        }
+
+        List<? extends Response<?>> responses;
+        try {
+            responses = batchRequest.send().getResponses();
+        } catch (IOException | RuntimeException e) {
+            for (Submission submission : batch) {
+                fail(submission, e);
+            }
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Submission submission = batch.get(i);
+            EthSendTransaction response = (EthSendTransaction) responses.get(i);
+            if (response.hasError()) {
+                fail(
+                        submission,
+                        new TransactionException(
+                                "Error processing transaction request: "
+                                        + response.getError().getMessage()));
+            } else {
+                submission.reservation.commit();
+                sendingStats.record(submission.queuedAt);
+                submission.queuedAt = System.nanoTime();
+                confirm(submission, response.getTransactionHash());
+            }
+        }
+    }
+
+    private void confirm(Submission submission, String transactionHash) {
+        SignedTransaction signedTransaction = submission.signedTransaction;
+        if (!transactionManager
+                .getTxHashVerifier()
+                .verify(signedTransaction.getTransactionHash(), transactionHash)) {
+            pendingConfirmations.release();
+            submission.receipt.completeExceptionally(
+                    new TxHashMismatchException(
+                            signedTransaction.getTransactionHash(), transactionHash));
+            return;
+        }
+
+        transactionReceiptProcessor
+                .waitForTransactionReceiptAsync(transactionHash)
+                .whenComplete(
+                        (receipt, throwable) -> {
+                            pendingConfirmations.release();
+                            if (throwable != null) {
+                                submission.receipt.completeExceptionally(
+                                        throwable instanceof CompletionException
+                                                ? throwable.getCause()
+                                                : throwable);
+                            } else {
+                                confirmationStats.record(submission.queuedAt);
+                                submission.receipt.complete(receipt);
+                            }
+                        });
+    }
+
+    private void fail(Submission submission, Throwable throwable) {
+        submission.reservation.release();
+        pendingConfirmations.release();
+        submission.receipt.completeExceptionally(throwable);
+    }
+
+    /** Stop the signing and sending threads and fail any transactions which have not been sent. */
+    @Override
+    public void close() {
+        signingExecutor.shutdownNow();
+        sendingExecutor.shutdownNow();
+
+        List<Submission> unsent = new ArrayList<>();
+        signingQueue.drainTo(unsent);
+        sendingQueue.drainTo(unsent);
+        for (Submission submission : unsent) {
+            abandon(submission);
+        }
+    }
+
+    private void abandon(Submission submission) {
+        if (submission.reservation != null) {
+            submission.reservation.release();
+        }
+        submission.receipt.completeExceptionally(
+                new IOException("Transaction submission engine has been closed"));
+    }
+
+    public StageStats getSigningStats() {
+        return signingStats;
+    }
+
+    public StageStats getSendingStats() {
+        return sendingStats;
+    }
+
+    public StageStats getConfirmationStats() {
+        return confirmationStats;
+    }
+
+    public int getSigningQueueSize() {
+        return signingQueue.size();
+    }
+
+    public int getSendingQueueSize() {
+        return sendingQueue.size();
+    }
+
+    private static class Submission {
+        private final Function<BigInteger, RawTransaction> transaction;
+        private final CompletableFuture<TransactionReceipt> receipt = new CompletableFuture<>();
+        private long queuedAt = System.nanoTime();
+        private NonceReservation reservation;
+        private SignedTransaction signedTransaction;
+
+        Submission(Function<BigInteger, RawTransaction> transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
@@ -13,10 +13,22 @@
 package org.web3j.utils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
 /** Revert reason extraction and retrieval functions. */
@@ -24,6 +36,9 @@ public class RevertReasonExtractor {
 
     public static final String MISSING_REASON = "N/A";
 
+    private static final Queue<PendingCall> pendingCalls = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean flushScheduled = new AtomicBoolean();
+
     /**
      * Extracts the error reason of a reverted transaction (if one exists and enabled).
      *
@@ -75,4 +90,114 @@ public class RevertReasonExtractor {
                 .send()
                 .getRevertReason();
     }
+
+    /**
+     * Asynchronously extracts the error reason of a reverted transaction. Reasons that have to be
+     * retrieved from the node are requested together with those of other transactions requested
+     * at the same time, in a single batch per {@link Web3j} instance, and stored in the receipt.
+     *
+     * @param transactionReceipt the reverted transaction receipt
+     * @param data the reverted transaction data
+     * @param web3j Web3j instance
+     * @return a future that is completed with the error reason, or {@link #MISSING_REASON}
+     */
+    public static CompletableFuture<String> extractRevertReasonAsync(
+            TransactionReceipt transactionReceipt, String data, Web3j web3j) {
+
+        if (transactionReceipt.getRevertReason() != null) {
+            return CompletableFuture.completedFuture(transactionReceipt.getRevertReason());
+        } else if (transactionReceipt.getBlockNumber() == null) {
+            return CompletableFuture.completedFuture(MISSING_REASON);
+        }
+
+        PendingCall pendingCall = new PendingCall(transactionReceipt, data, web3j);
+        pendingCalls.add(pendingCall);
+        if (flushScheduled.compareAndSet(false, true)) {
+            Async.run(
+                    () -> {
+                        flushPendingCalls();
+                        return null;
+                    });
+        }
+
+        return pendingCall.future.thenApply(
+                revertReason -> {
+                    if (revertReason == null) {
+                        return MISSING_REASON;
+                    }
+                    transactionReceipt.setRevertReason(revertReason);
+                    return revertReason;
+                });
+    }
+
+    private static void flushPendingCalls() {
+        flushScheduled.set(false);
+
+        Map<Web3j, List<PendingCall>> callsByWeb3j = new IdentityHashMap<>();
+        PendingCall pendingCall;
+        while ((pendingCall = pendingCalls.poll()) != null) {
+            callsByWeb3j
+                    .computeIfAbsent(pendingCall.web3j, web3j -> new ArrayList<>())
+                    .add(pendingCall);
+        }
+
+        for (Map.Entry<Web3j, List<PendingCall>> entry : callsByWeb3j.entrySet()) {
+            List<PendingCall> calls = entry.getValue();
+            if (calls.size() == 1) {
+                PendingCall call = calls.get(0);
+                call.request()
+                        .sendAsync()
+                        .whenComplete(
+                                (ethCall, throwable) -> {
+                                    if (throwable != null) {
+                                        call.future.completeExceptionally(throwable);
+                                    } else {
+                                        call.future.complete(ethCall.getRevertReason());
+                                    }
+                                });
+                continue;
+            }
+
+            BatchRequest batchRequest = entry.getKey().newBatch();
+            for (PendingCall call : calls) {
+                batchRequest.add(call.request());
+            }
+            batchRequest
+                    .sendAsync()
+                    .whenComplete(
+                            (batchResponse, throwable) -> {
+                                for (int i = 0; i < calls.size(); i++) {
+                                    CompletableFuture<String> future = calls.get(i).future;
+                                    if (throwable != null) {
+                                        future.completeExceptionally(throwable);
+                                    } else {
+                                        List<? extends Response<?>> responses =
+                                                batchResponse.getResponses();
+                                        future.complete(
+                                                ((EthCall) responses.get(i)).getRevertReason());
+                                    }
+                                }
+                            });
+        }
+    }
+
+    private static class PendingCall {
+        private final TransactionReceipt transactionReceipt;
+        private final String data;
+        private final Web3j web3j;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        PendingCall(TransactionReceipt transactionReceipt, String data, Web3j web3j) {
+            this.transactionReceipt = transactionReceipt;
+            this.data = data;
+            this.web3j = web3j;
+        }
+
+        Request<?, EthCall> request() {
+            return web3j.ethCall(
+                    Transaction.createEthCallTransaction(
+                            transactionReceipt.getFrom(), transactionReceipt.getTo(), data),
+                    DefaultBlockParameter.valueOf(transactionReceipt.getBlockNumber()));
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.web3j.abi.TypeEncoder;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.HeadTracker;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthCall;
@@ -36,6 +37,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.web3j.ens.EnsResolver.DEFAULT_SYNC_THRESHOLD;
 import static org.web3j.ens.EnsResolver.isValidEnsName;
@@ -137,6 +140,29 @@ public class EnsResolverTest {
         assertFalse(ensResolver.isSynced());
     }
 
+    @Test
+    public void testIsSyncedFromHeadTracker() throws Exception {
+        HeadTracker headTracker = mock(HeadTracker.class);
+        when(headTracker.getHeadTimestamp())
+                .thenReturn(BigInteger.valueOf(System.currentTimeMillis() / 1000));
+        ensResolver.setHeadTracker(headTracker);
+
+        assertTrue(ensResolver.isSynced());
+        verify(web3jService, never()).send(any(Request.class), eq(EthSyncing.class));
+    }
+
+    @Test
+    public void testIsSyncedFromWeb3jHeadTrackerByDefault() throws Exception {
+        HeadTracker headTracker = mock(HeadTracker.class);
+        when(headTracker.getHeadTimestamp())
+                .thenReturn(BigInteger.valueOf(System.currentTimeMillis() / 1000));
+        Web3j web3j = mock(Web3j.class);
+        when(web3j.headTracker()).thenReturn(headTracker);
+
+        assertTrue(new EnsResolver(web3j).isSynced());
+        verify(web3j, never()).ethSyncing();
+    }
+
     private void configureSyncing(boolean isSyncing) throws IOException {
         EthSyncing ethSyncing = new EthSyncing();
         EthSyncing.Result result = new EthSyncing.Result();
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingWeb3jServiceTest {
+
+    private static final String BLOCK_HASH =
+            "0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5145a99d05921026d1527331";
+    private static final String OTHER_BLOCK_HASH =
+            "0xb3b20624f8f0f86eb50dd04688409e5cea4bd02d700bf6e79e9384d47d6a5a35";
+    private static final String TRANSACTION_HASH =
+            "0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238";
+
+    private Web3jService web3jService;
+    private long finalizedBlockNumber = -1;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), eq(EthBlock.class)))
+                .thenAnswer(invocation -> block(invocation.getArgument(0)));
+        when(web3jService.send(any(Request.class), eq(EthGetTransactionReceipt.class)))
+                .thenAnswer(
+                        invocation -> {
+                            TransactionReceipt receipt = new TransactionReceipt();
+                            receipt.setTransactionHash(TRANSACTION_HASH);
+                            receipt.setBlockNumber("0x10");
+                            EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+                            response.setResult(receipt);
+                            return response;
+                        });
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(block(request));
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    private static EthBlock block(Request<?, ?> request) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setHash((String) request.getParams().get(0));
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    @Test
+    public void testCachesBlockByHash() throws Exception {
+        CachingWeb3jService cachingWeb3jService = new CachingWeb3jService(web3jService);
+        Web3j web3j = Web3j.build(cachingWeb3jService);
+
+        EthBlock first = web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+        EthBlock second = web3j.ethGetBlockByHash(BLOCK_HASH.toUpperCase(), false).send();
+        web3j.ethGetBlockByHash(BLOCK_HASH, true).send();
+
+        assertSame(second, first);
+        verify(web3jService, times(2)).send(any(Request.class), eq(EthBlock.class));
+        assertEquals(cachingWeb3jService.getHits(), 1);
+        assertEquals(cachingWeb3jService.getMisses(), 2);
+        assertEquals(cachingWeb3jService.getHitRatio(), (1 / 3.0));
+    }
+
+    @Test
+    public void testBypassesMutableBlocks() throws Exception {
+        Web3j web3j = Web3j.build(new CachingWeb3jService(web3jService, () -> 15));
+
+        for (int i = 0; i < 2; i++) {
+            web3j.ethGetBlockByNumber(DefaultBlockParameterName.LATEST, false).send();
+            web3j.ethGetBlockByNumber(DefaultBlockParameterName.PENDING, false).send();
+            web3j.ethGetBlockByNumber(DefaultBlockParameter.valueOf(BigInteger.valueOf(16)), false)
+                    .send();
+            web3j.ethGetBlockByNumber(DefaultBlockParameter.valueOf(BigInteger.valueOf(15)), false)
+                    .send();
+        }
+
+        verify(web3jService, times(7)).send(any(Request.class), eq(EthBlock.class));
+    }
+
+    @Test
+    public void testCachesReceiptOnceFinalized() throws Exception {
+        Web3j web3j =
+                Web3j.build(new CachingWeb3jService(web3jService, () -> finalizedBlockNumber));
+
+        finalizedBlockNumber = 15;
+        web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send();
+        web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send();
+        verify(web3jService, times(2))
+                .send(any(Request.class), eq(EthGetTransactionReceipt.class));
+
+        finalizedBlockNumber = 16;
+        web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send();
+        web3j.ethGetTransactionReceipt(TRANSACTION_HASH).send();
+        verify(web3jService, times(3))
+                .send(any(Request.class), eq(EthGetTransactionReceipt.class));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        CachingWeb3jService cachingWeb3jService =
+                new CachingWeb3jService(
+                        web3jService, () -> -1, 1, CachingWeb3jService.ENTRIES, null);
+        Web3j web3j = Web3j.build(cachingWeb3jService);
+
+        web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+        web3j.ethGetBlockByHash(OTHER_BLOCK_HASH, false).send();
+        web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+
+        verify(web3jService, times(3)).send(any(Request.class), eq(EthBlock.class));
+        assertEquals(cachingWeb3jService.size(), 1);
+        assertEquals(cachingWeb3jService.getEvictions(), 2);
+    }
+
+    @Test
+    public void testReadsThroughStore() throws Exception {
+        Map<String, Response<?>> stored = new HashMap<>();
+        ResponseStore responseStore =
+                new ResponseStore() {
+                    @Override
+                    public <T extends Response> T get(String key, Class<T> responseType) {
+                        return responseType.cast(stored.get(key));
+                    }
+
+                    @Override
+                    public void put(String key, Response<?> response) {
+                        stored.put(key, response);
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        CachingWeb3jService cachingWeb3jService =
+                new CachingWeb3jService(
+                        web3jService,
+                        () -> -1,
+                        1000,
+                        CachingWeb3jService.SERIALIZED_BYTES,
+                        responseStore);
+        Web3j web3j = Web3j.build(cachingWeb3jService);
+
+        web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+        cachingWeb3jService.invalidate();
+        web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+        web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+
+        verify(web3jService, times(1)).send(any(Request.class), eq(EthBlock.class));
+        assertEquals(stored.size(), 1);
+        assertEquals(cachingWeb3jService.getStoreHits(), 1);
+        assertEquals(cachingWeb3jService.getHits(), 1);
+    }
+
+    @Test
+    public void testSendsOnlyUncachedBatchRequests() throws Exception {
+        Web3j web3j = Web3j.build(new CachingWeb3jService(web3jService));
+        EthBlock cached = web3j.ethGetBlockByHash(BLOCK_HASH, false).send();
+
+        BatchResponse batchResponse =
+                web3j.newBatch()
+                        .add(web3j.ethGetBlockByHash(OTHER_BLOCK_HASH, false))
+                        .add(web3j.ethGetBlockByHash(BLOCK_HASH, false))
+                        .send();
+
+        assertEquals(batchResponse.getResponses().size(), 2);
+        assertSame(batchResponse.getResponses().get(1), cached);
+        assertEquals(
+                ((EthBlock) batchResponse.getResponses().get(0)).getBlock().getHash(),
+                (OTHER_BLOCK_HASH));
+
+        web3j.newBatch().add(web3j.ethGetBlockByHash(OTHER_BLOCK_HASH, false)).send();
+        verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingWeb3jServiceTest {
+
+    private final Web3jService web3jService = mock(Web3jService.class);
+    private final CoalescingWeb3jService coalescingWeb3jService =
+            new CoalescingWeb3jService(web3jService);
+    private final Web3j web3j = Web3j.build(coalescingWeb3jService);
+
+    private static EthBlockNumber blockNumber() {
+        EthBlockNumber ethBlockNumber = new EthBlockNumber();
+        ethBlockNumber.setResult("0x10");
+        return ethBlockNumber;
+    }
+
+    @Test
+    public void testCoalescesAsyncRequests() throws Exception {
+        CompletableFuture<EthBlockNumber> call = new CompletableFuture<>();
+        when(web3jService.sendAsync(any(Request.class), eq(EthBlockNumber.class)))
+                .thenReturn(call);
+
+        Request<?, EthBlockNumber> first = web3j.ethBlockNumber();
+        Request<?, EthBlockNumber> second = web3j.ethBlockNumber();
+        CompletableFuture<EthBlockNumber> firstResponse = first.sendAsync();
+        CompletableFuture<EthBlockNumber> secondResponse = second.sendAsync();
+        assertEquals(coalescingWeb3jService.getInFlight(), 1);
+
+        call.complete(blockNumber());
+
+        assertEquals(firstResponse.get().getBlockNumber().longValue(), 16L);
+        assertEquals(secondResponse.get().getBlockNumber().longValue(), 16L);
+        assertEquals(secondResponse.get().getId(), (second.getId()));
+        assertNotSame(secondResponse.get(), firstResponse.get());
+        assertEquals(coalescingWeb3jService.getCalls(), 1);
+        assertEquals(coalescingWeb3jService.getCoalesced(), 1);
+        assertEquals(coalescingWeb3jService.getInFlight(), 0);
+        verify(web3jService, times(1)).sendAsync(any(Request.class), eq(EthBlockNumber.class));
+    }
+
+    @Test
+    public void testCoalescesBlockingRequests() throws Exception {
+        CountDownLatch sent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(web3jService.send(any(Request.class), eq(EthBlockNumber.class)))
+                .thenAnswer(
+                        invocation -> {
+                            sent.countDown();
+                            release.await();
+                            return blockNumber();
+                        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<EthBlockNumber> first = executor.submit(() -> web3j.ethBlockNumber().send());
+            sent.await();
+            Future<EthBlockNumber> second = executor.submit(() -> web3j.ethBlockNumber().send());
+            while (coalescingWeb3jService.getCoalesced() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertEquals(first.get().getBlockNumber().longValue(), 16L);
+            assertEquals(second.get().getBlockNumber().longValue(), 16L);
+            verify(web3jService, times(1)).send(any(Request.class), eq(EthBlockNumber.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDoesNotCoalesceWrites() throws Exception {
+        when(web3jService.sendAsync(any(Request.class), eq(EthSendTransaction.class)))
+                .thenReturn(new CompletableFuture<>());
+
+        web3j.ethSendRawTransaction("0x01").sendAsync();
+        web3j.ethSendRawTransaction("0x01").sendAsync();
+
+        verify(web3jService, times(2)).sendAsync(any(Request.class), eq(EthSendTransaction.class));
+        assertEquals(coalescingWeb3jService.getCoalesced(), 0);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.TempFileProvider;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class DiskResponseStoreTest extends TempFileProvider {
+
+    private static final String BLOCK_HASH =
+            "0xdc0818cf78f21a8e70579cb46a43643f78291264dda342ae31049421c82d21ae";
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        directory = Paths.get(tempDirPath);
+    }
+
+    private static EthBlock block(String hash, String number) throws Exception {
+        String json =
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+                        + "\"number\":\""
+                        + number
+                        + "\",\"hash\":\""
+                        + hash
+                        + "\",\"nonce\":\"0x0000000000000042\",\"extraData\":\"a \\\"b\\\"\","
+                        + "\"transactions\":[\"0xaa\"],\"uncles\":[],\"sealFields\":null}}";
+        return ObjectMapperFactory.getObjectMapper(true)
+                .readValue(
+                        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                        EthBlock.class);
+    }
+
+    @Test
+    public void testStoresResponses() throws Exception {
+        try (DiskResponseStore store = new DiskResponseStore(directory)) {
+            store.put("block", block(BLOCK_HASH, "0x1b4"));
+
+            EthBlock.Block block = store.get("block", EthBlock.class).getBlock();
+            assertEquals(block.getHash(), (BLOCK_HASH));
+            assertEquals(block.getNumberRaw(), ("0x1b4"));
+            assertEquals(block.getNonceRaw(), ("0x0000000000000042"));
+            assertEquals(block.getExtraData(), ("a \"b\""));
+            assertEquals(block.getTransactions().size(), 1);
+            assertNull(store.get("other", EthBlock.class));
+            assertNull(store.get("block", EthBlock.class).getBlock().getSealFields());
+        }
+    }
+
+    @Test
+    public void testRecoversFromTornAppend() throws Exception {
+        try (DiskResponseStore store = new DiskResponseStore(directory, 256)) {
+            for (int i = 0; i < 10; i++) {
+                store.put("block" + i, block(BLOCK_HASH, "0x" + i));
+            }
+        }
+
+        Path lastSegment;
+        try (Stream<Path> files = Files.list(directory)) {
+            lastSegment =
+                    files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                            .max(Comparator.naturalOrder())
+                            .get();
+        }
+        try (FileOutputStream output = new FileOutputStream(lastSegment.toFile(), true)) {
+            output.write(new byte[] {0, 0, 0, 64, 1, 2, 3});
+        }
+        Files.delete(directory.resolve("index"));
+
+        try (DiskResponseStore store = new DiskResponseStore(directory, 256)) {
+            assertEquals(store.size(), 10);
+            assertEquals(store.get("block7", EthBlock.class).getBlock().getNumberRaw(), ("0x7"));
+
+            store.put("block10", block(BLOCK_HASH, "0xa"));
+            assertEquals(store.get("block10", EthBlock.class).getBlock().getNumberRaw(), ("0xa"));
+        }
+    }
+
+    @Test
+    public void testCompactsRetainedRecords() throws Exception {
+        try (DiskResponseStore store = new DiskResponseStore(directory, 256)) {
+            for (int i = 0; i < 10; i++) {
+                store.put("block" + i, block(BLOCK_HASH, "0x" + i));
+            }
+
+            store.compact(key -> !key.equals("block3"));
+
+            assertEquals(store.size(), 9);
+            assertNull(store.get("block3", EthBlock.class));
+            assertEquals(store.get("block4", EthBlock.class).getBlock().getNumberRaw(), ("0x4"));
+        }
+
+        try (DiskResponseStore store = new DiskResponseStore(directory, 256)) {
+            assertEquals(store.size(), 9);
+            assertEquals(store.get("block9", EthBlock.class).getBlock().getNumberRaw(), ("0x9"));
+        }
+    }
+}
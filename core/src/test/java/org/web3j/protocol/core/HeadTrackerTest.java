@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HeadTrackerTest {
+
+    @Test
+    public void testPollsLatestBlock() throws Exception {
+        AtomicLong number = new AtomicLong();
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), eq(EthBlock.class)))
+                .thenAnswer(
+                        invocation -> {
+                            // a new block every other poll
+                            long blockNumber = number.getAndIncrement() / 2;
+                            EthBlock.Block block = new EthBlock.Block();
+                            block.setNumber(
+                                    Numeric.encodeQuantity(BigInteger.valueOf(blockNumber)));
+                            block.setHash("0x" + blockNumber);
+                            EthBlock ethBlock = new EthBlock();
+                            ethBlock.setResult(block);
+                            return ethBlock;
+                        });
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try (HeadTracker headTracker =
+                new HeadTracker(Web3j.build(web3jService), false, 1, executor)) {
+            assertNull(headTracker.getHead());
+            assertEquals(headTracker.getHeadNumber(), -1L);
+
+            List<String> hashes = new ArrayList<>();
+            Disposable disposable = headTracker.blockHashFlowable().subscribe(hashes::add);
+            headTracker.start();
+            while (headTracker.getHeadNumber() < 3) {
+                Thread.sleep(1);
+            }
+            disposable.dispose();
+
+            assertEquals(hashes.subList(0, 4), (Arrays.asList("0x0", "0x1", "0x2", "0x3")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFollowsNewHeads() throws Exception {
+        NewHeadsNotification notification =
+                ObjectMapperFactory.getObjectMapper()
+                        .readValue(
+                                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":"
+                                        + "{\"subscription\":\"0xcd0c3e8af590364c\","
+                                        + "\"result\":{\"number\":\"0x1b4\",\"hash\":\"0xabc\","
+                                        + "\"timestamp\":\"0x5a8b\"}}}",
+                                NewHeadsNotification.class);
+        Web3j web3j = mock(Web3j.class);
+        when(web3j.newHeadsNotifications()).thenReturn(Flowable.just(notification));
+
+        List<EthBlock.Block> heads = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> new Thread(runnable, "head-tracker"));
+        try (HeadTracker headTracker = new HeadTracker(web3j, true, 1, executor)) {
+            headTracker.addListener(
+                    head -> {
+                        threads.add(Thread.currentThread().getName());
+                        heads.add(head);
+                    });
+            headTracker.start();
+            while (heads.isEmpty()) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(heads.size(), 1);
+            assertEquals(threads, (Arrays.asList("head-tracker")));
+            assertEquals(headTracker.getHeadNumber(), 0x1b4L);
+            assertEquals(headTracker.getHead().getHash(), ("0xabc"));
+            assertEquals(headTracker.getHeadTimestamp(), (BigInteger.valueOf(0x5a8b)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.RequestTester;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.http.HttpService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestTemplateTest extends RequestTester {
+
+    private Web3j web3j;
+
+    @Override
+    protected void initWeb3Client(HttpService httpService) {
+        web3j = Web3j.build(httpService);
+    }
+
+    @Test
+    public void testSendsTemplatedRequest() throws Exception {
+        RequestTemplate<?, EthBlockNumber> template = web3j.ethBlockNumber().template();
+
+        template.send();
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\",\"params\":[],\"id\":1}");
+
+        template.send();
+        verifyResult("{\"jsonrpc\":\"2.0\",\"method\":\"eth_blockNumber\",\"params\":[],\"id\":1}");
+    }
+
+    @Test
+    public void testSerializesAsRequest() throws Exception {
+        Request<?, EthCall> request =
+                web3j.ethCall(
+                        Transaction.createEthCallTransaction(
+                                "0xa70e8dd61c5d32be8058bb8eb970870f07233155",
+                                "0xb60e8dd61c5d32be8058bb8eb970870f07233155",
+                                "0x70a08231"),
+                        DefaultBlockParameterName.LATEST);
+        RequestTemplate<?, EthCall> template = request.template();
+
+        Request<?, EthCall> first = template.newRequest();
+        Request<?, EthCall> second = template.newRequest();
+        assertTrue(second.getId() > first.getId());
+
+        request.setId(second.getId());
+        assertEquals(
+                ObjectMapperFactory.getObjectMapper().writeValueAsString(second),
+                (ObjectMapperFactory.getObjectMapper().writeValueAsString(request)));
+        assertEquals(
+                ObjectMapperFactory.getObjectMapper()
+                        .writeValueAsString(Arrays.asList(first, second)),
+                ("["
+                        + ObjectMapperFactory.getObjectMapper().writeValueAsString(first)
+                        + ","
+                        + ObjectMapperFactory.getObjectMapper().writeValueAsString(second)
+                        + "]"));
+        assertThrows(UnsupportedOperationException.class, () -> second.setParams(null));
+    }
+}
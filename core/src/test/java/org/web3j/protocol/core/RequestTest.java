@@ -367,6 +367,17 @@ public class RequestTest extends RequestTester {
                         + "\"params\":[\"0x1b4\",true],\"id\":1}");
     }
 
+    @Test
+    public void testEthGetCompactBlockByNumber() throws Exception {
+        web3j.ethGetCompactBlockByNumber(
+                        DefaultBlockParameter.valueOf(Numeric.toBigInt("0x1b4")), true)
+                .send();
+
+        verifyResult(
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_getBlockByNumber\","
+                        + "\"params\":[\"0x1b4\",true],\"id\":1}");
+    }
+
     @Test
     public void testEthGetTransactionByHash() throws Exception {
         web3j.ethGetTransactionByHash(
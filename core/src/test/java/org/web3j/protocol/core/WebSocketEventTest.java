@@ -13,25 +13,33 @@
 package org.web3j.protocol.core;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.subscribers.TestSubscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.websocket.WebSocketClient;
 import org.web3j.protocol.websocket.WebSocketListener;
 import org.web3j.protocol.websocket.WebSocketService;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -107,6 +115,66 @@ public class WebSocketEventTest {
                                         + "\"topics\":\\[\"0x2\"]}],\"id\":[0-9]{1,}}"));
     }
 
+    @Test
+    public void testLogFlowableUsesSubscription() throws Exception {
+        EthFilter ethFilter =
+                new EthFilter(
+                                DefaultBlockParameterName.LATEST,
+                                DefaultBlockParameterName.LATEST,
+                                "0x1")
+                        .addSingleTopic("0x2")
+                        .addOptionalTopics("0x3", "0x4");
+
+        TestSubscriber<Log> subscriber = web3j.ethLogFlowable(ethFilter).test();
+
+        verify(webSocketClient)
+                .send(
+                        matches(
+                                "\\{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscribe\","
+                                        + "\"params\":\\[\"logs\",\\{\"address\":\\[\"0x1\"],"
+                                        + "\"topics\":\\[\"0x2\",\\[\"0x3\",\"0x4\"]]}],"
+                                        + "\"id\":[0-9]{1,}}"));
+
+        listener.onMessage(
+                "{"
+                        + "\"jsonrpc\":\"2.0\","
+                        + "\"method\":\"eth_subscription\","
+                        + "\"params\":{"
+                        + "\"subscription\":\"0xcd0c3e8af590364c09d0fa6a1210faf5\","
+                        + "\"result\":{"
+                        + "\"address\":\"0x1\","
+                        + "\"blockHash\":\"0xabc\","
+                        + "\"blockNumber\":\"0x10\","
+                        + "\"data\":\"0x\","
+                        + "\"logIndex\":\"0x2\","
+                        + "\"topics\":[\"0x2\",\"0x3\"],"
+                        + "\"transactionHash\":\"0xdef\","
+                        + "\"transactionIndex\":\"0x0\","
+                        + "\"removed\":false"
+                        + "}}}");
+
+        // logs are emitted on the scheduler rather than the read thread
+        subscriber.awaitCount(1);
+        subscriber.assertValueCount(1);
+        Log log = subscriber.values().get(0);
+        assertEquals(log.getBlockNumber(), (BigInteger.valueOf(16)));
+        assertEquals(log.getLogIndex(), (BigInteger.valueOf(2)));
+        assertEquals(log.getTopics(), (Arrays.asList("0x2", "0x3")));
+        assertFalse(log.isRemoved());
+    }
+
+    @Test
+    public void testLogFlowableForBlockHashUsesFilter() {
+        web3j.ethLogFlowable(new EthFilter("0xabc", "0x1")).test();
+
+        verify(webSocketClient)
+                .send(
+                        matches(
+                                ".*\"method\":\"eth_newFilter\",\"params\":\\[\\{.*"
+                                        + "\"blockHash\":\"0xabc\".*"));
+        verify(webSocketClient, never()).send(matches(".*\"method\":\"eth_subscribe\".*"));
+    }
+
     private int getRequestId(String message) throws IOException {
         JsonNode messageJson = objectMapper.readTree(message);
         return messageJson.get("id").asInt();
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Bloom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BloomLogFetcherTest {
+
+    private static final String ADDRESS = "0x2a98c5f40bfa3dee83431103c535f6fae9a8ad38";
+    private static final String TOPIC =
+            "0x5a690ecd0cb15c1c1fd6b6f8a32df0d4f56cb41a54fea7e94020f013595de796";
+    private static final String OTHER_TOPIC =
+            "0xa9c6cbc4bd352a6940479f6d802a1001550581858b310d7f68f7bea51218cda6";
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+
+    @BeforeEach
+    public void setUp() {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService);
+    }
+
+    @Test
+    public void testMightMatch() {
+        Bloom bloom = Bloom.forValue(ADDRESS).or(Bloom.forValue(TOPIC));
+
+        assertTrue(fetcher(new EthFilter()).mightMatch(bloom));
+        assertTrue(fetcher(addressFilter().addSingleTopic(TOPIC)).mightMatch(bloom));
+        assertTrue(fetcher(addressFilter().addOptionalTopics(OTHER_TOPIC, TOPIC)).mightMatch(bloom));
+        assertTrue(fetcher(addressFilter().addNullTopic().addNullTopic()).mightMatch(bloom));
+        assertFalse(fetcher(addressFilter().addSingleTopic(OTHER_TOPIC)).mightMatch(bloom));
+        assertFalse(fetcher(new EthFilter()).mightMatch(Bloom.empty()));
+    }
+
+    @Test
+    public void testSkipsBlocksWithoutMatch() throws Exception {
+        BloomLogFetcher fetcher = fetcher(addressFilter().addSingleTopic(TOPIC));
+
+        List<Log> logs = fetcher.fetchLogs(createBlock(Bloom.forValue(OTHER_TOPIC)));
+
+        assertTrue(logs.isEmpty());
+        assertEquals(fetcher.getBlocksSkipped(), 1);
+        verify(web3jService, never()).send(any(Request.class), eq(EthLog.class));
+    }
+
+    @Test
+    public void testFetchesBlocksWithMatch() throws Exception {
+        EthLog ethLog =
+                ObjectMapperFactory.getObjectMapper()
+                        .readValue(
+                                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[{\"address\":\""
+                                        + ADDRESS
+                                        + "\",\"blockHash\":\"0xd263df878c66b8a08c8509a8f33d6758bc3a1ee3c5ab3c9a765ea981ae9d72e3\",\"blockNumber\":\"0x2865a\",\"data\":\"0x\",\"logIndex\":\"0x0\",\"removed\":false,\"topics\":[\""
+                                        + TOPIC
+                                        + "\"],\"transactionHash\":\"0x9d8a4410204140a8fa7f191b0b1d9526822a87d212ade0b6a3cbd20a6e2ed2e9\",\"transactionIndex\":\"0x0\"}]}",
+                                EthLog.class);
+        when(web3jService.send(any(Request.class), eq(EthLog.class))).thenReturn(ethLog);
+
+        BloomLogFetcher fetcher = fetcher(addressFilter().addSingleTopic(TOPIC));
+
+        List<Log> logs =
+                fetcher.fetchLogs(createBlock(Bloom.forValue(ADDRESS).or(Bloom.forValue(TOPIC))));
+
+        assertEquals(logs.size(), 1);
+        assertEquals(logs.get(0).getAddress(), ADDRESS);
+        assertEquals(fetcher.getBlocksFetched(), 1);
+    }
+
+    private BloomLogFetcher fetcher(EthFilter ethFilter) {
+        return new BloomLogFetcher(web3j, ethFilter);
+    }
+
+    private static EthFilter addressFilter() {
+        return new EthFilter(null, null, Collections.singletonList(ADDRESS));
+    }
+
+    private static EthBlock.Block createBlock(Bloom bloom) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setHash("0xd263df878c66b8a08c8509a8f33d6758bc3a1ee3c5ab3c9a765ea981ae9d72e3");
+        block.setLogsBloom(bloom.toHex());
+        return block;
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.ResponseTester;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactResponseTest extends ResponseTester {
+
+    private static final String BLOCK_HASH =
+            "0xdc0818cf78f21a8e70579cb46a43643f78291264dda342ae31049421c82d21ae";
+    private static final String TRANSACTION_HASH =
+            "0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b";
+    private static final String ROOT =
+            "0x56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421";
+    private static final String TOPIC =
+            "0x59ebeb90bc63057b6515673c3ecf9438e5058bca0f92585014eced636878c9a5";
+    private static final String FROM = "0x407d73d8a49eeb85d32cf465507dd71d507100c1";
+    private static final String TO = "0x853f43d8a49eeb85d32cf465507dd71d507100c1";
+
+    @Test
+    public void testBlockWithFullTransactions() {
+        buildResponse(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+                        + "\"number\":\"0x1b4\","
+                        + "\"hash\":\""
+                        + BLOCK_HASH
+                        + "\",\"parentHash\":\""
+                        + ROOT
+                        + "\",\"nonce\":\"0x689056015818adbe\","
+                        + "\"sha3Uncles\":\""
+                        + ROOT
+                        + "\",\"logsBloom\":\"0x01\","
+                        + "\"transactionsRoot\":\""
+                        + ROOT
+                        + "\",\"stateRoot\":\""
+                        + ROOT
+                        + "\",\"receiptsRoot\":\""
+                        + ROOT
+                        + "\",\"miner\":\"0xbb7b8287f3f0a933474a79eae42cbca977791171\","
+                        + "\"difficulty\":\"0x4ea3f27bc\","
+                        + "\"totalDifficulty\":\"0x78ed983323d\","
+                        + "\"extraData\":\"0x476574682f4c5649562f76312e302e30\","
+                        + "\"size\":\"0x220\","
+                        + "\"gasLimit\":\"0x1388\","
+                        + "\"gasUsed\":\"0x0\","
+                        + "\"timestamp\":\"0x55ba467c\","
+                        + "\"transactions\":[{"
+                        + "\"hash\":\""
+                        + TRANSACTION_HASH
+                        + "\",\"nonce\":\"0x15\","
+                        + "\"blockHash\":\""
+                        + BLOCK_HASH
+                        + "\",\"blockNumber\":\"0x1b4\","
+                        + "\"transactionIndex\":\"0x1\","
+                        + "\"from\":\""
+                        + FROM
+                        + "\",\"to\":\""
+                        + TO
+                        + "\",\"value\":\"0xde0b6b3a7640000\","
+                        + "\"gas\":\"0x7f110\","
+                        + "\"gasPrice\":\"0x09184e72a000\","
+                        + "\"input\":\"0x603880600c6000396000f3\","
+                        + "\"creates\":null,"
+                        + "\"accessList\":[{\"address\":\""
+                        + TO
+                        + "\",\"storageKeys\":[]}],"
+                        + "\"r\":\""
+                        + ROOT
+                        + "\",\"s\":\"0x4a2ae8ee49f1100b5c0202b37ed8bacf4caeddebde6b7f77e12e7a\","
+                        + "\"v\":\"0x25\""
+                        + "}],"
+                        + "\"uncles\":[],"
+                        + "\"sealFields\":[\"0x39a3eb432fbef1fc\"]"
+                        + "}}");
+
+        CompactBlock block = deserialiseResponse(EthCompactBlock.class).getBlock();
+        assertEquals(block.getNumber(), (0x1b4L));
+        assertEquals(Numeric.toHexString(block.getHash()), (BLOCK_HASH));
+        assertEquals(Numeric.toHexString(block.getNonce()), ("0x689056015818adbe"));
+        assertEquals(block.getLogsBloom().length, (256));
+        assertEquals(block.getLogsBloom()[255], ((byte) 1));
+        assertEquals(
+                Numeric.toHexString(block.getMiner()),
+                ("0xbb7b8287f3f0a933474a79eae42cbca977791171"));
+        assertEquals(block.getDifficulty(), (new BigInteger("4ea3f27bc", 16)));
+        assertEquals(block.getTotalDifficulty(), (new BigInteger("78ed983323d", 16)));
+        assertEquals(block.getSize(), (0x220L));
+        assertEquals(block.getGasUsed(), (0L));
+        assertEquals(block.getTimestamp(), (0x55ba467cL));
+        assertEquals(block.getUncles().length, (0));
+        assertEquals(block.getTransactionHashes().length, (1));
+        assertEquals(Numeric.toHexString(block.getTransactionHashes()[0]), (TRANSACTION_HASH));
+
+        CompactTransaction transaction = block.getTransactions().get(0);
+        assertEquals(transaction.getNonce(), (0x15L));
+        assertEquals(transaction.getBlockNumber(), (0x1b4L));
+        assertEquals(transaction.getTransactionIndex(), (1L));
+        assertEquals(Numeric.toHexString(transaction.getFrom()), (FROM));
+        assertEquals(Numeric.toHexString(transaction.getTo()), (TO));
+        assertEquals(transaction.getValue(), (BigInteger.TEN.pow(18)));
+        assertEquals(transaction.getGasPrice(), (new BigInteger("09184e72a000", 16)));
+        assertEquals(transaction.getGas(), (0x7f110L));
+        assertEquals(Numeric.toHexString(transaction.getInput()), ("0x603880600c6000396000f3"));
+        assertNull(transaction.getCreates());
+        // r and s are left padded to 32 bytes
+        assertEquals(transaction.getS()[0], ((byte) 0));
+        assertEquals(transaction.getV(), (0x25L));
+    }
+
+    @Test
+    public void testBlockWithTransactionHashes() {
+        buildResponse(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+                        + "\"number\":\"0x1b4\","
+                        + "\"transactions\":[\""
+                        + TRANSACTION_HASH
+                        + "\",\""
+                        + BLOCK_HASH
+                        + "\"],"
+                        + "\"uncles\":[\""
+                        + ROOT
+                        + "\"]}}");
+
+        CompactBlock block = deserialiseResponse(EthCompactBlock.class).getBlock();
+        assertEquals(block.getTransactionHashes().length, (2));
+        assertEquals(Numeric.toHexString(block.getTransactionHashes()[1]), (BLOCK_HASH));
+        assertTrue(block.getTransactions().isEmpty());
+        assertEquals(Numeric.toHexString(block.getUncles()[0]), (ROOT));
+        assertNull(block.getDifficulty());
+    }
+
+    @Test
+    public void testNullBlock() {
+        buildResponse("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}");
+
+        assertNull(deserialiseResponse(EthCompactBlock.class).getBlock());
+    }
+
+    @Test
+    public void testTransactionReceipt() {
+        buildResponse(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+                        + "\"transactionHash\":\""
+                        + TRANSACTION_HASH
+                        + "\",\"transactionIndex\":\"0x1\","
+                        + "\"blockHash\":\""
+                        + BLOCK_HASH
+                        + "\",\"blockNumber\":\"0xb\","
+                        + "\"cumulativeGasUsed\":\"0x33bc\","
+                        + "\"gasUsed\":\"0x4dc\","
+                        + "\"contractAddress\":null,"
+                        + "\"status\":\"0x0\","
+                        + "\"from\":\""
+                        + FROM
+                        + "\",\"to\":\""
+                        + TO
+                        + "\",\"logs\":[{"
+                        + "\"removed\":false,"
+                        + "\"logIndex\":\"0x1\","
+                        + "\"transactionIndex\":\"0x1\","
+                        + "\"transactionHash\":\""
+                        + TRANSACTION_HASH
+                        + "\",\"blockHash\":\""
+                        + BLOCK_HASH
+                        + "\",\"blockNumber\":\"0xb\","
+                        + "\"address\":\""
+                        + TO
+                        + "\",\"data\":\"0x\","
+                        + "\"topics\":[\""
+                        + TOPIC
+                        + "\"]}],"
+                        + "\"logsBloom\":\"0x00\","
+                        + "\"revertReason\":\"0x08c379a0\""
+                        + "}}");
+
+        CompactTransactionReceipt receipt =
+                deserialiseResponse(EthCompactTransactionReceipt.class)
+                        .getTransactionReceipt()
+                        .get();
+        assertEquals(Numeric.toHexString(receipt.getTransactionHash()), (TRANSACTION_HASH));
+        assertEquals(receipt.getBlockNumber(), (0xbL));
+        assertEquals(receipt.getCumulativeGasUsed(), (0x33bcL));
+        assertEquals(receipt.getGasUsed(), (0x4dcL));
+        assertNull(receipt.getContractAddress());
+        assertNull(receipt.getRoot());
+        assertEquals(receipt.getStatus(), (0));
+        assertFalse(receipt.isStatusOK());
+        assertEquals(receipt.getRevertReason(), ("0x08c379a0"));
+        assertEquals(receipt.getLogs().size(), (1));
+
+        CompactLog log = receipt.getLogs().get(0);
+        assertEquals(log.getLogIndex(), (1L));
+        assertEquals(Numeric.toHexString(log.getAddress()), (TO));
+        assertEquals(log.getData().length, (0));
+        assertEquals(Numeric.toHexString(log.getTopics()[0]), (TOPIC));
+    }
+
+    @Test
+    public void testLogs() {
+        buildResponse(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[{"
+                        + "\"logIndex\":\"0x0\","
+                        + "\"blockNumber\":\"0x1b4\","
+                        + "\"address\":\""
+                        + TO
+                        + "\",\"data\":\""
+                        + TOPIC
+                        + "\","
+                        + "\"topics\":[]"
+                        + "},{"
+                        + "\"logIndex\":null,"
+                        + "\"blockNumber\":null,"
+                        + "\"blockHash\":null,"
+                        + "\"address\":\""
+                        + TO
+                        + "\",\"data\":\"0x\","
+                        + "\"topics\":[\""
+                        + TOPIC
+                        + "\"]}]}");
+
+        List<CompactLog> logs = deserialiseResponse(EthCompactLog.class).getLogs();
+        assertEquals(logs.size(), (2));
+        assertEquals(logs.get(0).getBlockNumber(), (0x1b4L));
+        assertEquals(logs.get(0).getData().length, (32));
+        assertEquals(logs.get(0).getTopics().length, (0));
+        assertEquals(logs.get(1).getLogIndex(), (-1L));
+        assertEquals(logs.get(1).getBlockNumber(), (-1L));
+        assertNull(logs.get(1).getBlockHash());
+    }
+
+    @Test
+    public void testRejectsMalformedValues() {
+        assertThrows(
+                IOException.class,
+                () ->
+                        ObjectMapperFactory.getObjectReader()
+                                .forType(CompactLog.class)
+                                .readValue("{\"address\":\"0x" + TO.substring(2) + "00\"}"));
+        assertThrows(
+                IOException.class,
+                () ->
+                        ObjectMapperFactory.getObjectReader()
+                                .forType(CompactLog.class)
+                                .readValue("{\"logIndex\":\"0x1g\"}"));
+        assertThrows(
+                IOException.class,
+                () ->
+                        ObjectMapperFactory.getObjectReader()
+                                .forType(CompactLog.class)
+                                .readValue("{\"blockNumber\":\"0x10000000000000000\"}"));
+    }
+}
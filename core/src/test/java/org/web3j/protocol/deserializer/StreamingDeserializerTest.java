@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.websocket.events.NewHead;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Compares the streaming deserializers with Jackson's reflective bean binding. */
+public class StreamingDeserializerTest {
+
+    private static final String TRANSACTION =
+            "{\"hash\":\"0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b\","
+                    + "\"nonce\":\"0x15\",\"blockHash\":\"0xbeab0aa2411b7ab17f30a99d3cb9\","
+                    + "\"blockNumber\":\"0x15df\",\"transactionIndex\":\"0x1\","
+                    + "\"from\":\"0x407d73d8a49eeb85d32cf465507dd71d507100c1\",\"to\":null,"
+                    + "\"value\":\"0x7f110\",\"gas\":\"0x7f110\",\"gasPrice\":\"0x9184e72a000\","
+                    + "\"input\":\"0x603880600c6000396000f3\",\"creates\":null,"
+                    + "\"accessList\":[{\"address\":\"0x01\",\"storageKeys\":[\"0x02\"]}],"
+                    + "\"r\":\"0xf115cc4d\",\"s\":\"0x4a2ae8ee\",\"v\":\"0x25\"}";
+
+    private static final String LOG =
+            "{\"removed\":false,\"logIndex\":\"0x1\",\"transactionIndex\":\"0x0\","
+                    + "\"transactionHash\":\"0xdf829c5a142f1fccd7d8216c5785ac562ff41e2d\","
+                    + "\"blockHash\":\"0x8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcfdf829c5\","
+                    + "\"blockNumber\":\"0x1b4\","
+                    + "\"address\":\"0x16c5785ac562ff41e2dcfdf829c5a142f1fccd7d\","
+                    + "\"data\":\"0x0000000000000000000000000000000000000000000000000000000001\","
+                    + "\"type\":\"mined\","
+                    + "\"topics\":[\"0x59ebeb90bc63057b6515673c3ecf9438e5058bca\"]}";
+
+    private final ObjectMapper streaming = ObjectMapperFactory.getObjectMapper();
+    private final ObjectMapper reflective =
+            new ObjectMapper()
+                    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    public void testTransaction() throws Exception {
+        Transaction transaction = streaming.readValue(TRANSACTION, Transaction.class);
+        assertEquals(transaction, (reflective.readValue(TRANSACTION, Transaction.class)));
+        assertEquals(transaction.getV(), (0x25L));
+        assertNull(transaction.getTo());
+
+        String numericV = TRANSACTION.replace("\"0x25\"", "27");
+        assertEquals(streaming.readValue(numericV, Transaction.class).getV(), (27L));
+    }
+
+    @Test
+    public void testTransactionReceipt() throws Exception {
+        String json =
+                "{\"transactionHash\":\"0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786\","
+                        + "\"transactionIndex\":\"0x1\",\"blockNumber\":\"0xb\","
+                        + "\"cumulativeGasUsed\":\"0x33bc\",\"gasUsed\":\"0x4dc\","
+                        + "\"contractAddress\":null,\"status\":\"0x1\","
+                        + "\"effectiveGasPrice\":\"0x1\",\"logs\":["
+                        + LOG
+                        + "],\"logsBloom\":\"0x00\"}";
+
+        TransactionReceipt receipt = streaming.readValue(json, TransactionReceipt.class);
+        assertEquals(receipt, (reflective.readValue(json, TransactionReceipt.class)));
+        assertEquals(receipt.getLogs().get(0), (streaming.readValue(LOG, Log.class)));
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        String block =
+                "{\"number\":\"0x1b4\",\"hash\":\"0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5\","
+                        + "\"difficulty\":\"0x27f07\",\"gasLimit\":\"0x9f759\","
+                        + "\"timestamp\":\"0x54e34e8e\",\"baseFeePerGas\":\"0x7\","
+                        + "\"transactions\":["
+                        + TRANSACTION
+                        + "],\"uncles\":[\"0x1dcc4de8dec75d7aab85b567b6ccd41ad312451b\"],"
+                        + "\"sealFields\":[]}";
+
+        EthBlock ethBlock =
+                streaming.readValue(
+                        "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":" + block + "}",
+                        EthBlock.class);
+        assertEquals(ethBlock.getBlock(), (reflective.readValue(block, EthBlock.Block.class)));
+        assertTrue(
+                ethBlock.getBlock().getTransactions().get(0)
+                        instanceof EthBlock.TransactionObject);
+
+        String hashes = block.replace(TRANSACTION, "\"0x01\"");
+        EthBlock.Block hashesBlock = streaming.readValue(hashes, EthBlock.Block.class);
+        assertEquals(hashesBlock.getTransactions().get(0), (new EthBlock.TransactionHash("0x01")));
+    }
+
+    @Test
+    public void testLogs() throws Exception {
+        EthLog ethLog =
+                streaming.readValue(
+                        "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":[" + LOG + "," + LOG + "]}",
+                        EthLog.class);
+
+        assertEquals(ethLog.getLogs().size(), (2));
+        assertTrue(ethLog.getLogs().get(1) instanceof EthLog.LogObject);
+        assertEquals(ethLog.getLogs().get(1).get(), (reflective.readValue(LOG, Log.class)));
+    }
+
+    @Test
+    public void testNewHeadsNotification() throws Exception {
+        String json =
+                "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":{"
+                        + "\"subscription\":\"0xcd0c3e8af590364c09d0fa6a1210faf5\","
+                        + "\"result\":{\"number\":\"0x1348c9\",\"hash\":\"0x7736fab7\","
+                        + "\"receiptRoot\":\"0x2fab35823ad00c7bb388595cb46652fe\","
+                        + "\"uncles\":[]}}}";
+
+        NewHeadsNotification notification = streaming.readValue(json, NewHeadsNotification.class);
+        NewHead newHead = notification.getParams().getResult();
+        assertEquals(notification.getMethod(), ("eth_subscription"));
+        assertEquals(
+                notification.getParams().getSubsciption(),
+                ("0xcd0c3e8af590364c09d0fa6a1210faf5"));
+        assertEquals(newHead.getNumber(), ("0x1348c9"));
+        assertEquals(newHead.getReceiptRoot(), ("0x2fab35823ad00c7bb388595cb46652fe"));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.reactivex.Flowable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CheckpointedLogIngestorTest {
+
+    private static final long CHAIN_HEAD = 7;
+    private static final int LOGS_PER_BLOCK = 3;
+
+    private final List<BigInteger> replayedFrom = new ArrayList<>();
+    private final List<String> handled = new ArrayList<>();
+    private final List<Checkpoint> commits = new ArrayList<>();
+    private final CheckpointStore checkpointStore =
+            new InMemoryCheckpointStore() {
+                @Override
+                public void commit(Checkpoint checkpoint) {
+                    commits.add(checkpoint);
+                    super.commit(checkpoint);
+                }
+            };
+
+    private Web3j web3j;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        web3j = mock(Web3j.class);
+        when(web3j.replayPastAndFutureBlocksFlowable(any(DefaultBlockParameter.class), eq(false)))
+                .thenAnswer(
+                        invocation -> {
+                            BigInteger fromBlock =
+                                    ((DefaultBlockParameterNumber) invocation.getArgument(0))
+                                            .getBlockNumber();
+                            replayedFrom.add(fromBlock);
+                            return Flowable.rangeLong(
+                                            fromBlock.longValueExact(),
+                                            CHAIN_HEAD - fromBlock.longValueExact() + 1)
+                                    .map(number -> ethBlock(block(number)));
+                        });
+        when(web3j.ethGetBlockByNumber(any(DefaultBlockParameter.class), eq(false)))
+                .thenAnswer(
+                        invocation -> {
+                            BigInteger number =
+                                    ((DefaultBlockParameterNumber) invocation.getArgument(0))
+                                            .getBlockNumber();
+                            return request(ethBlock(block(number.longValueExact())));
+                        });
+        when(web3j.ethGetLogs(any(EthFilter.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthFilter ethFilter = invocation.getArgument(0);
+                            long number = blockNumber(ethFilter.getBlockHash());
+                            List<EthLog.LogResult> logs = new ArrayList<>();
+                            for (int i = 0; i < LOGS_PER_BLOCK; i++) {
+                                EthLog.LogObject log = new EthLog.LogObject();
+                                log.setBlockNumber(
+                                        Numeric.encodeQuantity(BigInteger.valueOf(number)));
+                                log.setBlockHash(ethFilter.getBlockHash());
+                                log.setLogIndex(Numeric.encodeQuantity(BigInteger.valueOf(i)));
+                                logs.add(log);
+                            }
+                            EthLog ethLog = new EthLog();
+                            ethLog.setResult(logs);
+                            return request(ethLog);
+                        });
+    }
+
+    private CheckpointedLogIngestor ingestor(int commitBlocks, int reorgDepth) {
+        return new CheckpointedLogIngestor(
+                web3j,
+                new EthFilter(),
+                checkpointStore,
+                BigInteger.ONE,
+                commitBlocks,
+                Long.MAX_VALUE,
+                reorgDepth);
+    }
+
+    private List<Checkpoint> ingest(CheckpointedLogIngestor ingestor) {
+        return ingestor.ingest(
+                        log -> handled.add(log.getBlockNumber() + ":" + log.getLogIndex()))
+                .toList()
+                .blockingGet();
+    }
+
+    @Test
+    public void testResumesAfterCommittedLogIndex() throws Exception {
+        checkpointStore.commit(checkpoint(5, 1));
+        commits.clear();
+
+        ingest(ingestor(100, 2));
+
+        assertEquals(replayedFrom.get(0), (BigInteger.valueOf(5)));
+        assertEquals(handled.get(0), ("5:2"));
+        assertEquals(handled.get(1), ("6:0"));
+        assertEquals(handled.size(), 1 + 2 * LOGS_PER_BLOCK);
+        assertEquals(commits, (listOf(checkpoint(7, 2))));
+    }
+
+    @Test
+    public void testRewindsReorganisedCheckpoint() throws Exception {
+        checkpointStore.commit(new Checkpoint(BigInteger.valueOf(6), "0xstale", 1));
+
+        ingest(ingestor(100, 2));
+
+        // the log index of the stale checkpoint no longer applies
+        assertEquals(replayedFrom.get(0), (BigInteger.valueOf(4)));
+        assertEquals(handled.get(0), ("4:0"));
+        assertEquals(handled.size(), 4 * LOGS_PER_BLOCK);
+    }
+
+    @Test
+    public void testCommitsEveryCommitBlocksAndOnCompletion() {
+        List<Checkpoint> emitted = ingest(ingestor(3, 2));
+
+        assertEquals(replayedFrom.get(0), (BigInteger.ONE));
+        assertEquals(emitted, (listOf(checkpoint(3, 2), checkpoint(6, 2))));
+        assertEquals(commits, (listOf(checkpoint(3, 2), checkpoint(6, 2), checkpoint(7, 2))));
+    }
+
+    @Test
+    public void testCommitsOnError() {
+        CheckpointedLogIngestor ingestor = ingestor(100, 2);
+        ingestor.ingest(
+                        log -> {
+                            if (log.getBlockNumber().longValueExact() == 4) {
+                                throw new IllegalStateException("handler failed");
+                            }
+                        })
+                .test()
+                .assertError(IllegalStateException.class);
+
+        assertEquals(commits, (listOf(checkpoint(3, 2))));
+        assertEquals(ingestor.getCommittedCheckpoint(), (checkpoint(3, 2)));
+    }
+
+    private static List<Checkpoint> listOf(Checkpoint... checkpoints) {
+        List<Checkpoint> list = new ArrayList<>();
+        for (Checkpoint checkpoint : checkpoints) {
+            list.add(checkpoint);
+        }
+        return list;
+    }
+
+    private static Checkpoint checkpoint(long number, long logIndex) {
+        return new Checkpoint(BigInteger.valueOf(number), blockHash(number), logIndex);
+    }
+
+    private static String blockHash(long number) {
+        return "0xb" + number;
+    }
+
+    private static long blockNumber(String blockHash) {
+        return Long.parseLong(blockHash.substring(3));
+    }
+
+    private static EthBlock.Block block(long number) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber(Numeric.encodeQuantity(BigInteger.valueOf(number)));
+        block.setHash(blockHash(number));
+        return block;
+    }
+
+    private static EthBlock ethBlock(EthBlock.Block block) {
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Response<?>> Request<?, T> request(T response) throws Exception {
+        Request<?, T> request = mock(Request.class);
+        when(request.send()).thenReturn(response);
+        return request;
+    }
+}
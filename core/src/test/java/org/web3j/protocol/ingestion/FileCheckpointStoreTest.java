@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ingestion;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.TempFileProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class FileCheckpointStoreTest extends TempFileProvider {
+
+    private static final Checkpoint FIRST =
+            new Checkpoint(
+                    BigInteger.valueOf(165466),
+                    "0xd263df878c66b8a08c8509a8f33d6758bc3a1ee3c5ab3c9a765ea981ae9d72e3",
+                    4);
+    private static final Checkpoint SECOND =
+            new Checkpoint(
+                    BigInteger.valueOf(165467),
+                    "0xee5b9e9030d308c77a2d4f975b7090a026ac2cdfe9669e2452cedb4c82e8285e",
+                    -1);
+
+    @Test
+    public void testCommitAndLoad() throws Exception {
+        Path path = checkpointPath();
+        try (FileCheckpointStore store = new FileCheckpointStore(path)) {
+            assertFalse(store.load().isPresent());
+
+            store.commit(FIRST);
+            store.commit(SECOND);
+            assertEquals(store.load(), (Optional.of(SECOND)));
+        }
+
+        try (FileCheckpointStore store = new FileCheckpointStore(path)) {
+            assertEquals(store.load(), (Optional.of(SECOND)));
+        }
+    }
+
+    @Test
+    public void testIgnoresPartialEntry() throws Exception {
+        Path path = checkpointPath();
+        try (FileCheckpointStore store = new FileCheckpointStore(path)) {
+            store.commit(FIRST);
+        }
+        Files.write(
+                path,
+                "165467,0xee5b".getBytes(StandardCharsets.US_ASCII),
+                StandardOpenOption.APPEND);
+
+        try (FileCheckpointStore store = new FileCheckpointStore(path)) {
+            assertEquals(store.load(), (Optional.of(FIRST)));
+
+            store.commit(SECOND);
+            assertEquals(store.load(), (Optional.of(SECOND)));
+        }
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        Path path = checkpointPath();
+        try (FileCheckpointStore store = new FileCheckpointStore(path, 2)) {
+            store.commit(FIRST);
+            store.commit(FIRST);
+            store.commit(SECOND);
+
+            assertEquals(Files.readAllLines(path).size(), 1);
+            assertEquals(store.load(), (Optional.of(SECOND)));
+
+            store.commit(FIRST);
+            assertEquals(Files.readAllLines(path).size(), 2);
+            assertEquals(store.load(), (Optional.of(FIRST)));
+        }
+    }
+
+    @Test
+    public void testCompactionCountsExistingEntries() throws Exception {
+        Path path = checkpointPath();
+        try (FileCheckpointStore store = new FileCheckpointStore(path, 3)) {
+            store.commit(FIRST);
+            store.commit(FIRST);
+        }
+
+        try (FileCheckpointStore store = new FileCheckpointStore(path, 3)) {
+            store.commit(FIRST);
+            assertEquals(Files.readAllLines(path).size(), 3);
+            store.commit(SECOND);
+            assertEquals(Files.readAllLines(path).size(), 1);
+            assertEquals(store.load(), (Optional.of(SECOND)));
+        }
+    }
+
+    private Path checkpointPath() {
+        return Paths.get(tempDirPath, "checkpoint");
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.interceptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Service;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.metrics.RequestTimer;
+import org.web3j.protocol.metrics.RequestTimings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterceptorChainTest {
+
+    private static final String RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x10\"}";
+
+    private final List<String> payloads = new ArrayList<>();
+    private final List<String> calls = new ArrayList<>();
+    private int failures;
+
+    private final Service service =
+            new Service(false) {
+                @Override
+                protected InputStream performIO(String payload) throws IOException {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                protected InputStream performIO(String payload, RequestTimer timer)
+                        throws IOException {
+                    payloads.add(payload);
+                    timer.dispatched();
+                    if (failures > 0) {
+                        failures--;
+                        throw new IOException("connection reset");
+                    }
+                    timer.firstByte();
+                    String response =
+                            payload.startsWith("[")
+                                    ? "[" + RESPONSE + "," + RESPONSE + "]"
+                                    : RESPONSE;
+                    return new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void close() {}
+            };
+
+    @Test
+    public void testInterceptorsComposeInOrder() throws Exception {
+        List<RequestTimings> timings = new ArrayList<>();
+        service.addInterceptor(
+                new RequestInterceptor() {
+                    @Override
+                    public <T extends Response> T intercept(Chain<T> chain) throws IOException {
+                        calls.add("trace " + chain.request().getMethod());
+                        T response = chain.proceed(chain.request());
+                        timings.add(chain.timings());
+                        return response;
+                    }
+                });
+        service.addInterceptor(new Retry(2));
+        failures = 1;
+
+        EthBlockNumber ethBlockNumber = send();
+
+        assertEquals(ethBlockNumber.getBlockNumber().longValue(), 16);
+        assertEquals(calls, (Arrays.asList("trace eth_blockNumber", "retry", "retry")));
+        assertEquals(payloads.size(), 2);
+
+        RequestTimings requestTimings = timings.get(0);
+        assertEquals(requestTimings.getRequestSize(), payloads.get(1).length());
+        assertEquals(requestTimings.getResponseSize(), RESPONSE.length());
+        assertTrue(requestTimings.getSerializationTime() >= 0);
+        assertTrue(requestTimings.getQueueTime() >= 0);
+        assertTrue(requestTimings.getTimeToFirstByte() >= 0);
+        assertTrue(requestTimings.getNetworkTime() >= requestTimings.getTimeToFirstByte());
+        assertTrue(requestTimings.getDeserializationTime() >= 0);
+        assertTrue(requestTimings.getTotalTime() > 0);
+    }
+
+    @Test
+    public void testInterceptorCanShortCircuit() throws Exception {
+        EthBlockNumber cached = new EthBlockNumber();
+        cached.setResult("0x20");
+        service.addInterceptor(
+                new RequestInterceptor() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <T extends Response> T intercept(Chain<T> chain) {
+                        return (T) cached;
+                    }
+                });
+
+        assertEquals(send().getBlockNumber().longValue(), 32);
+        assertTrue(payloads.isEmpty());
+    }
+
+    @Test
+    public void testBatchesProceedByDefault() throws Exception {
+        service.addInterceptor(new Retry(1));
+        BatchRequest batchRequest = new BatchRequest(service);
+        batchRequest.add(request()).add(request());
+
+        BatchResponse batchResponse = service.sendBatch(batchRequest);
+
+        assertEquals(batchResponse.getResponses().size(), 2);
+        assertEquals(payloads.size(), 1);
+        assertTrue(calls.isEmpty());
+    }
+
+    private EthBlockNumber send() throws IOException {
+        return request().send();
+    }
+
+    private Request<?, EthBlockNumber> request() {
+        return new Request<>(
+                "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+    }
+
+    private class Retry implements RequestInterceptor {
+        private final int attempts;
+
+        Retry(int attempts) {
+            this.attempts = attempts;
+        }
+
+        @Override
+        public <T extends Response> T intercept(Chain<T> chain) throws IOException {
+            for (int attempt = 1; ; attempt++) {
+                calls.add("retry");
+                try {
+                    return chain.proceed(chain.request());
+                } catch (IOException e) {
+                    if (attempt == attempts) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Service;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryServiceMetricsTest {
+
+    private static final String RESPONSE = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x10\"}";
+    private static final String ERROR =
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,\"message\":\"failed\"}}";
+
+    private String reply = RESPONSE;
+
+    private final Service service =
+            new Service(false) {
+                @Override
+                protected InputStream performIO(String payload) throws IOException {
+                    if (reply == null) {
+                        throw new IOException("connection refused");
+                    }
+                    return new ByteArrayInputStream(reply.getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void close() {}
+            };
+
+    @Test
+    public void testHistogramPercentiles() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(histogram.getCount(), 100_000);
+        assertEquals(histogram.getMax(), 100_000);
+        assertEquals(histogram.getValueAtPercentile(0.1), 100);
+        assertEquals(histogram.getMean(), 50_000.5, 1_000);
+        assertEquals(histogram.getValueAtPercentile(50), 50_000, 50_000 / 64.0);
+        assertEquals(histogram.getValueAtPercentile(99), 99_000, 99_000 / 64.0);
+        assertEquals(histogram.getValueAtPercentile(100), 100_000);
+    }
+
+    @Test
+    public void testRecordsServiceRequests() throws Exception {
+        InMemoryServiceMetrics metrics = new InMemoryServiceMetrics();
+        service.setMetrics(metrics);
+
+        assertEquals(send().getBlockNumber().longValue(), 16);
+        reply = ERROR;
+        assertTrue(send().hasError());
+        reply = null;
+        assertThrows(IOException.class, this::send);
+
+        InMemoryServiceMetrics.MethodMetrics blockNumber = metrics.getMethod("eth_blockNumber");
+        assertEquals(blockNumber.getRequests(), 3);
+        assertEquals(blockNumber.getErrorResponses(), 1);
+        assertEquals(blockNumber.getFailures(), 1);
+        assertEquals(blockNumber.getResponseSize().getMax(), ERROR.length());
+        assertEquals(blockNumber.getDeserializationTime().getCount(), 2);
+        assertTrue(blockNumber.getRequestSize().getMax() > 0);
+        assertTrue(blockNumber.getTotalTime().getMax() > 0);
+        assertEquals(blockNumber.getInFlight().getMax(), 1);
+    }
+
+    @Test
+    public void testDisabledMetricsAreNotRecorded() throws Exception {
+        InMemoryServiceMetrics metrics =
+                new InMemoryServiceMetrics() {
+                    @Override
+                    public boolean isEnabled() {
+                        return false;
+                    }
+                };
+        service.setMetrics(metrics);
+
+        send();
+
+        assertNull(metrics.getMethod("eth_blockNumber"));
+        assertEquals(RequestTimer.start(metrics, "eth_blockNumber", 1, null), RequestTimer.NONE);
+    }
+
+    private EthBlockNumber send() throws IOException {
+        return new Request<>(
+                        "eth_blockNumber", Collections.emptyList(), service, EthBlockNumber.class)
+                .send();
+    }
+}
@@ -33,7 +33,9 @@ import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
 import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.HeadTracker;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthFilter;
@@ -51,6 +53,8 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class JsonRpc2_0RxTest {
@@ -411,4 +415,33 @@ public class JsonRpc2_0RxTest {
 
         assertSame(expected, actual, "unexpected returned block");
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReplayPastBlocksReadsLatestBlockFromHeadTracker() {
+        Web3j web3j = mock(Web3j.class);
+        when(web3j.ethGetBlockByNumber(any(DefaultBlockParameterNumber.class), eq(false)))
+                .thenAnswer(
+                        invocation -> {
+                            DefaultBlockParameterNumber number = invocation.getArgument(0);
+                            EthBlock ethBlock = createBlock(number.getBlockNumber().intValue());
+                            Request<?, EthBlock> request = mock(Request.class);
+                            when(request.flowable()).thenReturn(Flowable.just(ethBlock));
+                            return request;
+                        });
+        HeadTracker headTracker = mock(HeadTracker.class);
+        when(headTracker.getHeadNumber()).thenReturn(2L);
+
+        JsonRpc2_0Rx rpc = new JsonRpc2_0Rx(web3j, Executors.newSingleThreadScheduledExecutor());
+        rpc.setHeadTracker(headTracker);
+        List<EthBlock> blocks =
+                rpc.replayPastBlocksFlowable(
+                                new DefaultBlockParameterNumber(BigInteger.ZERO), false)
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(blocks.size(), 3);
+        verify(web3j, never())
+                .ethGetBlockByNumber(eq(DefaultBlockParameterName.LATEST), anyBoolean());
+    }
 }
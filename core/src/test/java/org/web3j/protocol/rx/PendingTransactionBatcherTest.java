@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PendingTransactionBatcherTest {
+
+    private static final String MINED = "0x03";
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService);
+
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(
+                                        createEthTransaction((String) request.getParams().get(0)));
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    @Test
+    public void testDeduplicatesAndBatches() {
+        PendingTransactionBatcher batcher =
+                new PendingTransactionBatcher(web3j, Schedulers.single(), 100, 2, 1000, 1);
+
+        List<Transaction> transactions =
+                batcher.hydrate(Flowable.just("0x01", "0x02", "0x01", "0x04", "0x02", MINED))
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(
+                transactions.stream().map(Transaction::getHash).collect(Collectors.toList()),
+                (Arrays.asList("0x01", "0x02", "0x04")));
+        assertEquals(batcher.getHashesReceived(), 6);
+        assertEquals(batcher.getDuplicateHashes(), 2);
+        assertEquals(batcher.getBatchesSent(), 2);
+        assertEquals(batcher.getAverageBatchSize(), 2.0);
+        assertEquals(batcher.getAlreadyMined(), 1);
+    }
+
+    private static EthTransaction createEthTransaction(String hash) {
+        Transaction transaction = new Transaction();
+        transaction.setHash(hash);
+        if (MINED.equals(hash)) {
+            transaction.setBlockNumber("0x1");
+        }
+        EthTransaction ethTransaction = new EthTransaction();
+        ethTransaction.setResult(transaction);
+        return ethTransaction;
+    }
+}
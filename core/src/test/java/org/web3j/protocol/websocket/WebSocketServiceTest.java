@@ -19,10 +19,13 @@ import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
@@ -31,10 +34,12 @@ import org.junit.jupiter.api.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.NetVersion;
 import org.web3j.protocol.core.methods.response.Web3ClientVersion;
@@ -57,6 +62,7 @@ import static org.mockito.Mockito.when;
 public class WebSocketServiceTest {
 
     private static final int REQUEST_ID = 1;
+    private static final String SUBSCRIPTION_ID = "0xcd0c3e8af590364c09d0fa6a1210faf5";
 
     private WebSocketClient webSocketClient = mock(WebSocketClient.class);
     private WebSocketListener listener;
@@ -381,6 +387,40 @@ public class WebSocketServiceTest {
                 actualNotificationRef.get().getParams().getResult().getDifficulty());
     }
 
+    @Test
+    public void testPropagateSubscriptionEventWithSubscriptionIdAfterResult() throws Exception {
+        CountDownLatch eventReceived = new CountDownLatch(1);
+        AtomicReference<NewHeadsNotification> actualNotificationRef = new AtomicReference<>();
+
+        runAsync(
+                () ->
+                        subscribeToEvents()
+                                .subscribe(
+                                        newHeadsNotification -> {
+                                            actualNotificationRef.set(newHeadsNotification);
+                                            eventReceived.countDown();
+                                        }));
+
+        sendSubscriptionConfirmation();
+        service.onWebSocketMessage(
+                "{"
+                        + "  \"params\":{"
+                        + "    \"result\":{"
+                        + "      \"difficulty\":\"0xd9263f42a87\","
+                        + "      \"uncles\":[]"
+                        + "    },"
+                        + "    \"subscription\":\"0xcd0c3e8af590364c09d0fa6a1210faf5\""
+                        + "  },"
+                        + "  \"jsonrpc\":\"2.0\","
+                        + "  \"method\":\"eth_subscription\""
+                        + "}");
+
+        assertTrue(eventReceived.await(2, TimeUnit.SECONDS));
+        assertEquals(
+                "0xd9263f42a87",
+                actualNotificationRef.get().getParams().getResult().getDifficulty());
+    }
+
     @Test
     public void testSendUnsubscribeRequest() throws Exception {
         CountDownLatch unsubscribed = new CountDownLatch(1);
@@ -507,6 +547,71 @@ public class WebSocketServiceTest {
                 "Subscription request failed with error: Error message", throwable.getMessage());
     }
 
+    @Test
+    public void testRequestFromBlockFlowable() throws Exception {
+        // replies and notifications are all delivered on a single read thread, as by the client
+        ExecutorService readThread = Executors.newSingleThreadExecutor();
+        doAnswer(
+                        invocation -> {
+                            replyFromNode(readThread, invocation.getArgument(0));
+                            return null;
+                        })
+                .when(webSocketClient)
+                .send(anyString());
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        Web3j web3j = Web3j.build(service, 1000, scheduler);
+        CountDownLatch blockReceived = new CountDownLatch(1);
+        AtomicReference<EthBlock> block = new AtomicReference<>();
+
+        Disposable disposable =
+                web3j.blockFlowable(false)
+                        .subscribe(
+                                ethBlock -> {
+                                    block.set(ethBlock);
+                                    blockReceived.countDown();
+                                });
+
+        try {
+            assertTrue(blockReceived.await(5, TimeUnit.SECONDS));
+            assertEquals(block.get().getBlock().getHash(), "0x1234");
+        } finally {
+            disposable.dispose();
+            readThread.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void replyFromNode(ExecutorService readThread, String payload) {
+        Matcher matcher = Pattern.compile("\"id\":(\\d+)").matcher(payload);
+        if (!matcher.find()) {
+            return;
+        }
+        String reply = "{\"jsonrpc\":\"2.0\",\"id\":" + matcher.group(1) + ",\"result\":";
+        if (payload.contains("\"eth_subscribe\"")) {
+            deliver(readThread, reply + "\"" + SUBSCRIPTION_ID + "\"}");
+            deliver(
+                    readThread,
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":{"
+                            + "\"subscription\":\""
+                            + SUBSCRIPTION_ID
+                            + "\",\"result\":{\"hash\":\"0x1234\"}}}");
+        } else if (payload.contains("\"eth_getBlockByHash\"")) {
+            deliver(readThread, reply + "{\"hash\":\"0x1234\"}}");
+        }
+    }
+
+    private void deliver(ExecutorService readThread, String message) {
+        readThread.execute(
+                () -> {
+                    try {
+                        service.onWebSocketMessage(message);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
     private void runAsync(Runnable runnable) {
         Executors.newSingleThreadExecutor().execute(runnable);
     }
@@ -46,6 +46,7 @@ import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
 import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.tx.exceptions.TransactionRevertedException;
 import org.web3j.tx.gas.ContractGasProvider;
 import org.web3j.tx.gas.DefaultGasProvider;
 import org.web3j.tx.gas.StaticGasProvider;
@@ -65,6 +66,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -324,6 +326,8 @@ public class ContractTest extends ManagedTransactionTester {
                                     .send();
                         });
 
+        assertEquals(
+                OWNER_REVERT_MSG_STR, ((TransactionRevertedException) thrown).getRevertReason());
         assertEquals(
                 String.format(
                         "Transaction %s has failed with status: %s. Gas used: 1. Revert reason: '%s'.",
@@ -332,6 +336,32 @@ public class ContractTest extends ManagedTransactionTester {
         assertEquals(transactionReceipt, thrown.getTransactionReceipt().get());
     }
 
+    @Test
+    public void testTransactionFailedAsyncDoesNotRetrieveRevertReason() throws Exception {
+        TransactionReceipt transactionReceipt = createFailedTransactionReceipt();
+        prepareCall(OWNER_REVERT_MSG_HASH);
+        prepareTransaction(transactionReceipt);
+
+        ExecutionException thrown =
+                assertThrows(
+                        ExecutionException.class,
+                        () ->
+                                contract.performTransaction(
+                                                new Address(BigInteger.TEN),
+                                                new Uint256(BigInteger.ONE))
+                                        .sendAsync()
+                                        .get());
+
+        TransactionRevertedException cause = (TransactionRevertedException) thrown.getCause();
+        assertEquals(
+                String.format(
+                        "Transaction %s has failed with status: %s. Gas used: 1. "
+                                + "Revert reason not retrieved.",
+                        TRANSACTION_HASH, TXN_FAIL_STATUS),
+                cause.getMessage());
+        verify(web3j, never()).ethCall(any(Transaction.class), any(DefaultBlockParameter.class));
+    }
+
     @Test
     public void testProcessEvent() {
         TransactionReceipt transactionReceipt = new TransactionReceipt();
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.processors.PublishProcessor;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EthCallCacheTest {
+
+    private static final String FROM = "0xef678007d18427e6022059dbc264f27507cd1ffc";
+    private static final String OTHER_FROM = "0x19e03255f667bdfd50a32722df860b1eeaf4d635";
+    private static final String TO = "0x3d6cb163f7c72d20b0fcd6baae5889329d138a4a";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final PublishProcessor<String> newHeads = PublishProcessor.create();
+
+    private String call(EthCallCache cache, String data, DefaultBlockParameter block)
+            throws Exception {
+        return cache.get(FROM, TO, data, block, () -> "0x" + calls.incrementAndGet());
+    }
+
+    @Test
+    public void testLatestIsCachedUntilNewHead() throws Exception {
+        EthCallCache cache = new EthCallCache(newHeads, 10);
+
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.LATEST), ("0x1"));
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.LATEST), ("0x1"));
+        assertEquals(call(cache, "0x02", DefaultBlockParameterName.LATEST), ("0x2"));
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.PENDING), ("0x3"));
+
+        DefaultBlockParameter pinned = DefaultBlockParameter.valueOf(BigInteger.TEN);
+        assertEquals(call(cache, "0x01", pinned), ("0x4"));
+
+        newHeads.onNext("0xhead");
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.LATEST), ("0x5"));
+        assertEquals(call(cache, "0x01", pinned), ("0x4"));
+
+        assertEquals(cache.getHits(), 2);
+        assertEquals(cache.getMisses(), 4);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        EthCallCache cache = new EthCallCache(newHeads, 2);
+
+        call(cache, "0x01", DefaultBlockParameterName.LATEST);
+        call(cache, "0x02", DefaultBlockParameterName.LATEST);
+        call(cache, "0x01", DefaultBlockParameterName.LATEST);
+        call(cache, "0x03", DefaultBlockParameterName.LATEST);
+
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getEvictions(), 1);
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.LATEST), ("0x1"));
+        assertEquals(call(cache, "0x02", DefaultBlockParameterName.LATEST), ("0x4"));
+    }
+
+    @Test
+    public void testCallsAreCachedPerSender() throws Exception {
+        EthCallCache cache = new EthCallCache(newHeads, 10);
+
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.LATEST), ("0x1"));
+        assertEquals(
+                cache.get(
+                        OTHER_FROM,
+                        TO,
+                        "0x01",
+                        DefaultBlockParameterName.LATEST,
+                        () -> "0x" + calls.incrementAndGet()),
+                ("0x2"));
+        assertEquals(call(cache, "0x01", DefaultBlockParameterName.LATEST), ("0x1"));
+        assertEquals(cache.size(), 2);
+    }
+}
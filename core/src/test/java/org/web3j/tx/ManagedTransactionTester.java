@@ -13,6 +13,7 @@
 package org.web3j.tx;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 
@@ -73,6 +74,8 @@ public abstract class ManagedTransactionTester {
 
         Request<?, EthGetTransactionCount> transactionCountRequest = mock(Request.class);
         when(transactionCountRequest.send()).thenReturn(ethGetTransactionCount);
+        when(transactionCountRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(ethGetTransactionCount));
         when(web3j.ethGetTransactionCount(SampleKeys.ADDRESS, DefaultBlockParameterName.PENDING))
                 .thenReturn((Request) transactionCountRequest);
     }
@@ -84,6 +87,8 @@ public abstract class ManagedTransactionTester {
 
         Request<?, EthSendTransaction> rawTransactionRequest = mock(Request.class);
         when(rawTransactionRequest.send()).thenReturn(ethSendTransaction);
+        when(rawTransactionRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(ethSendTransaction));
         when(web3j.ethSendRawTransaction(any(String.class)))
                 .thenReturn((Request) rawTransactionRequest);
     }
@@ -95,6 +100,8 @@ public abstract class ManagedTransactionTester {
 
         Request<?, EthGetTransactionReceipt> getTransactionReceiptRequest = mock(Request.class);
         when(getTransactionReceiptRequest.send()).thenReturn(ethGetTransactionReceipt);
+        when(getTransactionReceiptRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(ethGetTransactionReceipt));
         when(web3j.ethGetTransactionReceipt(TRANSACTION_HASH))
                 .thenReturn((Request) getTransactionReceiptRequest);
     }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.TypeEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MulticallTest {
+
+    private static final String TOKEN = "0x3d6cb163f7c72d20b0fcd6baae5889329d138a4a";
+    private static final String REVERT_REASON = "not allowed";
+    private static final String BALANCE_OF_SELECTOR = "9cc7f708";
+
+    private final List<String> aggregateCalls = new ArrayList<>();
+    private Web3jService web3jService;
+    private Web3j web3j;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), eq(EthCall.class)))
+                .thenAnswer(invocation -> aggregate(invocation.getArgument(0)));
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(aggregate(request));
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+        web3j = Web3j.build(web3jService);
+    }
+
+    /** Answers every balanceOf call with its index, and reverts every other call. */
+    private EthCall aggregate(Request<?, ?> request) {
+        String data = ((Transaction) request.getParams().get(0)).getData();
+        aggregateCalls.add(data);
+        String encoded = Numeric.cleanHexPrefix(data).substring(8);
+        int calls = Numeric.toBigInt(encoded.substring(128, 192)).intValue();
+
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            String callOffset = encoded.substring(192 + i * 64, 256 + i * 64);
+            int offset = 192 + Numeric.toBigInt(callOffset).intValue() * 2;
+            // the call data follows the target address, its offset and its length
+            String callData = encoded.substring(offset + 192);
+            boolean success = callData.startsWith(BALANCE_OF_SELECTOR);
+            String returnData =
+                    success
+                            ? TypeEncoder.encode(new Uint256(BigInteger.valueOf(i)))
+                            : "08c379a0"
+                                    + FunctionEncoder.encodeConstructor(
+                                            Collections.singletonList(
+                                                    new Utf8String(REVERT_REASON)));
+            results.add(
+                    FunctionEncoder.encodeConstructor(
+                            Arrays.asList(
+                                    new Bool(success),
+                                    new DynamicBytes(Numeric.hexStringToByteArray(returnData)))));
+        }
+
+        StringBuilder result = new StringBuilder("0x");
+        result.append(TypeEncoder.encode(new Uint256(BigInteger.valueOf(32))));
+        result.append(TypeEncoder.encode(new Uint256(BigInteger.valueOf(calls))));
+        int offset = calls * 32;
+        for (String encodedResult : results) {
+            result.append(TypeEncoder.encode(new Uint256(BigInteger.valueOf(offset))));
+            offset += encodedResult.length() / 2;
+        }
+        results.forEach(result::append);
+
+        EthCall ethCall = new EthCall();
+        ethCall.setResult(result.toString());
+        return ethCall;
+    }
+
+    private static RemoteFunctionCall<BigInteger> balanceOf(int account) {
+        Function function =
+                new Function(
+                        "balanceOf",
+                        Collections.singletonList(new Uint256(account)),
+                        Collections.singletonList(new TypeReference<Uint256>() {}));
+        return new RemoteFunctionCall<>(
+                function,
+                TOKEN,
+                values -> ((Uint256) values.get(0)).getValue(),
+                () -> {
+                    throw new UnsupportedOperationException();
+                });
+    }
+
+    private static RemoteFunctionCall<List<Type>> owner() {
+        Function function =
+                new Function(
+                        "owner",
+                        Collections.emptyList(),
+                        Collections.singletonList(new TypeReference<Uint256>() {}));
+        return new RemoteFunctionCall<>(
+                function,
+                TOKEN,
+                values -> values,
+                () -> {
+                    throw new UnsupportedOperationException();
+                });
+    }
+
+    @Test
+    public void testAggregatesCalls() throws Exception {
+        Multicall multicall = new Multicall(web3j);
+        List<CompletableFuture<BigInteger>> balances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            balances.add(multicall.add(balanceOf(i)));
+        }
+        CompletableFuture<List<Type>> owner = multicall.add(owner());
+
+        multicall.send();
+
+        assertEquals(aggregateCalls.size(), 1);
+        assertTrue(aggregateCalls.get(0).startsWith("0xbce38bd7"));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(balances.get(i).get(), (BigInteger.valueOf(i)));
+        }
+        ExecutionException thrown = assertThrows(ExecutionException.class, owner::get);
+        assertTrue(thrown.getCause() instanceof ContractCallException);
+        assertEquals(
+                thrown.getCause().getMessage(),
+                (String.format(TransactionManager.REVERT_ERR_STR, REVERT_REASON)));
+        verify(web3jService, never()).sendBatch(any(BatchRequest.class));
+    }
+
+    @Test
+    public void testSplitsCallsByCalldataSize() throws Exception {
+        Multicall multicall = new Multicall(web3j, Multicall.MULTICALL3_ADDRESS, 500);
+        List<CompletableFuture<BigInteger>> balances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            balances.add(multicall.add(balanceOf(i)));
+        }
+
+        multicall.send();
+
+        assertEquals(aggregateCalls.size(), 3);
+        verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+        assertEquals(balances.get(0).get(), (BigInteger.ZERO));
+        assertEquals(balances.get(1).get(), (BigInteger.ONE));
+        assertEquals(balances.get(2).get(), (BigInteger.ZERO));
+        assertEquals(balances.get(3).get(), (BigInteger.ONE));
+        assertEquals(balances.get(4).get(), (BigInteger.ZERO));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.tx.Contract.EventValuesWithLog;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelEventDecoderTest {
+
+    private static final Event TRANSFER =
+            new Event(
+                    "Transfer",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Uint256>() {}));
+
+    private static final Event APPROVAL =
+            new Event(
+                    "Approval",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Address>(true) {},
+                            new TypeReference<Uint256>() {}));
+
+    private static final String ADDRESS_TOPIC =
+            "0x000000000000000000000000ef678007d18427e6022059dbc264f27507cd1ffc";
+
+    @Test
+    public void testDecodesInOrder() {
+        List<Log> logs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            // every third log is an unknown event and should be dropped
+            String signature =
+                    i % 3 == 0 ? EventEncoder.buildEventSignature("Unknown()") : encode(TRANSFER);
+            logs.add(createLog(i, signature));
+        }
+
+        ParallelEventDecoder decoder =
+                new ParallelEventDecoder(
+                        Arrays.asList(TRANSFER, APPROVAL), 8, Schedulers.computation());
+
+        List<EventValuesWithLog> decoded =
+                decoder.decode(Flowable.fromIterable(logs)).toList().blockingGet();
+
+        assertEquals(decoded.size(), 66);
+        long previous = -1;
+        for (EventValuesWithLog eventValues : decoded) {
+            long logIndex = eventValues.getLog().getLogIndex().longValue();
+            assertEquals(
+                    eventValues.getNonIndexedValues().get(0).getValue(),
+                    (BigInteger.valueOf(logIndex)));
+            assertTrue(previous < logIndex);
+            previous = logIndex;
+        }
+    }
+
+    private static String encode(Event event) {
+        return EventEncoder.encode(event);
+    }
+
+    private static Log createLog(long logIndex, String signature) {
+        Log log = new Log();
+        log.setLogIndex(Numeric.encodeQuantity(BigInteger.valueOf(logIndex)));
+        log.setTopics(Arrays.asList(signature, ADDRESS_TOPIC, ADDRESS_TOPIC));
+        log.setData(Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(logIndex), 64));
+        return log;
+    }
+}
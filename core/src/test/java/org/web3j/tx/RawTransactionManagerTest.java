@@ -14,15 +14,21 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import org.junit.jupiter.api.Test;
 
 import org.web3j.crypto.SampleKeys;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.tx.exceptions.TxHashMismatchException;
 import org.web3j.utils.Convert;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class RawTransactionManagerTest extends ManagedTransactionTester {
 
@@ -38,4 +44,20 @@ public class RawTransactionManagerTest extends ManagedTransactionTester {
                 TxHashMismatchException.class,
                 () -> transfer.sendFunds(ADDRESS, BigDecimal.ONE, Convert.Unit.ETHER).send());
     }
+
+    @Test
+    public void testFastNonceInitialisedAsynchronously() throws Exception {
+        prepareNonceRequest();
+
+        FastRawTransactionManager transactionManager =
+                new FastRawTransactionManager(web3j, SampleKeys.CREDENTIALS);
+
+        Request<?, ?> transactionCountRequest =
+                web3j.ethGetTransactionCount(SampleKeys.ADDRESS, DefaultBlockParameterName.PENDING);
+
+        assertEquals(transactionManager.getNonceAsync().get(), (BigInteger.ONE));
+        assertEquals(transactionManager.getNonceAsync().get(), (BigInteger.valueOf(2)));
+        verify(transactionCountRequest).sendAsync();
+        verify(transactionCountRequest, never()).send();
+    }
 }
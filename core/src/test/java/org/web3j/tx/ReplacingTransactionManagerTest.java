@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.SampleKeys;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplacingTransactionManagerTest {
+
+    private final List<String> sent = new ArrayList<>();
+    private final List<String> mined = new ArrayList<>();
+    private final PublishProcessor<String> blockHashes = PublishProcessor.create();
+
+    private ReplacingTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.sendAsync(any(Request.class), eq(EthSendTransaction.class)))
+                .thenAnswer(
+                        invocation ->
+                                CompletableFuture.completedFuture(
+                                        sendRawTransaction(invocation.getArgument(0))));
+        when(web3jService.send(any(Request.class), eq(EthSendTransaction.class)))
+                .thenAnswer(invocation -> sendRawTransaction(invocation.getArgument(0)));
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                String transactionHash = (String) request.getParams().get(0);
+                                EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+                                if (mined.contains(transactionHash)) {
+                                    TransactionReceipt receipt = new TransactionReceipt();
+                                    receipt.setTransactionHash(transactionHash);
+                                    response.setResult(receipt);
+                                }
+                                responses.add(response);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+
+        Web3j web3j = Web3j.build(web3jService);
+        transactionManager =
+                new ReplacingTransactionManager(
+                        web3j,
+                        SampleKeys.CREDENTIALS,
+                        ChainId.NONE,
+                        blockHashes,
+                        Schedulers.trampoline(),
+                        2,
+                        ReplacingTransactionManager.DEFAULT_PRICE_BUMP_PERCENT,
+                        BigInteger.valueOf(120),
+                        ReplacingTransactionManager.DEFAULT_ATTEMPTS);
+    }
+
+    private EthSendTransaction sendRawTransaction(Request<?, ?> request) {
+        String signedTransaction = (String) request.getParams().get(0);
+        sent.add(signedTransaction);
+        EthSendTransaction ethSendTransaction = new EthSendTransaction();
+        ethSendTransaction.setResult(Hash.sha3(signedTransaction));
+        return ethSendTransaction;
+    }
+
+    @Test
+    public void testReplacesStuckTransaction() throws Exception {
+        CompletableFuture<TransactionReceipt> receipt =
+                transactionManager.submit(
+                        RawTransaction.createEtherTransaction(
+                                BigInteger.ZERO,
+                                BigInteger.valueOf(100),
+                                Transfer.GAS_LIMIT,
+                                SampleKeys.ADDRESS,
+                                BigInteger.TEN));
+        assertEquals(sent.size(), 1);
+
+        blockHashes.onNext("0x1");
+        assertEquals(sent.size(), 1);
+        blockHashes.onNext("0x2");
+        assertEquals(sent.size(), 2);
+        assertEquals(
+                TransactionDecoder.decode(sent.get(1)).getGasPrice(), (BigInteger.valueOf(112)));
+        assertEquals(TransactionDecoder.decode(sent.get(1)).getNonce(), (BigInteger.ZERO));
+
+        // the next replacement would exceed the maximum gas price
+        blockHashes.onNext("0x3");
+        blockHashes.onNext("0x4");
+        assertEquals(sent.size(), 2);
+        assertFalse(receipt.isDone());
+
+        // the original transaction is mined after all
+        mined.add(Hash.sha3(sent.get(0)));
+        blockHashes.onNext("0x5");
+        assertTrue(receipt.isDone());
+        assertEquals(receipt.get().getTransactionHash(), (Hash.sha3(sent.get(0))));
+        assertEquals(transactionManager.getReplacementsSent(), 1);
+        assertEquals(transactionManager.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        CompletableFuture<TransactionReceipt> receipt =
+                transactionManager.submit(
+                        RawTransaction.createEtherTransaction(
+                                BigInteger.ONE,
+                                BigInteger.valueOf(100),
+                                Transfer.GAS_LIMIT,
+                                SampleKeys.ADDRESS,
+                                BigInteger.TEN));
+
+        transactionManager.cancel(BigInteger.ONE);
+        RawTransaction cancellation = TransactionDecoder.decode(sent.get(1));
+        assertEquals(cancellation.getNonce(), (BigInteger.ONE));
+        assertEquals(cancellation.getValue(), (BigInteger.ZERO));
+        assertEquals(cancellation.getTo(), (SampleKeys.ADDRESS));
+
+        mined.add(Hash.sha3(sent.get(1)));
+        blockHashes.onNext("0x1");
+        ExecutionException thrown = assertThrows(ExecutionException.class, receipt::get);
+        TransactionException cause = (TransactionException) thrown.getCause();
+        assertEquals(
+                cause.getTransactionReceipt().get().getTransactionHash(),
+                (Hash.sha3(sent.get(1))));
+        assertEquals(transactionManager.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testSubmitWithPendingNonceReplacesTransaction() throws Exception {
+        CompletableFuture<TransactionReceipt> first =
+                transactionManager.submit(
+                        RawTransaction.createEtherTransaction(
+                                BigInteger.valueOf(2),
+                                BigInteger.valueOf(100),
+                                Transfer.GAS_LIMIT,
+                                SampleKeys.ADDRESS,
+                                BigInteger.TEN));
+        CompletableFuture<TransactionReceipt> second =
+                transactionManager.submit(
+                        RawTransaction.createEtherTransaction(
+                                BigInteger.valueOf(2),
+                                BigInteger.valueOf(115),
+                                Transfer.GAS_LIMIT,
+                                SampleKeys.ADDRESS,
+                                BigInteger.ONE));
+        assertEquals(sent.size(), 2);
+        assertEquals(transactionManager.getPendingCount(), 1);
+
+        mined.add(Hash.sha3(sent.get(1)));
+        blockHashes.onNext("0x1");
+        assertEquals(first.get().getTransactionHash(), (Hash.sha3(sent.get(1))));
+        assertEquals(second.get().getTransactionHash(), (Hash.sha3(sent.get(1))));
+        assertEquals(transactionManager.getPendingCount(), 0);
+    }
+}
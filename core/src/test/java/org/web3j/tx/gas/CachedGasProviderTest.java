@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.gas;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.reactivex.processors.PublishProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthGasPrice;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CachedGasProviderTest {
+
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(100_000);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private Web3j web3j;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        web3j = mock(Web3j.class);
+        Request<?, EthGasPrice> request = mock(Request.class);
+        when(request.send())
+                .thenAnswer(
+                        invocation -> {
+                            EthGasPrice ethGasPrice = new EthGasPrice();
+                            ethGasPrice.setResult(
+                                    "0x" + Integer.toHexString(requests.incrementAndGet() * 10));
+                            return ethGasPrice;
+                        });
+        when(web3j.ethGasPrice()).thenReturn((Request) request);
+    }
+
+    @Test
+    public void testGasPriceIsCachedUntilNewHead() {
+        PublishProcessor<String> newHeads = PublishProcessor.create();
+        CachedGasProvider gasProvider =
+                new CachedGasProvider(
+                                web3j,
+                                new MultiplierGasPriceStrategy(1.5),
+                                GAS_LIMIT,
+                                Long.MAX_VALUE,
+                                true,
+                                2)
+                        .refreshOnNewHeads(newHeads);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(gasProvider.getGasPrice("transfer"), (BigInteger.valueOf(15)));
+        }
+        assertEquals(requests.get(), 1);
+        assertEquals(gasProvider.getGasPremium("transfer"), (BigInteger.valueOf(15)));
+        assertEquals(gasProvider.getFeeCap("transfer"), (BigInteger.valueOf(30)));
+        assertEquals(gasProvider.getGasLimit("transfer"), (GAS_LIMIT));
+        assertTrue(gasProvider.isEIP1559Enabled());
+
+        newHeads.onNext("0x1");
+        assertEquals(requests.get(), 2);
+        assertEquals(gasProvider.getGasPrice("transfer"), (BigInteger.valueOf(30)));
+        assertEquals(requests.get(), 2);
+
+        gasProvider.close();
+        newHeads.onNext("0x2");
+        assertEquals(requests.get(), 2);
+    }
+
+    @Test
+    public void testGasPriceIsRefreshedAfterTtl() {
+        CachedGasProvider gasProvider =
+                new CachedGasProvider(web3j, new MultiplierGasPriceStrategy(1), GAS_LIMIT, 0);
+
+        assertEquals(gasProvider.getGasPrice("transfer"), (BigInteger.valueOf(10)));
+        assertEquals(gasProvider.getGasPrice("transfer"), (BigInteger.valueOf(20)));
+        assertEquals(requests.get(), 2);
+    }
+}
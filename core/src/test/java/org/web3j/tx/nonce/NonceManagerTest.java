@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.nonce;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class NonceManagerTest {
+
+    private static final String ADDRESS = "0xef678007d18427e6022059dbc264f27507cd1ffc";
+
+    private final List<BigInteger> filled = new ArrayList<>();
+    private long pendingTransactionCount = 5;
+
+    private NonceManager nonceManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        Web3j web3j = mock(Web3j.class);
+        Request<?, EthGetTransactionCount> request = mock(Request.class);
+        when(request.send())
+                .thenAnswer(
+                        invocation -> {
+                            EthGetTransactionCount ethGetTransactionCount =
+                                    new EthGetTransactionCount();
+                            ethGetTransactionCount.setResult(
+                                    Numeric.encodeQuantity(
+                                            BigInteger.valueOf(pendingTransactionCount)));
+                            return ethGetTransactionCount;
+                        });
+        when(web3j.ethGetTransactionCount(anyString(), eq(DefaultBlockParameterName.PENDING)))
+                .thenReturn((Request) request);
+
+        nonceManager = new NonceManager(web3j, (address, nonce) -> filled.add(nonce));
+    }
+
+    @Test
+    public void testReservesReleasedNoncesFirst() throws Exception {
+        NonceReservation first = nonceManager.reserve(ADDRESS);
+        NonceReservation second = nonceManager.reserve(ADDRESS);
+        NonceReservation third = nonceManager.reserve(ADDRESS);
+        assertEquals(first.getNonce(), (BigInteger.valueOf(5)));
+        assertEquals(third.getNonce(), (BigInteger.valueOf(7)));
+
+        first.commit();
+        second.release();
+        // only the first completion of a reservation counts
+        second.commit();
+        assertEquals(nonceManager.reserve(ADDRESS).getNonce(), (BigInteger.valueOf(6)));
+
+        third.release();
+        assertEquals(nonceManager.getNextNonce(ADDRESS), (BigInteger.valueOf(7)));
+        assertEquals(nonceManager.reserve(ADDRESS).getNonce(), (BigInteger.valueOf(7)));
+    }
+
+    @Test
+    public void testReconcileSkipsExternallyUsedNonces() throws Exception {
+        nonceManager.reserve(ADDRESS).commit();
+        NonceReservation released = nonceManager.reserve(ADDRESS);
+        nonceManager.reserve(ADDRESS).commit();
+        released.release();
+
+        pendingTransactionCount = 10;
+        nonceManager.reconcile(ADDRESS);
+
+        assertEquals(nonceManager.reserve(ADDRESS).getNonce(), (BigInteger.valueOf(10)));
+        assertTrue(filled.isEmpty());
+    }
+
+    @Test
+    public void testReconcileFillsConfirmedGap() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            nonceManager.reserve(ADDRESS).commit();
+        }
+
+        // nonce 6 has been dropped by the node
+        pendingTransactionCount = 6;
+        nonceManager.reconcile(ADDRESS);
+        assertTrue(filled.isEmpty());
+
+        nonceManager.reconcile(ADDRESS);
+        assertEquals(filled.size(), 1);
+        assertEquals(filled.get(0), (BigInteger.valueOf(6)));
+        assertEquals(nonceManager.getGapsFilled(), 1);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BlockBatchingTransactionReceiptProcessorTest {
+
+    private final Set<String> mined = new HashSet<>();
+    private final List<String> blockTransactions = new ArrayList<>();
+
+    private PublishProcessor<String> blockHashes;
+    private BlockBatchingTransactionReceiptProcessor processor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Web3jService web3jService = mock(Web3jService.class);
+        Web3j web3j = Web3j.build(web3jService);
+
+        when(web3jService.send(any(Request.class), eq(EthBlock.class)))
+                .thenAnswer(invocation -> createEthBlock());
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(createReceipt((String) request.getParams().get(0)));
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+
+        blockHashes = PublishProcessor.create();
+        processor =
+                new BlockBatchingTransactionReceiptProcessor(
+                        web3j, blockHashes, Schedulers.trampoline(), 3);
+    }
+
+    @Test
+    public void testCompletesReceiptsOnNewBlocks() throws Exception {
+        CompletableFuture<TransactionReceipt> first =
+                processor.waitForTransactionReceiptAsync("0x01");
+        CompletableFuture<TransactionReceipt> second =
+                processor.waitForTransactionReceiptAsync("0x02");
+
+        blockHashes.onNext("0xb1");
+        assertFalse(first.isDone());
+        assertEquals(processor.getReceiptRequestsSent(), 2);
+
+        // only transactions included in the block are checked from now on
+        mined.add("0x01");
+        blockTransactions.add("0x01");
+        blockHashes.onNext("0xb2");
+        assertEquals(first.get().getTransactionHash(), ("0x01"));
+        assertFalse(second.isDone());
+        assertEquals(processor.getReceiptRequestsSent(), 3);
+
+        mined.add("0x02");
+        blockTransactions.clear();
+        blockTransactions.add("0x02");
+        blockHashes.onNext("0xb3");
+        assertEquals(second.get().getTransactionHash(), ("0x02"));
+
+        assertEquals(processor.getBatchesSent(), 3);
+        assertEquals(processor.getPendingCount(), 0);
+        assertFalse(blockHashes.hasSubscribers());
+    }
+
+    @Test
+    public void testFailsAfterAttempts() {
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync("0x01");
+
+        blockHashes.onNext("0xb1");
+        blockHashes.onNext("0xb2");
+        blockHashes.onNext("0xb3");
+
+        assertTrue(future.isCompletedExceptionally());
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertEquals(((TransactionException) e.getCause()).getTransactionHash().get(), ("0x01"));
+        // registration and final attempt
+        assertEquals(processor.getReceiptRequestsSent(), 2);
+    }
+
+    private EthBlock createEthBlock() {
+        EthBlock.Block block = new EthBlock.Block();
+        List<EthBlock.TransactionResult> transactions = new ArrayList<>();
+        for (String transactionHash : blockTransactions) {
+            transactions.add(new EthBlock.TransactionHash(transactionHash));
+        }
+        block.setTransactions(transactions);
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    private EthGetTransactionReceipt createReceipt(String transactionHash) {
+        EthGetTransactionReceipt ethGetTransactionReceipt = new EthGetTransactionReceipt();
+        if (mined.contains(transactionHash)) {
+            TransactionReceipt receipt = new TransactionReceipt();
+            receipt.setTransactionHash(transactionHash);
+            ethGetTransactionReceipt.setResult(receipt);
+        }
+        return ethGetTransactionReceipt;
+    }
+}
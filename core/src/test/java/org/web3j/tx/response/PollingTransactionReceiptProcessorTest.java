@@ -13,6 +13,8 @@
 package org.web3j.tx.response;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PollingTransactionReceiptProcessorTest {
@@ -73,10 +77,42 @@ public class PollingTransactionReceiptProcessorTest {
         }
     }
 
+    @Test
+    public void returnsTransactionReceiptAsync() throws Exception {
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        doReturn(requestReturning(response(transactionReceipt)))
+                .when(web3j)
+                .ethGetTransactionReceipt(TRANSACTION_HASH);
+
+        TransactionReceipt receipt =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH).get();
+
+        assertEquals(receipt, (transactionReceipt));
+    }
+
+    @Test
+    public void completesExceptionallyWhenReceiptIsNotAvailableInTimeAsync() throws Exception {
+        Request request = requestReturning(response(null));
+        doReturn(request)
+                .when(web3j)
+                .ethGetTransactionReceipt(TRANSACTION_HASH);
+
+        try {
+            processor.waitForTransactionReceiptAsync(TRANSACTION_HASH).get();
+            fail("call should fail with TransactionException");
+        } catch (ExecutionException e) {
+            TransactionException cause = (TransactionException) e.getCause();
+            assertTrue(cause.getTransactionHash().isPresent());
+            assertEquals(cause.getTransactionHash().get(), TRANSACTION_HASH);
+        }
+        verify(request, times(attempts)).sendAsync();
+    }
+
     private static <T extends Response<?>> Request requestReturning(T response) {
         Request request = mock(Request.class);
         try {
             when(request.send()).thenReturn(response);
+            when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
         } catch (IOException e) {
             // this will never happen
         }
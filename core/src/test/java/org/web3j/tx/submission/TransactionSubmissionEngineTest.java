@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.submission;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.Hash;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.SampleKeys;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.tx.RawTransactionManager;
+import org.web3j.tx.Transfer;
+import org.web3j.tx.nonce.NonceManager;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TransactionSubmissionEngineTest {
+
+    private static final int TRANSACTIONS = 250;
+
+    @Test
+    public void testSubmitsInBatches() throws Exception {
+        AtomicInteger batches = new AtomicInteger();
+        Web3j web3j = Web3j.build(web3jService(batches));
+        NonceManager nonceManager = new NonceManager(web3j);
+        TransactionReceiptProcessor receiptProcessor =
+                new TransactionReceiptProcessor(web3j) {
+                    @Override
+                    public TransactionReceipt waitForTransactionReceipt(String transactionHash) {
+                        TransactionReceipt receipt = new TransactionReceipt();
+                        receipt.setTransactionHash(transactionHash);
+                        return receipt;
+                    }
+
+                    @Override
+                    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+                            String transactionHash) {
+                        return CompletableFuture.completedFuture(
+                                waitForTransactionReceipt(transactionHash));
+                    }
+                };
+
+        List<CompletableFuture<TransactionReceipt>> receipts = new ArrayList<>();
+        try (TransactionSubmissionEngine engine =
+                new TransactionSubmissionEngine(
+                        web3j,
+                        new RawTransactionManager(web3j, SampleKeys.CREDENTIALS),
+                        nonceManager,
+                        receiptProcessor,
+                        4,
+                        10,
+                        10,
+                        20,
+                        40)) {
+
+            for (int i = 0; i < TRANSACTIONS; i++) {
+                receipts.add(engine.submit(TransactionSubmissionEngineTest::transfer));
+            }
+
+            Set<String> transactionHashes = new HashSet<>();
+            for (CompletableFuture<TransactionReceipt> receipt : receipts) {
+                transactionHashes.add(receipt.get().getTransactionHash());
+            }
+
+            assertEquals(transactionHashes.size(), TRANSACTIONS);
+            assertEquals(
+                    nonceManager.getNextNonce(SampleKeys.ADDRESS),
+                    (BigInteger.valueOf(TRANSACTIONS)));
+            assertTrue(batches.get() >= TRANSACTIONS / 20);
+            assertEquals(engine.getSigningStats().getCount(), TRANSACTIONS);
+            assertEquals(engine.getSendingStats().getCount(), TRANSACTIONS);
+            assertEquals(engine.getConfirmationStats().getCount(), TRANSACTIONS);
+        }
+    }
+
+    @Test
+    public void testCloseFailsTransactionsInHand() throws Exception {
+        AtomicInteger batches = new AtomicInteger();
+        Web3j web3j = Web3j.build(web3jService(batches));
+        NonceManager nonceManager = new NonceManager(web3j);
+        TransactionReceiptProcessor receiptProcessor =
+                new TransactionReceiptProcessor(web3j) {
+                    @Override
+                    public TransactionReceipt waitForTransactionReceipt(String transactionHash) {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+                            String transactionHash) {
+                        return new CompletableFuture<>();
+                    }
+                };
+
+        TransactionSubmissionEngine engine =
+                new TransactionSubmissionEngine(
+                        web3j,
+                        new RawTransactionManager(web3j, SampleKeys.CREDENTIALS),
+                        nonceManager,
+                        receiptProcessor,
+                        1,
+                        1,
+                        1,
+                        1,
+                        1);
+
+        // the first transaction holds the only confirmation permit, the second blocks the sending
+        // thread while acquiring one, the third fills the sending queue and the fourth blocks the
+        // signing thread while putting it into the sending queue
+        List<CompletableFuture<TransactionReceipt>> receipts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            receipts.add(engine.submit(TransactionSubmissionEngineTest::transfer));
+        }
+        long deadline = System.currentTimeMillis() + 5000;
+        while (nonceManager.getReservations() < 4 || engine.getSendingQueueSize() < 1) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+
+        engine.close();
+
+        for (CompletableFuture<TransactionReceipt> receipt : receipts.subList(1, 4)) {
+            ExecutionException e =
+                    assertThrows(ExecutionException.class, () -> receipt.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        assertFalse(receipts.get(0).isDone());
+        assertEquals(batches.get(), 1);
+        assertEquals(nonceManager.getReleases(), 3);
+    }
+
+    private static RawTransaction transfer(BigInteger nonce) {
+        return RawTransaction.createEtherTransaction(
+                nonce, BigInteger.ONE, Transfer.GAS_LIMIT, SampleKeys.ADDRESS, BigInteger.TEN);
+    }
+
+    private static Web3jService web3jService(AtomicInteger batches) throws IOException {
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), eq(EthGetTransactionCount.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthGetTransactionCount ethGetTransactionCount =
+                                    new EthGetTransactionCount();
+                            ethGetTransactionCount.setResult("0x0");
+                            return ethGetTransactionCount;
+                        });
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            batches.incrementAndGet();
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                EthSendTransaction response = new EthSendTransaction();
+                                response.setResult(
+                                        Hash.sha3((String) request.getParams().get(0)));
+                                responses.add(response);
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+        return web3jService;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.tx.exceptions.TransactionRevertedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RevertReasonExtractorTest {
+
+    private static final String REVERT_REASON = "execution reverted: not allowed";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private Web3j web3j;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Web3jService web3jService = mock(Web3jService.class);
+        when(web3jService.send(any(Request.class), eq(EthCall.class)))
+                .thenAnswer(invocation -> revertedCall());
+        when(web3jService.sendAsync(any(Request.class), eq(EthCall.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(revertedCall()));
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (int i = 0; i < batchRequest.getRequests().size(); i++) {
+                                responses.add(revertedCall());
+                            }
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(batchRequest.getRequests(), responses));
+                        });
+        web3j = Web3j.build(web3jService);
+    }
+
+    private EthCall revertedCall() {
+        calls.incrementAndGet();
+        EthCall ethCall = new EthCall();
+        ethCall.setError(new Response.Error(3, REVERT_REASON));
+        return ethCall;
+    }
+
+    private static TransactionReceipt createFailedTransactionReceipt() {
+        TransactionReceipt transactionReceipt = new TransactionReceipt();
+        transactionReceipt.setTransactionHash("0xHASH");
+        transactionReceipt.setStatus("0x0");
+        transactionReceipt.setGasUsed("0x1");
+        transactionReceipt.setBlockNumber("0x1");
+        return transactionReceipt;
+    }
+
+    @Test
+    public void testExtractRevertReasonAsync() {
+        List<TransactionReceipt> receipts = new ArrayList<>();
+        List<CompletableFuture<String>> revertReasons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            TransactionReceipt receipt = createFailedTransactionReceipt();
+            receipts.add(receipt);
+            revertReasons.add(
+                    RevertReasonExtractor.extractRevertReasonAsync(receipt, "0x", web3j));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(revertReasons.get(i).join(), (REVERT_REASON));
+            assertEquals(receipts.get(i).getRevertReason(), (REVERT_REASON));
+        }
+        assertEquals(calls.get(), 10);
+
+        // memoized on the receipt
+        RevertReasonExtractor.extractRevertReasonAsync(receipts.get(0), "0x", web3j).join();
+        assertEquals(calls.get(), 10);
+    }
+
+    @Test
+    public void testRevertReasonIsRetrievedLazily() {
+        TransactionRevertedException exception =
+                new TransactionRevertedException(createFailedTransactionReceipt(), "0x", web3j);
+        assertEquals(
+                exception.getMessage(),
+                ("Transaction 0xHASH has failed with status: 0x0. Gas used: 1. "
+                        + "Revert reason not retrieved."));
+        assertEquals(calls.get(), 0);
+
+        assertEquals(exception.getRevertReasonAsync().join(), (REVERT_REASON));
+        assertEquals(exception.getRevertReason(), (REVERT_REASON));
+        assertEquals(
+                exception.getMessage(),
+                ("Transaction 0xHASH has failed with status: 0x0. Gas used: 1. "
+                        + "Revert reason: '"
+                        + REVERT_REASON
+                        + "'."));
+        assertEquals(calls.get(), 1);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.util.Arrays;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * A signed, RLP encoded transaction ready to be sent, together with its hex encoding and its
+ * transaction hash. Both are derived once from the encoded bytes.
+ */
+public class SignedTransaction {
+
+    private final byte[] signedMessage;
+    private final String hexValue;
+    private final String transactionHash;
+
+    public SignedTransaction(byte[] signedMessage) {
+        this.signedMessage = signedMessage;
+        this.hexValue = Numeric.toHexString(signedMessage);
+        this.transactionHash = Numeric.toHexString(Hash.sha3(signedMessage));
+    }
+
+    /** @return the signed, RLP encoded transaction */
+    public byte[] getSignedMessage() {
+        return signedMessage;
+    }
+
+    /** @return the signed transaction as a hex string, as sent via eth_sendRawTransaction */
+    public String getHexValue() {
+        return hexValue;
+    }
+
+    /** @return the hash of the signed transaction */
+    public String getTransactionHash() {
+        return transactionHash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(signedMessage, ((SignedTransaction) o).signedMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(signedMessage);
+    }
+
+    @Override
+    public String toString() {
+        return hexValue;
+    }
+}
@@ -36,4 +36,19 @@ public class TransactionUtilsTest {
                         SampleKeys.CREDENTIALS),
                 ("0x568c7f6920c1cee8332e245c473657b9c53044eb96ed7532f5550f1139861e9e"));
     }
+
+    @Test
+    public void testSignedTransactionHash() {
+        RawTransaction rawTransaction = TransactionEncoderTest.createContractTransaction();
+        SignedTransaction signedTransaction =
+                new SignedTransaction(
+                        TransactionEncoder.signMessage(rawTransaction, SampleKeys.CREDENTIALS));
+
+        assertEquals(
+                signedTransaction.getTransactionHash(),
+                (generateTransactionHashHexEncoded(rawTransaction, SampleKeys.CREDENTIALS)));
+        assertEquals(
+                signedTransaction.getTransactionHash(),
+                (Hash.sha3(signedTransaction.getHexValue())));
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.Arrays;
+
+import org.web3j.crypto.Hash;
+
+/**
+ * 2048-bit Ethereum logs bloom filter, as described in section 4.3.1 of the <a
+ * href="https://ethereum.github.io/yellowpaper/paper.pdf">Yellow Paper</a>.
+ *
+ * <p>The bloom is held as 32 64-bit words, so a membership test against a precomputed mask (see
+ * {@link #forValue(byte[])}) is a handful of bitwise operations with no allocation.
+ */
+public final class Bloom {
+
+    public static final int BYTES_LENGTH = 256;
+
+    private static final int WORDS_LENGTH = BYTES_LENGTH / Long.BYTES;
+    private static final int BIT_INDEX_MASK = BYTES_LENGTH * Byte.SIZE - 1;
+
+    // words[0] holds the least significant 64 bits of the bloom
+    private final long[] words;
+
+    private Bloom(long[] words) {
+        this.words = words;
+    }
+
+    public static Bloom empty() {
+        return new Bloom(new long[WORDS_LENGTH]);
+    }
+
+    public static Bloom fromHex(String logsBloom) {
+        return fromBytes(Numeric.hexStringToByteArray(logsBloom));
+    }
+
+    public static Bloom fromBytes(byte[] logsBloom) {
+        if (logsBloom.length != BYTES_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Bloom must be " + BYTES_LENGTH + " bytes, was " + logsBloom.length);
+        }
+
+        long[] words = new long[WORDS_LENGTH];
+        for (int i = 0; i < WORDS_LENGTH; i++) {
+            int offset = BYTES_LENGTH - (i + 1) * Long.BYTES;
+            long word = 0;
+            for (int j = 0; j < Long.BYTES; j++) {
+                word = (word << Byte.SIZE) | (logsBloom[offset + j] & 0xFF);
+            }
+            words[i] = word;
+        }
+        return new Bloom(words);
+    }
+
+    /**
+     * Create a bloom with only the three bits of the given value set. The result can be used as a
+     * mask with {@link #mightContain(Bloom)}.
+     *
+     * @param value raw address or topic bytes
+     * @return bloom for the single value
+     */
+    public static Bloom forValue(byte[] value) {
+        long[] words = new long[WORDS_LENGTH];
+        setBits(words, value);
+        return new Bloom(words);
+    }
+
+    public static Bloom forValue(String hexValue) {
+        return forValue(Numeric.hexStringToByteArray(hexValue));
+    }
+
+    private static void setBits(long[] words, byte[] value) {
+        byte[] hash = Hash.sha3(value);
+        for (int i = 0; i < 6; i += 2) {
+            int bit = (((hash[i] & 0xFF) << Byte.SIZE) | (hash[i + 1] & 0xFF)) & BIT_INDEX_MASK;
+            words[bit >>> 6] |= 1L << (bit & 63);
+        }
+    }
+
+    /**
+     * Return a new bloom with the bits of this bloom and the given value set.
+     *
+     * @param value raw address or topic bytes
+     * @return the combined bloom
+     */
+    public Bloom add(byte[] value) {
+        long[] result = words.clone();
+        setBits(result, value);
+        return new Bloom(result);
+    }
+
+    public Bloom or(Bloom other) {
+        long[] result = new long[WORDS_LENGTH];
+        for (int i = 0; i < WORDS_LENGTH; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new Bloom(result);
+    }
+
+    /**
+     * Tests whether every bit set in the given mask is also set in this bloom. A {@code false}
+     * result means none of the values the mask was built from can be present.
+     *
+     * @param mask bloom built from the values to test for
+     * @return true if the values may be present
+     */
+    public boolean mightContain(Bloom mask) {
+        for (int i = 0; i < WORDS_LENGTH; i++) {
+            if ((words[i] & mask.words[i]) != mask.words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean mightContain(byte[] value) {
+        return mightContain(forValue(value));
+    }
+
+    public boolean mightContainAddress(String address) {
+        return mightContain(forValue(address));
+    }
+
+    public boolean mightContainTopic(String topic) {
+        return mightContain(forValue(topic));
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public byte[] toBytes() {
+        byte[] result = new byte[BYTES_LENGTH];
+        for (int i = 0; i < WORDS_LENGTH; i++) {
+            int offset = BYTES_LENGTH - (i + 1) * Long.BYTES;
+            long word = words[i];
+            for (int j = Long.BYTES - 1; j >= 0; j--) {
+                result[offset + j] = (byte) word;
+                word >>>= Byte.SIZE;
+            }
+        }
+        return result;
+    }
+
+    public String toHex() {
+        return Numeric.toHexString(toBytes());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Bloom)) {
+            return false;
+        }
+        return Arrays.equals(words, ((Bloom) o).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return toHex();
+    }
+}
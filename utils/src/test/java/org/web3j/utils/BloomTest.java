@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomTest {
+
+    private static final String ADDRESS = "0x52bc44d5378309ee2abf1539bf71de1b7d7be3b5";
+    private static final String TOPIC =
+            "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+
+    @Test
+    public void testForValue() {
+        // keccak256("") = 0xc5d2460186f7233c...
+        byte[] expected = new byte[Bloom.BYTES_LENGTH];
+        expected[Bloom.BYTES_LENGTH - 1 - 0x5d2 / 8] = 1 << (0x5d2 % 8);
+        expected[Bloom.BYTES_LENGTH - 1 - 0x601 / 8] = 1 << (0x601 % 8);
+        expected[Bloom.BYTES_LENGTH - 1 - 0x6f7 / 8] = (byte) (1 << (0x6f7 % 8));
+
+        assertArrayEquals(Bloom.forValue(new byte[] {}).toBytes(), expected);
+    }
+
+    @Test
+    public void testHexRoundTrip() {
+        Bloom bloom = Bloom.forValue(ADDRESS).add(Numeric.hexStringToByteArray(TOPIC));
+
+        assertEquals(Bloom.fromHex(bloom.toHex()), bloom);
+        assertEquals(bloom.toHex().length(), 2 + Bloom.BYTES_LENGTH * 2);
+    }
+
+    @Test
+    public void testMightContain() {
+        Bloom bloom = Bloom.forValue(ADDRESS).or(Bloom.forValue(TOPIC));
+
+        assertTrue(bloom.mightContainAddress(ADDRESS));
+        assertTrue(bloom.mightContainTopic(TOPIC));
+        assertFalse(bloom.mightContainAddress("0x0000000000000000000000000000000000000001"));
+        assertFalse(Bloom.empty().mightContainAddress(ADDRESS));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(Bloom.empty().isEmpty());
+        assertTrue(Bloom.fromBytes(new byte[Bloom.BYTES_LENGTH]).isEmpty());
+        assertFalse(Bloom.forValue(ADDRESS).isEmpty());
+    }
+
+    @Test
+    public void testInvalidLength() {
+        assertThrows(IllegalArgumentException.class, () -> Bloom.fromHex("0x1234"));
+    }
+}